@@ -2,6 +2,8 @@ package pro.taskana.adapter.camunda;
 
 import java.io.FileInputStream;
 import java.io.InputStream;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
 import java.util.Properties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,12 +27,28 @@ public class CamundaListenerConfiguration {
       "taskana.adapter.outbox.datasource.password";
   private static final String TASKANA_ADAPTER_OUTBOX_INITIAL_NUMBER_OF_TASK_CREATION_RETRIES =
       "taskana.adapter.outbox.initial.number.of.task.creation.retries";
+  private static final String TASKANA_ADAPTER_OUTBOX_ASYNC_WRITER_ENABLED =
+      "taskana.adapter.outbox.async.writer.enabled";
+  private static final String TASKANA_ADAPTER_OUTBOX_ASYNC_WRITER_BUFFER_SIZE =
+      "taskana.adapter.outbox.async.writer.buffer.size";
+  private static final String TASKANA_ADAPTER_OUTBOX_ASYNC_WRITER_BATCH_SIZE =
+      "taskana.adapter.outbox.async.writer.batch.size";
+  private static final String TASKANA_ADAPTER_OUTBOX_ASYNC_WRITER_MAX_LINGER =
+      "taskana.adapter.outbox.async.writer.max.linger";
+  private static final String TASKANA_ADAPTER_OUTBOX_PAYLOAD_COMPRESSION_ENABLED =
+      "taskana.adapter.outbox.payload.compression.enabled";
+  private static final String TASKANA_ADAPTER_OUTBOX_PAYLOAD_COMPRESSION_MIN_SIZE =
+      "taskana.adapter.outbox.payload.compression.min.size";
   private static final String OUTBOX_SYSTEM_PROPERTY = "taskana.outbox.properties";
   private static final String OUTBOX_SCHEMA_DEFAULT = "taskana_tables";
   private static final String EXCEPTION_FOR_FAULTY_PROCESS_VARIABLES =
       "taskana.listener.process.variables.exception";
   private static final boolean CREATE_OUTBOX_SCHEMA_DEFAULT = true;
   private static final int INITIAL_NUMBER_OF_TASK_CREATION_RETRIES_DEFAULT = 5;
+  private static final int PAYLOAD_COMPRESSION_MIN_SIZE_DEFAULT = 1024;
+  private static final int ASYNC_WRITER_BUFFER_SIZE_DEFAULT = 10000;
+  private static final int ASYNC_WRITER_BATCH_SIZE_DEFAULT = 100;
+  private static final Duration ASYNC_WRITER_MAX_LINGER_DEFAULT = Duration.ofMillis(100);
   private static final Logger LOGGER = LoggerFactory.getLogger(CamundaListenerConfiguration.class);
   private final Properties outboxProperties = new Properties();
 
@@ -144,6 +162,101 @@ public class CamundaListenerConfiguration {
     return initialNumberOfTaskCreationRetries;
   }
 
+  public static boolean getPayloadCompressionEnabled() {
+    return Boolean.parseBoolean(
+        getInstance()
+            .outboxProperties
+            .getProperty(TASKANA_ADAPTER_OUTBOX_PAYLOAD_COMPRESSION_ENABLED));
+  }
+
+  public static int getPayloadCompressionMinSize() {
+
+    String minSizeProperty =
+        getInstance()
+            .outboxProperties
+            .getProperty(TASKANA_ADAPTER_OUTBOX_PAYLOAD_COMPRESSION_MIN_SIZE);
+
+    if (minSizeProperty == null || minSizeProperty.isEmpty()) {
+      return PAYLOAD_COMPRESSION_MIN_SIZE_DEFAULT;
+    }
+
+    try {
+      return Math.max(0, Integer.parseInt(minSizeProperty.trim()));
+    } catch (NumberFormatException e) {
+      LOGGER.warn(
+          String.format(
+              "Attempted to retrieve property %s and caught Exception. Setting default to %d",
+              TASKANA_ADAPTER_OUTBOX_PAYLOAD_COMPRESSION_MIN_SIZE,
+              PAYLOAD_COMPRESSION_MIN_SIZE_DEFAULT),
+          e);
+      return PAYLOAD_COMPRESSION_MIN_SIZE_DEFAULT;
+    }
+  }
+
+  public static boolean getAsyncOutboxWriterEnabled() {
+    return Boolean.parseBoolean(
+        getInstance().outboxProperties.getProperty(TASKANA_ADAPTER_OUTBOX_ASYNC_WRITER_ENABLED));
+  }
+
+  public static int getAsyncOutboxWriterBufferSize() {
+    return getPositiveIntProperty(
+        TASKANA_ADAPTER_OUTBOX_ASYNC_WRITER_BUFFER_SIZE, ASYNC_WRITER_BUFFER_SIZE_DEFAULT);
+  }
+
+  public static int getAsyncOutboxWriterBatchSize() {
+    return getPositiveIntProperty(
+        TASKANA_ADAPTER_OUTBOX_ASYNC_WRITER_BATCH_SIZE, ASYNC_WRITER_BATCH_SIZE_DEFAULT);
+  }
+
+  public static Duration getAsyncOutboxWriterMaxLinger() {
+
+    String maxLingerProperty =
+        getInstance().outboxProperties.getProperty(TASKANA_ADAPTER_OUTBOX_ASYNC_WRITER_MAX_LINGER);
+
+    if (maxLingerProperty == null || maxLingerProperty.isEmpty()) {
+      return ASYNC_WRITER_MAX_LINGER_DEFAULT;
+    }
+
+    try {
+      return Duration.parse(maxLingerProperty);
+    } catch (DateTimeParseException e) {
+      LOGGER.warn(
+          String.format(
+              "Attempted to retrieve property %s and caught Exception. Setting default to %s",
+              TASKANA_ADAPTER_OUTBOX_ASYNC_WRITER_MAX_LINGER, ASYNC_WRITER_MAX_LINGER_DEFAULT),
+          e);
+      return ASYNC_WRITER_MAX_LINGER_DEFAULT;
+    }
+  }
+
+  private static int getPositiveIntProperty(String propertyName, int defaultValue) {
+
+    String property = getInstance().outboxProperties.getProperty(propertyName);
+
+    if (property == null || property.isEmpty()) {
+      return defaultValue;
+    }
+
+    try {
+      int value = Integer.parseInt(property.trim());
+      if (value > 0) {
+        return value;
+      }
+      LOGGER.warn(
+          String.format(
+              "Property %s must be positive but is %d. Setting default to %d",
+              propertyName, value, defaultValue));
+    } catch (NumberFormatException e) {
+      LOGGER.warn(
+          String.format(
+              "Attempted to retrieve property %s and caught Exception. Setting default to %d",
+              propertyName, defaultValue),
+          e);
+    }
+
+    return defaultValue;
+  }
+
   private void readPropertiesFromClasspath() {
 
     try (InputStream propertiesStream =
@@ -1,8 +1,10 @@
 package pro.taskana.adapter.camunda.parselistener;
 
+import java.util.List;
 import org.camunda.bpm.engine.delegate.TaskListener;
 import org.camunda.bpm.engine.impl.bpmn.behavior.UserTaskActivityBehavior;
 import org.camunda.bpm.engine.impl.bpmn.parser.AbstractBpmnParseListener;
+import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.camunda.bpm.engine.impl.pvm.delegate.ActivityBehavior;
 import org.camunda.bpm.engine.impl.pvm.process.ActivityImpl;
 import org.camunda.bpm.engine.impl.pvm.process.ScopeImpl;
@@ -10,6 +12,7 @@ import org.camunda.bpm.engine.impl.task.TaskDefinition;
 import org.camunda.bpm.engine.impl.util.xml.Element;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import pro.taskana.adapter.camunda.tasklistener.TaskanaExtensionProperties;
 import pro.taskana.adapter.camunda.tasklistener.TaskanaTaskListener;
 
 /** This class is responsible for adding the TaskanaTaskListener to all user tasks. */
@@ -32,9 +35,20 @@ public class TaskanaParseListener extends AbstractBpmnParseListener {
 
       TaskDefinition userTask = ((UserTaskActivityBehavior) behavior).getTaskDefinition();
 
+      TaskanaExtensionProperties.parseUserTaskProperties(userTaskElement, activity);
+
       userTask.addTaskListener(TaskListener.EVENTNAME_CREATE, TaskanaTaskListener.getInstance());
       userTask.addTaskListener(TaskListener.EVENTNAME_COMPLETE, TaskanaTaskListener.getInstance());
       userTask.addTaskListener(TaskListener.EVENTNAME_DELETE, TaskanaTaskListener.getInstance());
     }
   }
+
+  @Override
+  public void parseRootElement(
+      Element rootElement, List<ProcessDefinitionEntity> processDefinitions) {
+
+    for (ProcessDefinitionEntity processDefinition : processDefinitions) {
+      TaskanaExtensionProperties.parseProcessModelProperties(rootElement, processDefinition);
+    }
+  }
 }
@@ -9,15 +9,20 @@ import javax.naming.InitialContext;
 import javax.naming.NamingException;
 import javax.sql.DataSource;
 import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.impl.bpmn.parser.BpmnParseListener;
 import org.camunda.bpm.engine.impl.cfg.AbstractProcessEnginePlugin;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.interceptor.SessionFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.taskana.adapter.camunda.CamundaListenerConfiguration;
 import pro.taskana.adapter.camunda.exceptions.SystemException;
 import pro.taskana.adapter.camunda.schemacreator.DB;
 import pro.taskana.adapter.camunda.schemacreator.TaskanaOutboxSchemaCreator;
+import pro.taskana.adapter.camunda.tasklistener.TaskanaOutboxAsyncWriter;
+import pro.taskana.adapter.camunda.tasklistener.TaskanaOutboxSessionFactory;
+import pro.taskana.adapter.camunda.tasklistener.TaskanaOutboxSettings;
 
 /**
  * Camunda engine plugin responsible for adding the TaskanaParseListener to the
@@ -25,15 +30,38 @@ import pro.taskana.adapter.camunda.schemacreator.TaskanaOutboxSchemaCreator;
  */
 public class TaskanaParseListenerProcessEnginePlugin extends AbstractProcessEnginePlugin {
 
-  private static final String OUTBOX_SCHEMA_VERSION = "1.11.0";
+  private static final String OUTBOX_SCHEMA_VERSION = "3.1.1";
   private static final Logger LOGGER =
       LoggerFactory.getLogger(TaskanaParseListenerProcessEnginePlugin.class);
 
+  private TaskanaOutboxAsyncWriter asyncWriter;
+
   @Override
   public void preInit(ProcessEngineConfigurationImpl processEngineConfiguration) {
 
     initParseListeners(processEngineConfiguration);
-    initOutbox(processEngineConfiguration);
+    DataSource camundaDataSource = retrieveCamundaDatasource(processEngineConfiguration);
+    TaskanaOutboxSettings outboxSettings = initOutbox(camundaDataSource);
+    initOutboxSessionFactory(processEngineConfiguration, camundaDataSource, outboxSettings);
+  }
+
+  @Override
+  public void postInit(ProcessEngineConfigurationImpl processEngineConfiguration) {
+
+    if (asyncWriter != null) {
+      // the process engine closes itself with a schema operation
+      processEngineConfiguration.setCommandExecutorSchemaOperations(
+          asyncWriter.stopOnProcessEngineClose(
+              processEngineConfiguration.getCommandExecutorSchemaOperations()));
+    }
+  }
+
+  @Override
+  public void postProcessEngineBuild(ProcessEngine processEngine) {
+
+    if (asyncWriter != null) {
+      asyncWriter.start();
+    }
   }
 
   private void initParseListeners(ProcessEngineConfigurationImpl processEngineConfiguration) {
@@ -61,18 +89,46 @@ public class TaskanaParseListenerProcessEnginePlugin extends AbstractProcessEngi
     }
   }
 
-  private void initOutbox(ProcessEngineConfigurationImpl processEngineConfiguration) {
+  private void initOutboxSessionFactory(
+      ProcessEngineConfigurationImpl processEngineConfiguration,
+      DataSource camundaDataSource,
+      TaskanaOutboxSettings outboxSettings) {
+
+    asyncWriter = null;
+    if (CamundaListenerConfiguration.getAsyncOutboxWriterEnabled()) {
+      asyncWriter =
+          new TaskanaOutboxAsyncWriter(
+              camundaDataSource,
+              outboxSettings,
+              CamundaListenerConfiguration.getAsyncOutboxWriterBufferSize(),
+              CamundaListenerConfiguration.getAsyncOutboxWriterBatchSize(),
+              CamundaListenerConfiguration.getAsyncOutboxWriterMaxLinger());
+    }
 
-    DataSource camundaDataSource = retrieveCamundaDatasource(processEngineConfiguration);
+    List<SessionFactory> customSessionFactories =
+        processEngineConfiguration.getCustomSessionFactories();
 
-    createSchema(camundaDataSource);
+    if (customSessionFactories == null) {
+      customSessionFactories = new ArrayList<>();
+      processEngineConfiguration.setCustomSessionFactories(customSessionFactories);
+    }
+    customSessionFactories.add(new TaskanaOutboxSessionFactory(outboxSettings, asyncWriter));
 
-    LOGGER.info("TaskanaOutbox initialized successfully");
+    LOGGER.debug("TaskanaOutboxSessionFactory registered successfully");
   }
 
-  private void createSchema(DataSource camundaDataSource) {
+  private TaskanaOutboxSettings initOutbox(DataSource camundaDataSource) {
+
+    TaskanaOutboxSettings outboxSettings = initOutboxSettings(camundaDataSource);
 
-    String outboxSchema = initSchemaName(camundaDataSource);
+    createSchema(camundaDataSource, outboxSettings.getOutboxSchemaName());
+
+    LOGGER.info("TaskanaOutbox initialized successfully with {}", outboxSettings);
+
+    return outboxSettings;
+  }
+
+  private void createSchema(DataSource camundaDataSource, String outboxSchema) {
 
     TaskanaOutboxSchemaCreator schemaCreator =
         new TaskanaOutboxSchemaCreator(camundaDataSource, outboxSchema);
@@ -112,12 +168,13 @@ public class TaskanaParseListenerProcessEnginePlugin extends AbstractProcessEngi
     }
   }
 
-  private String initSchemaName(DataSource dataSource) {
+  private TaskanaOutboxSettings initOutboxSettings(DataSource dataSource) {
 
     String outboxSchema = CamundaListenerConfiguration.getOutboxSchema();
+    String databaseProductName = null;
 
     try (Connection connection = dataSource.getConnection()) {
-      String databaseProductName = connection.getMetaData().getDatabaseProductName();
+      databaseProductName = connection.getMetaData().getDatabaseProductName();
       if (DB.isPostgreSql(databaseProductName)) {
         outboxSchema = outboxSchema.toLowerCase();
       } else {
@@ -129,7 +186,16 @@ public class TaskanaParseListenerProcessEnginePlugin extends AbstractProcessEngi
 
     LOGGER.debug("Using schema name {}", outboxSchema);
 
-    return outboxSchema;
+    Integer payloadCompressionMinSize =
+        CamundaListenerConfiguration.getPayloadCompressionEnabled()
+            ? CamundaListenerConfiguration.getPayloadCompressionMinSize()
+            : null;
+
+    return new TaskanaOutboxSettings(
+        databaseProductName,
+        outboxSchema,
+        CamundaListenerConfiguration.getInitialNumberOfTaskCreationRetries(),
+        payloadCompressionMinSize);
   }
 
   private DataSource retrieveCamundaDatasource(
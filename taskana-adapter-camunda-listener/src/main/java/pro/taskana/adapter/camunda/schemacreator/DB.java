@@ -6,7 +6,8 @@ import pro.taskana.adapter.camunda.exceptions.UnsupportedDatabaseException;
 public enum DB {
   H2("H2", "h2"),
   DB2("DB2", "db2"),
-  POSTGRESS("PostgreSQL", "postgres");
+  POSTGRESS("PostgreSQL", "postgres"),
+  ORACLE("Oracle", "oracle");
 
   public final String dbProductname;
   public final String dbProductId;
@@ -28,6 +29,10 @@ public enum DB {
     return POSTGRESS.dbProductname.equals(dbProductName);
   }
 
+  public static boolean isOracle(String dbProductName) {
+    return dbProductName != null && dbProductName.contains(ORACLE.dbProductname);
+  }
+
   public static String getDatabaseProductId(String dbProductName) {
 
     if (isDb2(dbProductName)) {
@@ -36,6 +41,8 @@ public enum DB {
       return H2.dbProductId;
     } else if (isPostgreSql(dbProductName)) {
       return POSTGRESS.dbProductId;
+    } else if (isOracle(dbProductName)) {
+      return ORACLE.dbProductId;
     } else {
       throw new UnsupportedDatabaseException(dbProductName);
     }
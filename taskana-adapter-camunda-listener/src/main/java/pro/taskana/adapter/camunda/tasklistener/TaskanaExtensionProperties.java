@@ -0,0 +1,124 @@
+package pro.taskana.adapter.camunda.tasklistener;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.camunda.bpm.engine.impl.bpmn.parser.BpmnParse;
+import org.camunda.bpm.engine.impl.bpmn.parser.BpmnParseUtil;
+import org.camunda.bpm.engine.impl.core.model.CoreModelElement;
+import org.camunda.bpm.engine.impl.util.xml.Element;
+import org.camunda.bpm.engine.impl.util.xml.Namespace;
+
+/**
+ * The TASKANA extension properties of a process model or of one of its user tasks. They are
+ * resolved while the model is parsed and stored with the parsed process definition, so they are
+ * cached per process definition and user task and evicted together with the process definition.
+ */
+public final class TaskanaExtensionProperties {
+
+  private static final String PROPERTY_NAME = "taskanaExtensionProperties";
+  private static final String TASKANA_PROPERTY_PREFIX = "taskana";
+  private static final String TASKANA_ATTRIBUTES = "taskana-attributes";
+  private static final TaskanaExtensionProperties EMPTY =
+      new TaskanaExtensionProperties(Collections.emptyMap());
+
+  private final Map<String, String> properties;
+  private final List<String> attributeNames;
+
+  private TaskanaExtensionProperties(Map<String, String> properties) {
+    this.properties = Collections.unmodifiableMap(properties);
+    this.attributeNames = splitAttributeNames(properties.get(TASKANA_ATTRIBUTES));
+  }
+
+  public static void parseUserTaskProperties(Element userTaskElement, CoreModelElement userTask) {
+
+    Map<String, String> properties = new HashMap<>();
+
+    Element propertiesElement =
+        BpmnParseUtil.findCamundaExtensionElement(userTaskElement, "properties");
+    if (propertiesElement != null) {
+      for (Element propertyElement : propertiesElement.elements()) {
+        addProperty(properties, propertyElement);
+      }
+    }
+
+    userTask.setProperty(PROPERTY_NAME, new TaskanaExtensionProperties(properties));
+  }
+
+  public static void parseProcessModelProperties(
+      Element rootElement, CoreModelElement processDefinition) {
+
+    Map<String, String> properties = new HashMap<>();
+    collectPropertiesOfModel(rootElement, properties);
+
+    processDefinition.setProperty(PROPERTY_NAME, new TaskanaExtensionProperties(properties));
+  }
+
+  public static TaskanaExtensionProperties of(CoreModelElement modelElement) {
+
+    if (modelElement == null) {
+      return EMPTY;
+    }
+
+    Object extensionProperties = modelElement.getProperty(PROPERTY_NAME);
+
+    return extensionProperties instanceof TaskanaExtensionProperties
+        ? (TaskanaExtensionProperties) extensionProperties
+        : EMPTY;
+  }
+
+  public String getProperty(String propertyKey) {
+    return properties.get(propertyKey);
+  }
+
+  /**
+   * Returns the names of the variables listed in the taskana-attributes property.
+   *
+   * @return the names of the variables, or null if there is no taskana-attributes property
+   */
+  public List<String> getAttributeNames() {
+    return attributeNames;
+  }
+
+  // like the model API, the whole model is searched and the first property of a name wins
+  private static void collectPropertiesOfModel(Element element, Map<String, String> properties) {
+
+    for (Element childElement : element.elements()) {
+      addProperty(properties, childElement);
+      collectPropertiesOfModel(childElement, properties);
+    }
+  }
+
+  private static void addProperty(Map<String, String> properties, Element element) {
+
+    if (!"property".equals(element.getTagName()) || !isCamundaElement(element)) {
+      return;
+    }
+
+    String name = element.attribute("name");
+    if (name != null && name.startsWith(TASKANA_PROPERTY_PREFIX)) {
+      properties.putIfAbsent(name, element.attribute("value"));
+    }
+  }
+
+  private static boolean isCamundaElement(Element element) {
+
+    Namespace camundaNamespace = BpmnParse.CAMUNDA_BPMN_EXTENSIONS_NS;
+
+    return camundaNamespace.getNamespaceUri().equals(element.getUri())
+        || (camundaNamespace.hasAlternativeUri()
+            && camundaNamespace.getAlternativeUri().equals(element.getUri()));
+  }
+
+  private static List<String> splitAttributeNames(String attributeNamesConcatenated) {
+
+    if (attributeNamesConcatenated == null) {
+      return null;
+    }
+
+    return Collections.unmodifiableList(
+        Arrays.asList(attributeNamesConcatenated.trim().split("\\s*,\\s*")));
+  }
+}
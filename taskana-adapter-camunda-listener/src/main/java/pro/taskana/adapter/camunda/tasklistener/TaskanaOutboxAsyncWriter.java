@@ -0,0 +1,257 @@
+package pro.taskana.adapter.camunda.tasklistener;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pro.taskana.adapter.camunda.tasklistener.TaskanaOutboxSession.OutboxEvent;
+
+/**
+ * Writes outbox events asynchronously. The TaskanaOutboxSession hands the events of a camunda
+ * command to this writer after the transaction of the command has been committed; the events of a
+ * rolled back command are dropped. The events are buffered in a bounded queue which a dedicated
+ * thread drains in batches of up to the configured batch size, waiting at most the configured
+ * linger time for a batch to fill up.
+ *
+ * <p>In contrast to the default mode the events are not written in the same transaction as the
+ * change of the engine. The guarantees are:
+ *
+ * <ul>
+ *   <li>An event is only written if the change of the engine was committed.
+ *   <li>An event becomes visible in the outbox with a delay, normally not longer than the linger
+ *       time plus the time to write one batch.
+ *   <li>The events are written in the order in which they were handed to the writer. If the
+ *       buffer is full, the committing thread waits until the writer has made room, so no event
+ *       is dropped or overtakes buffered events and the memory stays bounded.
+ *   <li>If writing a batch fails, it is retried until it succeeds or the writer is stopped.
+ *   <li>The writer is stopped when the process engine is closed. Buffered events are written then,
+ *       and events that are committed afterwards are written by the committing thread. Buffered
+ *       events are lost if the JVM terminates before the process engine is closed.
+ * </ul>
+ */
+public class TaskanaOutboxAsyncWriter {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskanaOutboxAsyncWriter.class);
+  private static final long RETRY_PAUSE_MILLIS = 1000;
+  private static final long OFFER_TIMEOUT_MILLIS = 100;
+  // the command isn't public, so it is only known by its name
+  private static final String PROCESS_ENGINE_CLOSE_COMMAND =
+      "org.camunda.bpm.engine.impl.SchemaOperationProcessEngineClose";
+  private static final long SHUTDOWN_TIMEOUT_MILLIS = 10000;
+
+  private final DataSource dataSource;
+  private final TaskanaOutboxSettings settings;
+  private final BlockingQueue<OutboxEvent> buffer;
+  private final int batchSize;
+  private final long maxLingerNanos;
+  private final Thread writerThread;
+  private final CountDownLatch stopped = new CountDownLatch(1);
+  private volatile boolean running = true;
+
+  public TaskanaOutboxAsyncWriter(
+      DataSource dataSource,
+      TaskanaOutboxSettings settings,
+      int bufferSize,
+      int batchSize,
+      Duration maxLinger) {
+    this.dataSource = dataSource;
+    this.settings = settings;
+    this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    this.batchSize = batchSize;
+    this.maxLingerNanos = maxLinger.toNanos();
+    this.writerThread = new Thread(this::drainBuffer, "taskana-outbox-writer");
+    this.writerThread.setDaemon(true);
+  }
+
+  public void start() {
+
+    writerThread.start();
+
+    LOGGER.info(
+        "Started asynchronous outbox writer with a buffer of {} events, "
+            + "batches of up to {} events and a max linger time of {} ms",
+        buffer.remainingCapacity(),
+        batchSize,
+        TimeUnit.NANOSECONDS.toMillis(maxLingerNanos));
+  }
+
+  public void stop() {
+
+    if (!running) {
+      return;
+    }
+    running = false;
+    stopped.countDown();
+    writerThread.interrupt();
+
+    try {
+      writerThread.join(SHUTDOWN_TIMEOUT_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    writeAfterStop(Collections.emptyList());
+  }
+
+  /**
+   * Decorates the executor of the schema operations of the process engine, so that the writer is
+   * stopped when the process engine is closed, before its schema might be dropped.
+   *
+   * @param schemaOperations the executor of the schema operations of the process engine
+   * @return the decorated executor
+   */
+  public CommandExecutor stopOnProcessEngineClose(CommandExecutor schemaOperations) {
+    return new CommandExecutor() {
+      @Override
+      public <T> T execute(Command<T> command) {
+        if (PROCESS_ENGINE_CLOSE_COMMAND.equals(command.getClass().getName())) {
+          stop();
+        }
+        return schemaOperations.execute(command);
+      }
+    };
+  }
+
+  void enqueue(List<OutboxEvent> events) {
+
+    int enqueued = 0;
+    boolean interrupted = false;
+
+    while (running && enqueued < events.size()) {
+      try {
+        // waits while the buffer is full, so that the events can't overtake the buffered ones
+        if (buffer.offer(events.get(enqueued), OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+          enqueued++;
+        }
+      } catch (InterruptedException e) {
+        // the events were committed already, so they have to be written anyway
+        interrupted = true;
+      }
+    }
+
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+
+    // the writer might have been stopped before it could take the events
+    if (!running) {
+      writeAfterStop(events.subList(enqueued, events.size()));
+    }
+  }
+
+  private void writeAfterStop(List<OutboxEvent> events) {
+
+    // the buffered events are older than the given ones, so they are written first
+    synchronized (buffer) {
+      List<OutboxEvent> remainingEvents = new ArrayList<>();
+      buffer.drainTo(remainingEvents);
+      remainingEvents.addAll(events);
+      if (!remainingEvents.isEmpty()) {
+        writeOrLog(remainingEvents);
+      }
+    }
+  }
+
+  private void drainBuffer() {
+
+    List<OutboxEvent> batch = new ArrayList<>(batchSize);
+
+    try {
+      while (running) {
+        batch.add(buffer.take());
+        collectBatch(batch);
+        writeWithRetries(batch);
+        batch.clear();
+      }
+    } catch (InterruptedException e) {
+      // the writer was stopped. The thread ends anyway, and keeping it interrupted would let
+      // connection pools refuse the connection to write the remaining batch
+      LOGGER.debug("Outbox writer was stopped");
+    } finally {
+      if (!batch.isEmpty()) {
+        writeOrLog(batch);
+      }
+    }
+  }
+
+  private void collectBatch(List<OutboxEvent> batch) throws InterruptedException {
+
+    long deadline = System.nanoTime() + maxLingerNanos;
+
+    while (batch.size() < batchSize) {
+      buffer.drainTo(batch, batchSize - batch.size());
+      long remainingNanos = deadline - System.nanoTime();
+      if (batch.size() >= batchSize || remainingNanos <= 0) {
+        return;
+      }
+      OutboxEvent event = buffer.poll(remainingNanos, TimeUnit.NANOSECONDS);
+      if (event == null) {
+        return;
+      }
+      batch.add(event);
+    }
+  }
+
+  private void writeWithRetries(List<OutboxEvent> batch) throws InterruptedException {
+
+    while (true) {
+      try {
+        write(batch);
+        return;
+      } catch (SQLException e) {
+        if (!running) {
+          throw new InterruptedException("Outbox writer was stopped while retrying a batch");
+        }
+        LOGGER.warn(
+            "Caught exception while writing {} events into the outbox, retrying in {} ms",
+            batch.size(),
+            RETRY_PAUSE_MILLIS,
+            e);
+        // the pause ends early if the writer is stopped meanwhile
+        if (stopped.await(RETRY_PAUSE_MILLIS, TimeUnit.MILLISECONDS)) {
+          throw new InterruptedException("Outbox writer was stopped while retrying a batch");
+        }
+      }
+    }
+  }
+
+  private void writeOrLog(List<OutboxEvent> events) {
+    try {
+      write(events);
+    } catch (SQLException e) {
+      LOGGER.error("Caught exception while writing {} events into the outbox", events.size(), e);
+    }
+  }
+
+  private void write(List<OutboxEvent> events) throws SQLException {
+
+    try (Connection connection = dataSource.getConnection()) {
+
+      boolean autoCommit = connection.getAutoCommit();
+      connection.setAutoCommit(false);
+
+      try {
+        TaskanaOutboxSession.insertEvents(connection, settings, events);
+        connection.commit();
+      } catch (SQLException e) {
+        connection.rollback();
+        throw e;
+      } finally {
+        connection.setAutoCommit(autoCommit);
+      }
+    }
+
+    LOGGER.debug("Inserted {} events into the TaskanaOutbox asynchronously", events.size());
+  }
+}
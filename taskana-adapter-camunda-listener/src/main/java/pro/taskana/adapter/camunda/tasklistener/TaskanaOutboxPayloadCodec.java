@@ -0,0 +1,33 @@
+package pro.taskana.adapter.camunda.tasklistener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+import pro.taskana.adapter.camunda.exceptions.SystemException;
+
+/**
+ * Compresses the payload of outbox events. A compressed payload is stored gzipped and base64
+ * encoded in the PAYLOAD column, and the PAYLOAD_ENCODING column tells the readers of the outbox
+ * how to decode it. Payloads without an encoding are plain JSON.
+ */
+final class TaskanaOutboxPayloadCodec {
+
+  static final String GZIP_BASE64 = "gzip-base64";
+
+  private TaskanaOutboxPayloadCodec() {}
+
+  static String compress(String payload) {
+
+    ByteArrayOutputStream compressedPayload = new ByteArrayOutputStream(payload.length() / 4);
+
+    try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressedPayload)) {
+      gzipOutputStream.write(payload.getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new SystemException("Exception while trying to compress an outbox payload", e);
+    }
+
+    return Base64.getEncoder().encodeToString(compressedPayload.toByteArray());
+  }
+}
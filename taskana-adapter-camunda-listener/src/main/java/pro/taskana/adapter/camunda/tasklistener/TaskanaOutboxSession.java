@@ -0,0 +1,147 @@
+package pro.taskana.adapter.camunda.tasklistener;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.camunda.bpm.engine.impl.cfg.TransactionState;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.db.sql.DbSqlSession;
+import org.camunda.bpm.engine.impl.interceptor.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pro.taskana.adapter.camunda.exceptions.SystemException;
+
+/**
+ * Collects the outbox events of one camunda command. The events are written with one JDBC batch
+ * when the command flushes its sessions, using the connection of the engine's own transaction. This
+ * way the events are only stored if the change of the engine is committed as well. If the
+ * TaskanaOutboxAsyncWriter is enabled, the events are handed to it once the transaction has been
+ * committed instead.
+ */
+public class TaskanaOutboxSession implements Session {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskanaOutboxSession.class);
+
+  private final DbSqlSession dbSqlSession;
+  private final TaskanaOutboxSettings settings;
+  private final TaskanaOutboxAsyncWriter asyncWriter;
+  private final List<OutboxEvent> events = new ArrayList<>();
+
+  public TaskanaOutboxSession(
+      DbSqlSession dbSqlSession,
+      TaskanaOutboxSettings settings,
+      TaskanaOutboxAsyncWriter asyncWriter) {
+    this.dbSqlSession = dbSqlSession;
+    this.settings = settings;
+    this.asyncWriter = asyncWriter;
+  }
+
+  public void addEvent(String type, String payload, String camundaTaskId, String engineName) {
+
+    if (settings.shouldCompressPayload(payload)) {
+      events.add(
+          new OutboxEvent(
+              type,
+              TaskanaOutboxPayloadCodec.compress(payload),
+              TaskanaOutboxPayloadCodec.GZIP_BASE64,
+              camundaTaskId,
+              engineName));
+    } else {
+      events.add(new OutboxEvent(type, payload, null, camundaTaskId, engineName));
+    }
+  }
+
+  @Override
+  public void flush() {
+
+    if (events.isEmpty()) {
+      return;
+    }
+
+    if (asyncWriter != null) {
+      handOverEventsAfterCommit();
+      return;
+    }
+
+    Connection connection = dbSqlSession.getSqlSession().getConnection();
+
+    try {
+      insertEvents(connection, settings, events);
+      LOGGER.debug("Inserted {} events into the TaskanaOutbox", events.size());
+    } catch (SQLException e) {
+      throw new SystemException("Unexpected Exception while trying to insert outbox events", e);
+    } finally {
+      events.clear();
+    }
+  }
+
+  @Override
+  public void close() {
+    events.clear();
+  }
+
+  static void insertEvents(
+      Connection connection, TaskanaOutboxSettings settings, List<OutboxEvent> events)
+      throws SQLException {
+
+    try (PreparedStatement preparedStatement =
+        connection.prepareStatement(settings.getInsertEventSql())) {
+
+      int initialRetries = settings.getInitialNumberOfTaskCreationRetries();
+
+      for (OutboxEvent event : events) {
+        preparedStatement.setString(1, event.type);
+        preparedStatement.setTimestamp(2, event.created);
+        preparedStatement.setString(3, event.payload);
+        preparedStatement.setInt(4, initialRetries);
+        preparedStatement.setTimestamp(5, event.created);
+        preparedStatement.setString(6, event.camundaTaskId);
+        preparedStatement.setString(7, event.engineName);
+        preparedStatement.setString(8, event.payloadEncoding);
+        preparedStatement.addBatch();
+      }
+
+      preparedStatement.executeBatch();
+    }
+  }
+
+  // the events of a rolled back command never reach the writer
+  private void handOverEventsAfterCommit() {
+
+    List<OutboxEvent> committedEvents = new ArrayList<>(events);
+    events.clear();
+
+    Context.getCommandContext()
+        .getTransactionContext()
+        .addTransactionListener(
+            TransactionState.COMMITTED, commandContext -> asyncWriter.enqueue(committedEvents));
+  }
+
+  static class OutboxEvent {
+
+    private final String type;
+    private final Timestamp created;
+    private final String payload;
+    private final String payloadEncoding;
+    private final String camundaTaskId;
+    private final String engineName;
+
+    OutboxEvent(
+        String type,
+        String payload,
+        String payloadEncoding,
+        String camundaTaskId,
+        String engineName) {
+      this.type = type;
+      this.created = Timestamp.from(Instant.now());
+      this.payload = payload;
+      this.payloadEncoding = payloadEncoding;
+      this.camundaTaskId = camundaTaskId;
+      this.engineName = engineName;
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package pro.taskana.adapter.camunda.tasklistener;
+
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.interceptor.Session;
+import org.camunda.bpm.engine.impl.interceptor.SessionFactory;
+
+/** Opens a TaskanaOutboxSession for every camunda command that produces outbox events. */
+public class TaskanaOutboxSessionFactory implements SessionFactory {
+
+  private final TaskanaOutboxSettings settings;
+  private final TaskanaOutboxAsyncWriter asyncWriter;
+
+  public TaskanaOutboxSessionFactory(
+      TaskanaOutboxSettings settings, TaskanaOutboxAsyncWriter asyncWriter) {
+    this.settings = settings;
+    this.asyncWriter = asyncWriter;
+  }
+
+  @Override
+  public Class<?> getSessionType() {
+    return TaskanaOutboxSession.class;
+  }
+
+  @Override
+  public Session openSession() {
+    // opening the DbSqlSession first makes sure that it is flushed before the outbox session
+    return new TaskanaOutboxSession(
+        Context.getCommandContext().getDbSqlSession(), settings, asyncWriter);
+  }
+}
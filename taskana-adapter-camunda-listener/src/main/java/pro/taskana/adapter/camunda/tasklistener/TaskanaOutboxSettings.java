@@ -0,0 +1,97 @@
+package pro.taskana.adapter.camunda.tasklistener;
+
+import pro.taskana.adapter.camunda.schemacreator.DB;
+
+/**
+ * The settings the TaskanaOutboxSession needs to write events into the outbox. They are resolved
+ * once when the process engine starts, so writing an event needs neither a lookup of the
+ * configuration nor a call for the metadata of the database. The insert statement addresses the
+ * outbox table with its schema, so the schema of the engine's connection is never changed.
+ */
+public final class TaskanaOutboxSettings {
+
+  private static final String SQL_INSERT_EVENT =
+      "INSERT INTO %s.event_store (TYPE,CREATED,PAYLOAD,REMAINING_RETRIES,BLOCKED_UNTIL,"
+          + "CAMUNDA_TASK_ID,SYSTEM_ENGINE_IDENTIFIER,PAYLOAD_ENCODING) VALUES (?,?,?,?,?,?,?,?)";
+
+  private final String databaseProductName;
+  private final String outboxSchemaName;
+  private final int initialNumberOfTaskCreationRetries;
+  private final Integer payloadCompressionMinSize;
+  private final String insertEventSql;
+
+  /**
+   * Creates the settings.
+   *
+   * @param databaseProductName the product name of the camunda database
+   * @param outboxSchemaName the cased name of the outbox schema
+   * @param initialNumberOfTaskCreationRetries the retries of a new event
+   * @param payloadCompressionMinSize the minimal length of a payload to compress it, or null if
+   *     payloads are never compressed
+   */
+  public TaskanaOutboxSettings(
+      String databaseProductName,
+      String outboxSchemaName,
+      int initialNumberOfTaskCreationRetries,
+      Integer payloadCompressionMinSize) {
+    this.databaseProductName = databaseProductName;
+    this.outboxSchemaName = outboxSchemaName;
+    this.initialNumberOfTaskCreationRetries = initialNumberOfTaskCreationRetries;
+    this.payloadCompressionMinSize = payloadCompressionMinSize;
+    this.insertEventSql =
+        String.format(SQL_INSERT_EVENT, quoteIdentifier(databaseProductName, outboxSchemaName));
+  }
+
+  public String getDatabaseProductName() {
+    return databaseProductName;
+  }
+
+  public String getOutboxSchemaName() {
+    return outboxSchemaName;
+  }
+
+  public int getInitialNumberOfTaskCreationRetries() {
+    return initialNumberOfTaskCreationRetries;
+  }
+
+  public Integer getPayloadCompressionMinSize() {
+    return payloadCompressionMinSize;
+  }
+
+  public boolean shouldCompressPayload(String payload) {
+    return payloadCompressionMinSize != null && payload.length() >= payloadCompressionMinSize;
+  }
+
+  public String getInsertEventSql() {
+    return insertEventSql;
+  }
+
+  // the schema name is already cased like the database stores unquoted names, so quoting it
+  // only protects against special characters. Unknown databases get the name unquoted.
+  private static String quoteIdentifier(String databaseProductName, String identifier) {
+
+    if (DB.isH2(databaseProductName)
+        || DB.isPostgreSql(databaseProductName)
+        || DB.isDb2(databaseProductName)
+        || DB.isOracle(databaseProductName)) {
+      return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+
+    return identifier;
+  }
+
+  @Override
+  public String toString() {
+    return "TaskanaOutboxSettings [databaseProductName="
+        + databaseProductName
+        + ", outboxSchemaName="
+        + outboxSchemaName
+        + ", initialNumberOfTaskCreationRetries="
+        + initialNumberOfTaskCreationRetries
+        + ", payloadCompressionMinSize="
+        + payloadCompressionMinSize
+        + ", insertEventSql="
+        + insertEventSql
+        + "]";
+  }
+}
@@ -1,34 +1,24 @@
 package pro.taskana.adapter.camunda.tasklistener;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
-import java.sql.Statement;
-import java.sql.Timestamp;
-import java.time.Instant;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import org.camunda.bpm.engine.delegate.DelegateTask;
 import org.camunda.bpm.engine.delegate.TaskListener;
 import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.camunda.bpm.engine.impl.pvm.process.ActivityImpl;
 import org.camunda.bpm.engine.variable.value.TypedValue;
-import org.camunda.bpm.model.bpmn.BpmnModelInstance;
-import org.camunda.bpm.model.bpmn.instance.ExtensionElements;
-import org.camunda.bpm.model.bpmn.instance.camunda.CamundaProperties;
-import org.camunda.bpm.model.bpmn.instance.camunda.CamundaProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.taskana.adapter.camunda.CamundaListenerConfiguration;
 import pro.taskana.adapter.camunda.dto.ReferencedTask;
-import pro.taskana.adapter.camunda.dto.VariableValueDto;
 import pro.taskana.adapter.camunda.exceptions.SystemException;
 import pro.taskana.adapter.camunda.mapper.JacksonConfigurator;
 
@@ -41,38 +31,22 @@ public class TaskanaTaskListener implements TaskListener {
   private static final String TASK_STATE_COMPLETED = "COMPLETED";
   private static final String TASK_STATE_CANCELLED = "CANCELLED";
   private static final String TASK_STATE_TERMINATED = "TERMINATED";
-  private static final String DEFAULT_SCHEMA = "taskana_tables";
-  private static final String SQL_INSERT_EVENT =
-      "INSERT INTO event_store (TYPE,CREATED,PAYLOAD,REMAINING_RETRIES,"
-          + "BLOCKED_UNTIL,CAMUNDA_TASK_ID, SYSTEM_ENGINE_IDENTIFIER) VALUES (?,?,?,?,?,?,?)";
-  private static TaskanaTaskListener instance = null;
+  private static final TaskanaTaskListener INSTANCE = new TaskanaTaskListener();
 
   private final ObjectMapper objectMapper = JacksonConfigurator.createAndConfigureObjectMapper();
-  private boolean gotActivated = false;
-  private String outboxSchemaName = null;
+  private final boolean catchAndLogExceptionForFaultyProcessVariables =
+      CamundaListenerConfiguration.shouldCatchAndLogExceptionForFaultyProcessVariables();
+
+  private TaskanaTaskListener() {}
 
   public static TaskanaTaskListener getInstance() {
-    if (instance == null) {
-      instance = new TaskanaTaskListener();
-    }
-    return instance;
+    return INSTANCE;
   }
 
   @Override
   public void notify(DelegateTask delegateTask) {
 
-    try (Connection connection =
-        Context.getProcessEngineConfiguration().getDataSource().getConnection()) {
-
-      if (!gotActivated) {
-        gotActivated = true;
-        if (LOGGER.isInfoEnabled()) {
-          LOGGER.info(
-              String.format(
-                  "TaskanaTaskListener activated successfully, connected to %s",
-                  connection.getMetaData().getURL()));
-        }
-      }
+    try {
 
       String engineName = delegateTask.getProcessEngine().getName();
       if (engineName.length() > 128) {
@@ -83,13 +57,16 @@ public class TaskanaTaskListener implements TaskListener {
                 + "Length must not exceed 128 characters.");
       }
 
+      TaskanaOutboxSession outboxSession =
+          Context.getCommandContext().getSession(TaskanaOutboxSession.class);
+
       switch (delegateTask.getEventName()) {
         case "create":
-          insertCreateEventIntoOutbox(delegateTask, connection);
+          addCreateEventToOutbox(delegateTask, outboxSession);
           break;
         case "complete":
         case "delete":
-          insertCompleteOrDeleteEventIntoOutbox(delegateTask, connection);
+          addCompleteOrDeleteEventToOutbox(delegateTask, outboxSession);
           break;
         default:
           break;
@@ -101,61 +78,35 @@ public class TaskanaTaskListener implements TaskListener {
     }
   }
 
-  private void insertCreateEventIntoOutbox(DelegateTask delegateTask, Connection connection)
-      throws Exception {
-
-    String camundaSchema = null;
-
-    try {
-
-      camundaSchema = connection.getSchema();
-      LOGGER.debug("camundaSchema in taskListener is {}", camundaSchema);
-
-      String referencedTaskJson = getReferencedTaskJson(delegateTask);
-
-      setOutboxSchema(connection);
+  private void addCreateEventToOutbox(
+      DelegateTask delegateTask, TaskanaOutboxSession outboxSession) throws Exception {
 
-      prepareAndExecuteStatement(connection, delegateTask, referencedTaskJson);
+    String referencedTaskJson = getReferencedTaskJson(delegateTask);
 
-    } finally {
-      if (camundaSchema != null) {
-        connection.setSchema(camundaSchema);
-      }
-    }
+    addEventToOutbox(delegateTask, outboxSession, referencedTaskJson);
   }
 
-  private void insertCompleteOrDeleteEventIntoOutbox(
-      DelegateTask delegateTask, Connection connection) throws Exception {
+  private void addCompleteOrDeleteEventToOutbox(
+      DelegateTask delegateTask, TaskanaOutboxSession outboxSession) {
 
     if (delegateTask.getEventName().equals("complete")
         && taskWasCompletedByTaskanaAdapter(delegateTask)) {
       return;
     }
 
-    String camundaSchema = null;
-
-    try {
-      String taskState = TASK_STATE_COMPLETED;
-      if (delegateTask.getEventName().equals("delete")) {
-        if (delegateTask.getExecution().isCanceled()) {
-          taskState = TASK_STATE_CANCELLED;
-        } else {
-          taskState = TASK_STATE_TERMINATED;
-        }
+    String taskState = TASK_STATE_COMPLETED;
+    if (delegateTask.getEventName().equals("delete")) {
+      if (delegateTask.getExecution().isCanceled()) {
+        taskState = TASK_STATE_CANCELLED;
+      } else {
+        taskState = TASK_STATE_TERMINATED;
       }
+    }
 
-      String payload =
-          String.format("{\"id\":\"%s\",\"taskState\":\"%s\"}", delegateTask.getId(), taskState);
+    String payload =
+        String.format("{\"id\":\"%s\",\"taskState\":\"%s\"}", delegateTask.getId(), taskState);
 
-      camundaSchema = connection.getSchema();
-      setOutboxSchema(connection);
-      prepareAndExecuteStatement(connection, delegateTask, payload);
-      connection.setSchema(camundaSchema);
-    } finally {
-      if (camundaSchema != null) {
-        connection.setSchema(camundaSchema);
-      }
-    }
+    addEventToOutbox(delegateTask, outboxSession, payload);
   }
 
   private boolean taskWasCompletedByTaskanaAdapter(DelegateTask delegateTask) {
@@ -163,45 +114,14 @@ public class TaskanaTaskListener implements TaskListener {
     return delegateTask.getVariableNamesLocal().contains("completedByTaskanaAdapter");
   }
 
-  private void setOutboxSchema(Connection connection) throws SQLException {
-
-    if (outboxSchemaName == null) {
-      outboxSchemaName = CamundaListenerConfiguration.getOutboxSchema();
-    }
-
-    outboxSchemaName =
-        (outboxSchemaName == null || outboxSchemaName.isEmpty())
-            ? DEFAULT_SCHEMA
-            : outboxSchemaName;
-
-    String dbProductName = connection.getMetaData().getDatabaseProductName();
-    if ("PostgreSQL".equals(dbProductName)) {
-      connection.setSchema(outboxSchemaName.toLowerCase());
-    } else {
-      connection.setSchema(outboxSchemaName.toUpperCase());
-    }
-  }
-
-  private void prepareAndExecuteStatement(
-      Connection connection, DelegateTask delegateTask, String payloadJson) throws Exception {
-
-    try (PreparedStatement preparedStatement =
-        connection.prepareStatement(SQL_INSERT_EVENT, Statement.RETURN_GENERATED_KEYS)) {
-
-      Timestamp eventCreationTimestamp = Timestamp.from(Instant.now());
-
-      int initialRetries = CamundaListenerConfiguration.getInitialNumberOfTaskCreationRetries();
-
-      preparedStatement.setString(1, delegateTask.getEventName());
-      preparedStatement.setTimestamp(2, eventCreationTimestamp);
-      preparedStatement.setString(3, payloadJson);
-      preparedStatement.setInt(4, initialRetries);
-      preparedStatement.setTimestamp(5, eventCreationTimestamp);
-      preparedStatement.setString(6, delegateTask.getId());
-      preparedStatement.setString(7, delegateTask.getProcessEngine().getName());
+  private void addEventToOutbox(
+      DelegateTask delegateTask, TaskanaOutboxSession outboxSession, String payloadJson) {
 
-      preparedStatement.execute();
-    }
+    outboxSession.addEvent(
+        delegateTask.getEventName(),
+        payloadJson,
+        delegateTask.getId(),
+        delegateTask.getProcessEngine().getName());
   }
 
   private String getReferencedTaskJson(DelegateTask delegateTask) throws JsonProcessingException {
@@ -271,157 +191,117 @@ public class TaskanaTaskListener implements TaskListener {
 
   private String getProcessVariables(DelegateTask delegateTask) {
 
-    StringBuilder variablesBuilder = new StringBuilder();
-    List<String> variableNames;
-
-    // Get Task Variables
-    String taskVariablesConcatenated =
-        getUserTaskExtensionProperty(delegateTask, "taskana-attributes");
-
-    if (taskVariablesConcatenated != null) {
-      variableNames = splitVariableNamesString(taskVariablesConcatenated);
+    // the attribute names of the user task take precedence over those of the process model
+    List<String> variableNames = getUserTaskExtensionProperties(delegateTask).getAttributeNames();
 
-    } else {
-      String processVariablesConcatenated =
-          getProcessModelExtensionProperty(delegateTask, "taskana-attributes");
-      if (processVariablesConcatenated != null) {
-        variableNames = splitVariableNamesString(processVariablesConcatenated);
-      } else {
+    if (variableNames == null) {
+      variableNames = getProcessModelExtensionProperties(delegateTask).getAttributeNames();
+      if (variableNames == null) {
         return "{}";
       }
     }
 
-    variableNames.forEach(
-        nameOfVariableToAdd ->
-            addToVariablesBuilder(
-                delegateTask, objectMapper, variablesBuilder, nameOfVariableToAdd));
+    StringWriter variablesWriter = new StringWriter();
 
-    if (variablesBuilder.length() > 0) {
-      variablesBuilder.deleteCharAt(variablesBuilder.length() - 1).append("}");
-      variablesBuilder.insert(0, "{");
-    } else {
-      return "{}";
+    try (JsonGenerator generator = objectMapper.getFactory().createGenerator(variablesWriter)) {
+
+      generator.writeStartObject();
+      for (String variableName : variableNames) {
+        writeProcessVariable(delegateTask, generator, variableName);
+      }
+      generator.writeEndObject();
+
+    } catch (IOException ex) {
+      throw new SystemException(
+          "Exception while trying to serialize process variables to JSON", ex);
     }
-    return variablesBuilder.toString();
+
+    return variablesWriter.toString();
   }
 
-  private void addToVariablesBuilder(
-      DelegateTask delegateTask,
-      ObjectMapper objectMapper,
-      StringBuilder processVariablesBuilder,
-      String nameOfprocessVariableToAdd) {
+  private void writeProcessVariable(
+      DelegateTask delegateTask, JsonGenerator generator, String variableName)
+      throws IOException {
 
-    TypedValue processVariable = delegateTask.getVariableTyped(nameOfprocessVariableToAdd);
+    TypedValue processVariable = delegateTask.getVariableTyped(variableName);
 
-    if (processVariable != null) {
+    if (processVariable == null) {
+      return;
+    }
 
-      try {
+    String type = processVariable.getType().getName();
 
-        VariableValueDto variableValueDto =
-            determineProcessVariableTypeAndCreateVariableValueDto(processVariable, objectMapper);
+    if (processVariable.getType().isPrimitiveValueType()) {
 
-        String variableValueDtoJson = objectMapper.writeValueAsString(variableValueDto);
+      generator.writeFieldName(variableName);
+      generator.writeStartObject();
+      generator.writeStringField("type", type);
+      generator.writeObjectField("value", processVariable.getValue());
+      generator.writeNullField("valueInfo");
+      generator.writeEndObject();
 
-        processVariablesBuilder
-            .append("\"")
-            .append(nameOfprocessVariableToAdd)
-            .append("\":")
-            .append(variableValueDtoJson)
-            .append(",");
+    } else {
 
+      // serialized up front, so that a faulty variable doesn't leave a half written entry behind
+      String processVariableJsonString;
+      try {
+        processVariableJsonString = objectMapper.writeValueAsString(processVariable.getValue());
       } catch (JsonProcessingException ex) {
-
-        if (CamundaListenerConfiguration.shouldCatchAndLogExceptionForFaultyProcessVariables()) {
-
+        if (catchAndLogExceptionForFaultyProcessVariables) {
           LOGGER.error("Caught exception while trying to serialize process variables to JSON", ex);
-
+          return;
         } else {
           throw new SystemException(
               "Exception while trying to serialize process variables to JSON", ex);
         }
       }
-    }
-  }
-
-  private VariableValueDto determineProcessVariableTypeAndCreateVariableValueDto(
-      TypedValue processVariable, ObjectMapper objectMapper) throws JsonProcessingException {
-
-    VariableValueDto variableValueDto = new VariableValueDto();
-
-    if (processVariable.getType().isPrimitiveValueType()) {
 
-      variableValueDto.setType(processVariable.getType().getName());
-      variableValueDto.setValue(processVariable.getValue());
-
-    } else {
-
-      variableValueDto.setType(processVariable.getType().getName());
-
-      String processVariableJsonString =
-          objectMapper.writeValueAsString(processVariable.getValue());
-      variableValueDto.setValue(processVariableJsonString);
-
-      Map<String, Object> valueInfo = new HashMap<>();
-      valueInfo.put("serializationDataFormat", "application/json");
-      valueInfo.put("objectTypeName", processVariable.getValue().getClass());
-      variableValueDto.setValueInfo(valueInfo);
+      generator.writeFieldName(variableName);
+      generator.writeStartObject();
+      generator.writeStringField("type", type);
+      generator.writeStringField("value", processVariableJsonString);
+      generator.writeObjectFieldStart("valueInfo");
+      generator.writeStringField("serializationDataFormat", "application/json");
+      generator.writeStringField(
+          "objectTypeName", processVariable.getValue().getClass().getName());
+      generator.writeEndObject();
+      generator.writeEndObject();
     }
-
-    return variableValueDto;
-  }
-
-  private List<String> splitVariableNamesString(String variableNamesConcatenated) {
-    return Arrays.asList(variableNamesConcatenated.trim().split("\\s*,\\s*"));
   }
 
   private String getProcessModelExtensionProperty(DelegateTask delegateTask, String propertyKey) {
 
-    String propertyValue = null;
+    return getProcessModelExtensionProperties(delegateTask).getProperty(propertyKey);
+  }
 
-    BpmnModelInstance model = delegateTask.getExecution().getBpmnModelInstance();
+  private String getUserTaskExtensionProperty(DelegateTask delegateTask, String propertyKey) {
 
-    List<CamundaProperty> processModelExtensionProperties =
-        model.getModelElementsByType(CamundaProperty.class).stream()
-            .filter(camundaProperty -> camundaProperty.getCamundaName() != null)
-            .filter(camundaProperty -> camundaProperty.getCamundaName().equals(propertyKey))
-            .collect(Collectors.toList());
+    return getUserTaskExtensionProperties(delegateTask).getProperty(propertyKey);
+  }
 
-    if (processModelExtensionProperties.isEmpty()) {
-      return propertyValue;
-    } else {
-      propertyValue = processModelExtensionProperties.get(0).getCamundaValue();
-    }
+  private TaskanaExtensionProperties getProcessModelExtensionProperties(
+      DelegateTask delegateTask) {
 
-    return propertyValue;
+    return TaskanaExtensionProperties.of(getProcessDefinition(delegateTask));
   }
 
-  private String getUserTaskExtensionProperty(DelegateTask delegateTask, String propertyKey) {
-
-    String propertyValue = null;
+  private TaskanaExtensionProperties getUserTaskExtensionProperties(DelegateTask delegateTask) {
 
-    ExtensionElements extensionElements =
-        delegateTask.getExecution().getBpmnModelElementInstance().getExtensionElements();
+    ProcessDefinitionEntity processDefinition = getProcessDefinition(delegateTask);
 
-    if (extensionElements == null) {
-      return propertyValue;
-    } else {
-      CamundaProperties camundaProperties =
-          extensionElements.getElementsQuery().filterByType(CamundaProperties.class).singleResult();
+    ActivityImpl userTask =
+        processDefinition == null
+            ? null
+            : processDefinition.findActivity(delegateTask.getTaskDefinitionKey());
 
-      List<CamundaProperty> userTaskExtensionProperties =
-          camundaProperties.getCamundaProperties().stream()
-              .filter(camundaProperty -> camundaProperty.getCamundaName() != null)
-              .filter(camundaProperty -> camundaProperty.getCamundaName().equals(propertyKey))
-              .collect(Collectors.toList());
+    return TaskanaExtensionProperties.of(userTask);
+  }
 
-      if (userTaskExtensionProperties.isEmpty()) {
-        return propertyValue;
-      } else {
-        propertyValue = userTaskExtensionProperties.get(0).getCamundaValue();
-      }
-    }
+  private ProcessDefinitionEntity getProcessDefinition(DelegateTask delegateTask) {
 
-    return propertyValue;
+    return Context.getProcessEngineConfiguration()
+        .getDeploymentCache()
+        .findDeployedProcessDefinitionById(delegateTask.getProcessDefinitionId());
   }
 
   private String formatDate(Date date) {
@@ -12,9 +12,16 @@ CREATE TABLE %schemaName%.event_store
     ERROR VARCHAR(1000),
     CAMUNDA_TASK_ID VARCHAR(40),
     SYSTEM_ENGINE_IDENTIFIER VARCHAR(128),
+    LEASE_OWNER VARCHAR(128),
+    LEASE_EXPIRE TIMESTAMP,
+    PAYLOAD_ENCODING VARCHAR(32),
     CONSTRAINT event_store_pkey PRIMARY KEY (ID)
 );
 
+CREATE INDEX %schemaName%.EVENT_STORE_TYPE_IDX ON %schemaName%.event_store (TYPE, ID, REMAINING_RETRIES, BLOCKED_UNTIL, LEASE_EXPIRE);
+CREATE INDEX %schemaName%.EVENT_STORE_RETRIES_IDX ON %schemaName%.event_store (REMAINING_RETRIES, ID);
+CREATE INDEX %schemaName%.EVENT_STORE_TASK_IDX ON %schemaName%.event_store (CAMUNDA_TASK_ID, ID);
+
 
 CREATE TABLE %schemaName%.OUTBOX_SCHEMA_VERSION(
         ID INT NOT NULL GENERATED ALWAYS AS IDENTITY (START WITH 1 INCREMENT BY 1),
@@ -22,6 +29,6 @@ CREATE TABLE %schemaName%.OUTBOX_SCHEMA_VERSION(
         CREATED TIMESTAMP NOT NULL,
         PRIMARY KEY (ID)
 );
-INSERT INTO %schemaName%.OUTBOX_SCHEMA_VERSION (VERSION, CREATED) VALUES ('1.11.0', CURRENT_TIMESTAMP);
+INSERT INTO %schemaName%.OUTBOX_SCHEMA_VERSION (VERSION, CREATED) VALUES ('3.1.1', CURRENT_TIMESTAMP);
 
 
@@ -0,0 +1,12 @@
+-- this script updates the tables OUTBOX_SCHEMA_VERSION and event_store.
+SET SCHEMA %schemaName%;
+
+INSERT INTO OUTBOX_SCHEMA_VERSION (VERSION, CREATED) VALUES ('3.1.1', CURRENT_TIMESTAMP);
+
+ALTER TABLE event_store ADD COLUMN LEASE_OWNER VARCHAR(128);
+ALTER TABLE event_store ADD COLUMN LEASE_EXPIRE TIMESTAMP;
+ALTER TABLE event_store ADD COLUMN PAYLOAD_ENCODING VARCHAR(32);
+
+CREATE INDEX EVENT_STORE_TYPE_IDX ON event_store (TYPE, ID, REMAINING_RETRIES, BLOCKED_UNTIL, LEASE_EXPIRE);
+CREATE INDEX EVENT_STORE_RETRIES_IDX ON event_store (REMAINING_RETRIES, ID);
+CREATE INDEX EVENT_STORE_TASK_IDX ON event_store (CAMUNDA_TASK_ID, ID);
@@ -20,13 +20,20 @@ CREATE TABLE %schemaName%.EVENT_STORE
     BLOCKED_UNTIL TIMESTAMP NOT NULL,
     ERROR VARCHAR2(1000),
     CAMUNDA_TASK_ID VARCHAR(40),
-    SYSTEM_ENGINE_IDENTIFIER VARCHAR(128)
+    SYSTEM_ENGINE_IDENTIFIER VARCHAR(128),
+    LEASE_OWNER VARCHAR(128),
+    LEASE_EXPIRE TIMESTAMP,
+    PAYLOAD_ENCODING VARCHAR(32)
     );
 
 ALTER TABLE %schemaName%.EVENT_STORE ADD(
     CONSTRAINT EVENT_STORE_PKEY PRIMARY KEY (ID)
 );
 
+CREATE INDEX %schemaName%.EVENT_STORE_TYPE_IDX ON %schemaName%.EVENT_STORE (TYPE, ID, REMAINING_RETRIES, BLOCKED_UNTIL, LEASE_EXPIRE);
+CREATE INDEX %schemaName%.EVENT_STORE_RETRIES_IDX ON %schemaName%.EVENT_STORE (REMAINING_RETRIES, ID);
+CREATE INDEX %schemaName%.EVENT_STORE_TASK_IDX ON %schemaName%.EVENT_STORE (CAMUNDA_TASK_ID, ID);
+
 CREATE SEQUENCE EVENT_STORE_SEQ START WITH 1;
 
 CREATE OR REPLACE TRIGGER EVENT_STORE_BIR
@@ -65,7 +72,7 @@ BEGIN
 /
 
 
-INSERT INTO %schemaName%.OUTBOX_SCHEMA_VERSION (VERSION, CREATED) VALUES ('1.11.0', CURRENT_TIMESTAMP);
+INSERT INTO %schemaName%.OUTBOX_SCHEMA_VERSION (VERSION, CREATED) VALUES ('3.1.1', CURRENT_TIMESTAMP);
 
 GRANT INSERT,UPDATE,SELECT,DELETE ON %schemaName%.OUTBOX_SCHEMA_VERSION TO %camundaSchemaName%;
 GRANT INSERT,UPDATE,SELECT,DELETE ON %schemaName%.EVENT_STORE TO %camundaSchemaName%;
@@ -0,0 +1,10 @@
+-- this script updates the tables OUTBOX_SCHEMA_VERSION and event_store.
+ALTER SESSION SET CURRENT_SCHEMA = %schemaName%;
+
+INSERT INTO OUTBOX_SCHEMA_VERSION (VERSION, CREATED) VALUES ('3.1.1', CURRENT_TIMESTAMP);
+
+ALTER TABLE EVENT_STORE ADD (LEASE_OWNER VARCHAR(128), LEASE_EXPIRE TIMESTAMP, PAYLOAD_ENCODING VARCHAR(32));
+
+CREATE INDEX EVENT_STORE_TYPE_IDX ON EVENT_STORE (TYPE, ID, REMAINING_RETRIES, BLOCKED_UNTIL, LEASE_EXPIRE);
+CREATE INDEX EVENT_STORE_RETRIES_IDX ON EVENT_STORE (REMAINING_RETRIES, ID);
+CREATE INDEX EVENT_STORE_TASK_IDX ON EVENT_STORE (CAMUNDA_TASK_ID, ID);
@@ -7,7 +7,7 @@ CREATE TABLE %schemaName%.OUTBOX_SCHEMA_VERSION(
     PRIMARY KEY (ID)
     );
 
-INSERT INTO %schemaName%.OUTBOX_SCHEMA_VERSION (VERSION, CREATED) VALUES ('1.11.0', CURRENT_TIMESTAMP);
+INSERT INTO %schemaName%.OUTBOX_SCHEMA_VERSION (VERSION, CREATED) VALUES ('3.1.1', CURRENT_TIMESTAMP);
 
 CREATE TABLE IF NOT EXISTS %schemaName%.event_store
 (
@@ -20,5 +20,12 @@ CREATE TABLE IF NOT EXISTS %schemaName%.event_store
     ERROR VARCHAR(1000),
     CAMUNDA_TASK_ID VARCHAR(40),
     SYSTEM_ENGINE_IDENTIFIER VARCHAR(128),
+    LEASE_OWNER VARCHAR(128),
+    LEASE_EXPIRE TIMESTAMP,
+    PAYLOAD_ENCODING VARCHAR(32),
     CONSTRAINT event_store_pkey PRIMARY KEY (id)
     );
+
+CREATE INDEX IF NOT EXISTS event_store_type_idx ON %schemaName%.event_store (type, id, REMAINING_RETRIES, BLOCKED_UNTIL, LEASE_EXPIRE);
+CREATE INDEX IF NOT EXISTS event_store_retries_idx ON %schemaName%.event_store (REMAINING_RETRIES, id);
+CREATE INDEX IF NOT EXISTS event_store_task_idx ON %schemaName%.event_store (CAMUNDA_TASK_ID, id);
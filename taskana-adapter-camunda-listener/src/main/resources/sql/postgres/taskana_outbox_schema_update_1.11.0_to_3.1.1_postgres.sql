@@ -0,0 +1,12 @@
+-- this script updates the tables OUTBOX_SCHEMA_VERSION and event_store.
+SET search_path TO %schemaName%;
+
+INSERT INTO OUTBOX_SCHEMA_VERSION (VERSION, CREATED) VALUES ('3.1.1', CURRENT_TIMESTAMP);
+
+ALTER TABLE event_store ADD COLUMN LEASE_OWNER VARCHAR(128);
+ALTER TABLE event_store ADD COLUMN LEASE_EXPIRE TIMESTAMP;
+ALTER TABLE event_store ADD COLUMN PAYLOAD_ENCODING VARCHAR(32);
+
+CREATE INDEX event_store_type_idx ON event_store (TYPE, ID, REMAINING_RETRIES, BLOCKED_UNTIL, LEASE_EXPIRE);
+CREATE INDEX event_store_retries_idx ON event_store (REMAINING_RETRIES, ID);
+CREATE INDEX event_store_task_idx ON event_store (CAMUNDA_TASK_ID, ID);
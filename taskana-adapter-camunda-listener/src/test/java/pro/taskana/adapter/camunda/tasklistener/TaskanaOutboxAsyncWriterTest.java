@@ -0,0 +1,228 @@
+package pro.taskana.adapter.camunda.tasklistener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.sql.DataSource;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pro.taskana.adapter.camunda.schemacreator.TaskanaOutboxSchemaCreator;
+import pro.taskana.adapter.camunda.tasklistener.TaskanaOutboxSession.OutboxEvent;
+
+/**
+ * Test for the TaskanaOutboxAsyncWriter. The connections of the writer wait until the test lets
+ * them pass and report the number of stored events after each commit, so that the batches of the
+ * writer can be observed.
+ */
+class TaskanaOutboxAsyncWriterTest {
+
+  private static final String SCHEMA = "TASKANA_TABLES";
+  private static final TaskanaOutboxSettings SETTINGS =
+      new TaskanaOutboxSettings("H2", SCHEMA, 5, null);
+
+  private final JdbcDataSource h2DataSource = new JdbcDataSource();
+  private final BlockingQueue<Integer> storedEventsAfterCommit = new LinkedBlockingQueue<>();
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+  private final CountDownLatch connectionsMayPass = new CountDownLatch(1);
+  private TaskanaOutboxAsyncWriter asyncWriter;
+
+  @BeforeEach
+  void createOutbox() {
+    h2DataSource.setURL("jdbc:h2:mem:outbox-async-writer;DB_CLOSE_DELAY=-1");
+    assertThat(new TaskanaOutboxSchemaCreator(h2DataSource, SCHEMA).createSchema()).isTrue();
+  }
+
+  @AfterEach
+  void dropOutbox() throws Exception {
+    connectionsMayPass.countDown();
+    if (asyncWriter != null) {
+      asyncWriter.stop();
+    }
+    executor.shutdownNow();
+    try (Connection connection = h2DataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("DROP SCHEMA " + SCHEMA + " CASCADE");
+    }
+  }
+
+  @Test
+  void should_WriteEventsInBatches_When_EventsAreEnqueued() throws Exception {
+    asyncWriter = startAsyncWriter(100, 3, Duration.ofMinutes(1));
+    connectionsMayPass.countDown();
+
+    asyncWriter.enqueue(createEvents("task-1", "task-2", "task-3", "task-4"));
+    asyncWriter.enqueue(createEvents("task-5", "task-6", "task-7"));
+
+    // full batches are written right away, the last one lingers until the writer is stopped
+    assertThat(storedEventsAfterCommit.poll(10, TimeUnit.SECONDS)).isEqualTo(3);
+    assertThat(storedEventsAfterCommit.poll(10, TimeUnit.SECONDS)).isEqualTo(6);
+    assertThat(storedEventsAfterCommit.poll(200, TimeUnit.MILLISECONDS)).isNull();
+
+    asyncWriter.stop();
+
+    assertThat(storedEventsAfterCommit).containsExactly(7);
+    assertThat(selectCamundaTaskIds())
+        .containsExactly(
+            "task-1", "task-2", "task-3", "task-4", "task-5", "task-6", "task-7");
+  }
+
+  @Test
+  void should_WaitForRoomInOrder_When_BufferIsFull() throws Exception {
+    asyncWriter = startAsyncWriter(2, 1, Duration.ZERO);
+
+    // the writer takes the first event and waits for its connection, the buffer takes two more
+    Future<?> enqueued =
+        executor.submit(
+            () -> asyncWriter.enqueue(createEvents("task-1", "task-2", "task-3", "task-4")));
+
+    assertThatThrownBy(() -> enqueued.get(500, TimeUnit.MILLISECONDS))
+        .isInstanceOf(TimeoutException.class);
+    assertThat(selectCamundaTaskIds()).isEmpty();
+
+    connectionsMayPass.countDown();
+    enqueued.get(10, TimeUnit.SECONDS);
+    for (int i = 1; i <= 4; i++) {
+      assertThat(storedEventsAfterCommit.poll(10, TimeUnit.SECONDS)).isEqualTo(i);
+    }
+
+    assertThat(selectCamundaTaskIds()).containsExactly("task-1", "task-2", "task-3", "task-4");
+  }
+
+  @Test
+  void should_WriteRemainingEventsInOrder_When_WriterIsStopped() throws Exception {
+    asyncWriter = startAsyncWriter(100, 100, Duration.ofMinutes(1));
+    connectionsMayPass.countDown();
+
+    asyncWriter.enqueue(createEvents("task-1", "task-2"));
+    asyncWriter.stop();
+
+    assertThat(selectCamundaTaskIds()).containsExactly("task-1", "task-2");
+
+    // events that are committed after the writer was stopped are written right away
+    asyncWriter.enqueue(createEvents("task-3"));
+    asyncWriter.stop();
+
+    assertThat(selectCamundaTaskIds()).containsExactly("task-1", "task-2", "task-3");
+  }
+
+  @Test
+  void should_KeepWriterRunning_When_OtherSchemaOperationIsExecuted() throws Exception {
+    asyncWriter = startAsyncWriter(100, 1, Duration.ZERO);
+    connectionsMayPass.countDown();
+
+    List<String> executedCommands = new ArrayList<>();
+    asyncWriter
+        .stopOnProcessEngineClose(
+            new CommandExecutor() {
+              @Override
+              public <T> T execute(Command<T> command) {
+                executedCommands.add(command.getClass().getSimpleName());
+                return null;
+              }
+            })
+        .execute(commandContext -> null);
+    asyncWriter.enqueue(createEvents("task-1"));
+
+    assertThat(executedCommands).hasSize(1);
+    assertThat(storedEventsAfterCommit.poll(10, TimeUnit.SECONDS)).isEqualTo(1);
+  }
+
+  private TaskanaOutboxAsyncWriter startAsyncWriter(
+      int bufferSize, int batchSize, Duration maxLinger) {
+    TaskanaOutboxAsyncWriter writer =
+        new TaskanaOutboxAsyncWriter(
+            createObservedDataSource(), SETTINGS, bufferSize, batchSize, maxLinger);
+    writer.start();
+    return writer;
+  }
+
+  private DataSource createObservedDataSource() {
+    return (DataSource)
+        Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[] {DataSource.class},
+            (proxy, method, args) -> {
+              if (!"getConnection".equals(method.getName())) {
+                return invoke(method, h2DataSource, args);
+              }
+              connectionsMayPass.await();
+              return createObservedConnection(h2DataSource.getConnection());
+            });
+  }
+
+  private Connection createObservedConnection(Connection connection) {
+    return (Connection)
+        Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+              Object result = invoke(method, connection, args);
+              if ("commit".equals(method.getName())) {
+                storedEventsAfterCommit.add(countEvents(connection));
+              }
+              return result;
+            });
+  }
+
+  private static Object invoke(Method method, Object target, Object[] args)
+      throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  private static int countEvents(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement();
+        ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + SCHEMA + ".event_store")) {
+      rs.next();
+      return rs.getInt(1);
+    }
+  }
+
+  private List<String> selectCamundaTaskIds() throws SQLException {
+    List<String> camundaTaskIds = new ArrayList<>();
+    try (Connection connection = h2DataSource.getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet rs =
+            statement.executeQuery(
+                "SELECT CAMUNDA_TASK_ID FROM " + SCHEMA + ".event_store ORDER BY ID")) {
+      while (rs.next()) {
+        camundaTaskIds.add(rs.getString(1));
+      }
+    }
+    return camundaTaskIds;
+  }
+
+  private static List<OutboxEvent> createEvents(String... camundaTaskIds) {
+    List<OutboxEvent> events = new ArrayList<>();
+    for (String camundaTaskId : camundaTaskIds) {
+      events.add(new OutboxEvent("create", "{}", null, camundaTaskId, "default"));
+    }
+    return Collections.unmodifiableList(events);
+  }
+}
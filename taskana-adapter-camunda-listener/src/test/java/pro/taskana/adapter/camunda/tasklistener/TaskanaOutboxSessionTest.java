@@ -0,0 +1,155 @@
+package pro.taskana.adapter.camunda.tasklistener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.impl.cfg.AbstractProcessEnginePlugin;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.camunda.bpm.engine.impl.interceptor.SessionFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pro.taskana.adapter.camunda.schemacreator.TaskanaOutboxSchemaCreator;
+
+/**
+ * Test for the TaskanaOutboxSession within the commands of a process engine, writing the events
+ * either within the transaction of the engine or with a TaskanaOutboxAsyncWriter.
+ */
+class TaskanaOutboxSessionTest {
+
+  private static final String URL = "jdbc:h2:mem:outbox-session;DB_CLOSE_DELAY=-1";
+  private static final String SCHEMA = "TASKANA_TABLES";
+  private static final TaskanaOutboxSettings SETTINGS =
+      new TaskanaOutboxSettings("H2", SCHEMA, 5, null);
+
+  private final JdbcDataSource h2DataSource = new JdbcDataSource();
+  private ProcessEngine processEngine;
+
+  @BeforeEach
+  void createOutbox() {
+    h2DataSource.setURL(URL);
+    h2DataSource.setUser("sa");
+    assertThat(new TaskanaOutboxSchemaCreator(h2DataSource, SCHEMA).createSchema()).isTrue();
+  }
+
+  @AfterEach
+  void dropOutbox() throws Exception {
+    if (processEngine != null) {
+      processEngine.close();
+    }
+    try (Connection connection = h2DataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("DROP SCHEMA " + SCHEMA + " CASCADE");
+    }
+  }
+
+  @Test
+  void should_InsertEvents_When_CommandIsCommitted() throws Exception {
+    processEngine = buildProcessEngine(null);
+
+    executeCommand(false, "task-1", "task-2");
+
+    assertThat(selectCamundaTaskIds()).containsExactly("task-1", "task-2");
+  }
+
+  @Test
+  void should_DropEvents_When_CommandIsRolledBack() throws Exception {
+    processEngine = buildProcessEngine(null);
+
+    assertThatThrownBy(() -> executeCommand(true, "task-1"))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(selectCamundaTaskIds()).isEmpty();
+  }
+
+  @Test
+  void should_HandOnlyCommittedEventsToWriter_When_AsyncWriterIsEnabled() throws Exception {
+    TaskanaOutboxAsyncWriter asyncWriter =
+        new TaskanaOutboxAsyncWriter(h2DataSource, SETTINGS, 100, 100, Duration.ofMinutes(1));
+    processEngine = buildProcessEngine(asyncWriter);
+
+    assertThatThrownBy(() -> executeCommand(true, "task-1"))
+        .isInstanceOf(IllegalStateException.class);
+    executeCommand(false, "task-2", "task-3");
+
+    // the events linger in the buffer until the process engine is closed
+    assertThat(selectCamundaTaskIds()).isEmpty();
+
+    processEngine.close();
+    processEngine = null;
+
+    assertThat(selectCamundaTaskIds()).containsExactly("task-2", "task-3");
+  }
+
+  private ProcessEngine buildProcessEngine(TaskanaOutboxAsyncWriter asyncWriter) {
+    List<SessionFactory> sessionFactories = new ArrayList<>();
+    sessionFactories.add(new TaskanaOutboxSessionFactory(SETTINGS, asyncWriter));
+
+    ProcessEngineConfigurationImpl configuration = new StandaloneInMemProcessEngineConfiguration();
+    configuration.setProcessEngineName("outbox-session");
+    configuration.setJdbcUrl(URL);
+    configuration.setJobExecutorActivate(false);
+    configuration.setCustomSessionFactories(sessionFactories);
+    if (asyncWriter != null) {
+      // starts and stops the writer like the TaskanaParseListenerProcessEnginePlugin
+      configuration
+          .getProcessEnginePlugins()
+          .add(
+              new AbstractProcessEnginePlugin() {
+                @Override
+                public void postInit(ProcessEngineConfigurationImpl processEngineConfiguration) {
+                  processEngineConfiguration.setCommandExecutorSchemaOperations(
+                      asyncWriter.stopOnProcessEngineClose(
+                          processEngineConfiguration.getCommandExecutorSchemaOperations()));
+                }
+
+                @Override
+                public void postProcessEngineBuild(ProcessEngine processEngine) {
+                  asyncWriter.start();
+                }
+              });
+    }
+    return configuration.buildProcessEngine();
+  }
+
+  private void executeCommand(boolean failing, String... camundaTaskIds) {
+    ((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration())
+        .getCommandExecutorTxRequired()
+        .execute(
+            commandContext -> {
+              TaskanaOutboxSession outboxSession =
+                  commandContext.getSession(TaskanaOutboxSession.class);
+              for (String camundaTaskId : camundaTaskIds) {
+                outboxSession.addEvent("create", "{}", camundaTaskId, "default");
+              }
+              if (failing) {
+                throw new IllegalStateException("the command fails");
+              }
+              return null;
+            });
+  }
+
+  private List<String> selectCamundaTaskIds() throws SQLException {
+    List<String> camundaTaskIds = new ArrayList<>();
+    try (Connection connection = h2DataSource.getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet rs =
+            statement.executeQuery(
+                "SELECT CAMUNDA_TASK_ID FROM " + SCHEMA + ".event_store ORDER BY ID")) {
+      while (rs.next()) {
+        camundaTaskIds.add(rs.getString(1));
+      }
+    }
+    return camundaTaskIds;
+  }
+}
@@ -0,0 +1,48 @@
+package pro.taskana.adapter.camunda.tasklistener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/** Test for the insert statement and the payload compression of the TaskanaOutboxSettings. */
+class TaskanaOutboxSettingsTest {
+
+  @Test
+  void should_QuoteOutboxSchema_When_DatabaseIsPostgres() {
+    TaskanaOutboxSettings settings =
+        new TaskanaOutboxSettings("PostgreSQL", "taskana_tables", 5, null);
+
+    assertThat(settings.getInsertEventSql())
+        .startsWith("INSERT INTO \"taskana_tables\".event_store");
+  }
+
+  @Test
+  void should_EscapeQuotesInOutboxSchema_When_DatabaseIsH2() {
+    TaskanaOutboxSettings settings = new TaskanaOutboxSettings("H2", "TASKANA\"TABLES", 5, null);
+
+    assertThat(settings.getInsertEventSql())
+        .startsWith("INSERT INTO \"TASKANA\"\"TABLES\".event_store");
+  }
+
+  @Test
+  void should_NotQuoteOutboxSchema_When_DatabaseIsUnknown() {
+    TaskanaOutboxSettings settings = new TaskanaOutboxSettings(null, "TASKANA_TABLES", 5, null);
+
+    assertThat(settings.getInsertEventSql()).startsWith("INSERT INTO TASKANA_TABLES.event_store");
+  }
+
+  @Test
+  void should_CompressOnlyLargePayloads_When_CompressionIsEnabled() {
+    TaskanaOutboxSettings settings = new TaskanaOutboxSettings("H2", "TASKANA", 5, 10);
+
+    assertThat(settings.shouldCompressPayload("{\"a\":1}")).isFalse();
+    assertThat(settings.shouldCompressPayload("{\"a\":1234}")).isTrue();
+  }
+
+  @Test
+  void should_NeverCompressPayloads_When_CompressionIsDisabled() {
+    TaskanaOutboxSettings settings = new TaskanaOutboxSettings("H2", "TASKANA", 5, null);
+
+    assertThat(settings.shouldCompressPayload("{\"a\":1234}")).isFalse();
+  }
+}
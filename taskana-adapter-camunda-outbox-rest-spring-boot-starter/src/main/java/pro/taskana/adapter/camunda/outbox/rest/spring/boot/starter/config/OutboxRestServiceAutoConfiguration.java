@@ -5,6 +5,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import pro.taskana.adapter.camunda.outbox.rest.config.OutboxRestServiceConfig;
+import pro.taskana.adapter.camunda.outbox.rest.config.OutboxRestServiceLifecycleListener;
 import pro.taskana.adapter.camunda.outbox.rest.controller.CamundaTaskEventsController;
 import pro.taskana.adapter.camunda.parselistener.TaskanaParseListenerProcessEnginePlugin;
 
@@ -25,6 +26,14 @@ public class OutboxRestServiceAutoConfiguration {
     return new CamundaTaskEventsController();
   }
 
+  // registered with the embedded servlet container, which stops the threads of the outbox REST
+  // service on shutdown
+  @Bean
+  @ConditionalOnMissingBean
+  public OutboxRestServiceLifecycleListener outboxRestServiceLifecycleListener() {
+    return new OutboxRestServiceLifecycleListener();
+  }
+
   @Bean
   @ConditionalOnMissingBean
   public TaskanaParseListenerProcessEnginePlugin taskanaParseListenerProcessEnginePlugin() {
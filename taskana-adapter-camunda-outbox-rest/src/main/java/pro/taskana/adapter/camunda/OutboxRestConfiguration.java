@@ -24,14 +24,56 @@ public class OutboxRestConfiguration {
       "taskana.adapter.outbox.datasource.password";
   private static final String TASKANA_ADAPTER_OUTBOX_MAX_NUMBER_OF_EVENTS =
       "taskana.adapter.outbox.max.number.of.events";
+  private static final String TASKANA_ADAPTER_OUTBOX_FETCH_SIZE =
+      "taskana.adapter.outbox.fetch.size";
   private static final String TASKANA_ADAPTER_OUTBOX_DURATION_BETWEEN_TASK_CREATION_RETRIES =
       "taskana.adapter.outbox.duration.between.task.creation.retries";
+  private static final String TASKANA_ADAPTER_OUTBOX_LEASE_DURATION =
+      "taskana.adapter.outbox.lease.duration";
+  private static final String TASKANA_ADAPTER_OUTBOX_ORDERED_PER_TASK =
+      "taskana.adapter.outbox.ordered.per.task";
+  private static final String TASKANA_ADAPTER_OUTBOX_LONG_POLL_MAX_WAIT =
+      "taskana.adapter.outbox.long.poll.max.wait";
+  private static final String TASKANA_ADAPTER_OUTBOX_LONG_POLL_CHECK_INTERVAL =
+      "taskana.adapter.outbox.long.poll.check.interval";
+  private static final String TASKANA_ADAPTER_OUTBOX_SSE_HEARTBEAT_INTERVAL =
+      "taskana.adapter.outbox.sse.heartbeat.interval";
+  private static final String TASKANA_ADAPTER_OUTBOX_SSE_MAX_DURATION =
+      "taskana.adapter.outbox.sse.max.duration";
+  private static final String TASKANA_ADAPTER_OUTBOX_RESPONSE_COMPRESSION_ENABLED =
+      "taskana.adapter.outbox.response.compression.enabled";
+  private static final String TASKANA_ADAPTER_OUTBOX_DATASOURCE_POOL_TYPE =
+      "taskana.adapter.outbox.datasource.pool.type";
+  private static final String TASKANA_ADAPTER_OUTBOX_DATASOURCE_POOL_MAX_SIZE =
+      "taskana.adapter.outbox.datasource.pool.max.size";
+  private static final String TASKANA_ADAPTER_OUTBOX_DATASOURCE_POOL_MIN_IDLE =
+      "taskana.adapter.outbox.datasource.pool.min.idle";
+  private static final String TASKANA_ADAPTER_OUTBOX_DATASOURCE_POOL_IDLE_TIMEOUT =
+      "taskana.adapter.outbox.datasource.pool.idle.timeout";
+  private static final String TASKANA_ADAPTER_OUTBOX_DATASOURCE_POOL_CONNECTION_TIMEOUT =
+      "taskana.adapter.outbox.datasource.pool.connection.timeout";
+  private static final String TASKANA_ADAPTER_OUTBOX_DATASOURCE_POOL_VALIDATION_TIMEOUT =
+      "taskana.adapter.outbox.datasource.pool.validation.timeout";
   private static final String OUTBOX_SYSTEM_PROPERTY = "taskana.outbox.properties";
 
   private static final String OUTBOX_SCHEMA_DEFAULT = "taskana_tables";
   private static final int MAX_NUMBER_OF_EVENTS_DEFAULT = 50;
+  private static final int FETCH_SIZE_DEFAULT = 100;
   private static final Duration DURATION_BETWEEN_TASK_CREATION_RETRIES_DEFAULT =
       Duration.ofHours(1);
+  private static final Duration LEASE_DURATION_DEFAULT = Duration.ofMinutes(5);
+  private static final Duration LONG_POLL_MAX_WAIT_DEFAULT = Duration.ofSeconds(30);
+  private static final Duration LONG_POLL_CHECK_INTERVAL_DEFAULT = Duration.ofMillis(200);
+  private static final Duration SSE_HEARTBEAT_INTERVAL_DEFAULT = Duration.ofSeconds(2);
+  private static final Duration SSE_MAX_DURATION_DEFAULT = Duration.ofMinutes(5);
+  private static final String DATASOURCE_POOL_TYPE_DEFAULT = "hikari";
+  private static final int DATASOURCE_POOL_MAX_SIZE_DEFAULT = 10;
+  private static final int DATASOURCE_POOL_MIN_IDLE_DEFAULT = 2;
+  private static final Duration DATASOURCE_POOL_IDLE_TIMEOUT_DEFAULT = Duration.ofMinutes(10);
+  private static final Duration DATASOURCE_POOL_CONNECTION_TIMEOUT_DEFAULT =
+      Duration.ofSeconds(30);
+  private static final Duration DATASOURCE_POOL_VALIDATION_TIMEOUT_DEFAULT =
+      Duration.ofSeconds(5);
 
   private static final Logger LOGGER = LoggerFactory.getLogger(OutboxRestConfiguration.class);
 
@@ -125,6 +167,10 @@ public class OutboxRestConfiguration {
     return maxNumberOfEventsReturned;
   }
 
+  public static int getOutboxFetchSize() {
+    return getIntProperty(TASKANA_ADAPTER_OUTBOX_FETCH_SIZE, FETCH_SIZE_DEFAULT);
+  }
+
   public static Duration getDurationBetweenTaskCreationRetries() {
 
     String durationBetweentaskCreationRetriesProperty =
@@ -154,6 +200,126 @@ public class OutboxRestConfiguration {
     }
   }
 
+  public static Duration getLeaseDuration() {
+    return getDurationProperty(TASKANA_ADAPTER_OUTBOX_LEASE_DURATION, LEASE_DURATION_DEFAULT);
+  }
+
+  public static boolean getOrderedPerTask() {
+
+    String orderedPerTaskProperty =
+        getInstance().outboxProperties.getProperty(TASKANA_ADAPTER_OUTBOX_ORDERED_PER_TASK);
+
+    return orderedPerTaskProperty != null && Boolean.parseBoolean(orderedPerTaskProperty.trim());
+  }
+
+  public static Duration getLongPollMaxWait() {
+    return getDurationProperty(
+        TASKANA_ADAPTER_OUTBOX_LONG_POLL_MAX_WAIT, LONG_POLL_MAX_WAIT_DEFAULT);
+  }
+
+  public static Duration getLongPollCheckInterval() {
+    return getDurationProperty(
+        TASKANA_ADAPTER_OUTBOX_LONG_POLL_CHECK_INTERVAL, LONG_POLL_CHECK_INTERVAL_DEFAULT);
+  }
+
+  public static Duration getSseHeartbeatInterval() {
+    return getDurationProperty(
+        TASKANA_ADAPTER_OUTBOX_SSE_HEARTBEAT_INTERVAL, SSE_HEARTBEAT_INTERVAL_DEFAULT);
+  }
+
+  public static Duration getSseMaxDuration() {
+    return getDurationProperty(TASKANA_ADAPTER_OUTBOX_SSE_MAX_DURATION, SSE_MAX_DURATION_DEFAULT);
+  }
+
+  public static boolean getResponseCompressionEnabled() {
+
+    String responseCompressionProperty =
+        getInstance()
+            .outboxProperties
+            .getProperty(TASKANA_ADAPTER_OUTBOX_RESPONSE_COMPRESSION_ENABLED);
+
+    return responseCompressionProperty == null
+        || Boolean.parseBoolean(responseCompressionProperty.trim());
+  }
+
+  public static String getOutboxDatasourcePoolType() {
+
+    String poolType =
+        getInstance().outboxProperties.getProperty(TASKANA_ADAPTER_OUTBOX_DATASOURCE_POOL_TYPE);
+
+    if (poolType == null || poolType.trim().isEmpty()) {
+      return DATASOURCE_POOL_TYPE_DEFAULT;
+    }
+    return poolType.trim().toLowerCase();
+  }
+
+  public static int getOutboxDatasourcePoolMaxSize() {
+    return getIntProperty(
+        TASKANA_ADAPTER_OUTBOX_DATASOURCE_POOL_MAX_SIZE, DATASOURCE_POOL_MAX_SIZE_DEFAULT);
+  }
+
+  public static int getOutboxDatasourcePoolMinIdle() {
+    return getIntProperty(
+        TASKANA_ADAPTER_OUTBOX_DATASOURCE_POOL_MIN_IDLE, DATASOURCE_POOL_MIN_IDLE_DEFAULT);
+  }
+
+  public static Duration getOutboxDatasourcePoolIdleTimeout() {
+    return getDurationProperty(
+        TASKANA_ADAPTER_OUTBOX_DATASOURCE_POOL_IDLE_TIMEOUT, DATASOURCE_POOL_IDLE_TIMEOUT_DEFAULT);
+  }
+
+  public static Duration getOutboxDatasourcePoolConnectionTimeout() {
+    return getDurationProperty(
+        TASKANA_ADAPTER_OUTBOX_DATASOURCE_POOL_CONNECTION_TIMEOUT,
+        DATASOURCE_POOL_CONNECTION_TIMEOUT_DEFAULT);
+  }
+
+  public static Duration getOutboxDatasourcePoolValidationTimeout() {
+    return getDurationProperty(
+        TASKANA_ADAPTER_OUTBOX_DATASOURCE_POOL_VALIDATION_TIMEOUT,
+        DATASOURCE_POOL_VALIDATION_TIMEOUT_DEFAULT);
+  }
+
+  private static int getIntProperty(String propertyName, int defaultValue) {
+
+    String property = getInstance().outboxProperties.getProperty(propertyName);
+
+    if (property == null || property.trim().isEmpty()) {
+      return defaultValue;
+    }
+
+    try {
+      return Integer.parseInt(property.trim());
+    } catch (NumberFormatException e) {
+      LOGGER.warn(
+          String.format(
+              "Attempted to retrieve property %s and caught Exception. Setting default to %d ",
+              propertyName, defaultValue),
+          e);
+      return defaultValue;
+    }
+  }
+
+  private static Duration getDurationProperty(String propertyName, Duration defaultValue) {
+
+    String property = getInstance().outboxProperties.getProperty(propertyName);
+
+    if (property == null || property.trim().isEmpty()) {
+      return defaultValue;
+    }
+
+    try {
+      return Duration.parse(property.trim());
+    } catch (Exception e) {
+      LOGGER.warn(
+          String.format(
+              "Attempted to retrieve property %s and caught Exception. Setting default to %s ",
+              propertyName, defaultValue),
+          e);
+      return defaultValue;
+    }
+  }
+
   private void readPropertiesFromClasspath() {
     try (InputStream propertiesStream =
         this.getClass().getClassLoader().getResourceAsStream(TASKANA_OUTBOX_PROPERTIES)) {
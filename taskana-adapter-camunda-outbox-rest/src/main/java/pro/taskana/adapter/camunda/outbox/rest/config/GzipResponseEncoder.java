@@ -0,0 +1,92 @@
+package pro.taskana.adapter.camunda.outbox.rest.config;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses the responses of the outbox REST service with gzip if the client accepts it. The
+ * filter negotiates the encoding and sets the Content-Encoding header, the interceptor then
+ * compresses the entity while it is written, so streamed responses are compressed as well.
+ * Server-sent events are never compressed, because intermediaries and clients tend to buffer a
+ * compressed stream, which would hold the events back.
+ */
+public class GzipResponseEncoder implements ContainerResponseFilter, WriterInterceptor {
+
+  private static final String GZIP = "gzip";
+
+  @Override
+  public void filter(
+      ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+
+    if (!responseContext.hasEntity()
+        || responseContext.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)
+        || MediaType.SERVER_SENT_EVENTS_TYPE.isCompatible(responseContext.getMediaType())) {
+      return;
+    }
+
+    responseContext.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+    if (acceptsGzip(requestContext.getHeaderString(HttpHeaders.ACCEPT_ENCODING))) {
+      responseContext.getHeaders().putSingle(HttpHeaders.CONTENT_ENCODING, GZIP);
+    }
+  }
+
+  @Override
+  public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+
+    if (!GZIP.equals(context.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING))) {
+      context.proceed();
+      return;
+    }
+
+    // the length of the uncompressed entity doesn't apply to the compressed one
+    context.getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+
+    // sync flush passes each flush of a streamed response on to the client
+    GZIPOutputStream gzipOutputStream = new GZIPOutputStream(context.getOutputStream(), true);
+    context.setOutputStream(gzipOutputStream);
+    context.proceed();
+    gzipOutputStream.finish();
+  }
+
+  private static boolean acceptsGzip(String acceptEncoding) {
+
+    if (acceptEncoding == null) {
+      return false;
+    }
+
+    for (String coding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+      String[] codingAndParameters = coding.split(";");
+      String name = codingAndParameters[0].trim();
+      if ((GZIP.equals(name) || "x-gzip".equals(name))
+          && !isRejected(codingAndParameters)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // a quality value of 0 marks the coding as not acceptable
+  private static boolean isRejected(String[] codingAndParameters) {
+
+    for (int i = 1; i < codingAndParameters.length; i++) {
+      String parameter = codingAndParameters[i].replace(" ", "");
+      if (parameter.startsWith("q=")) {
+        try {
+          return Double.parseDouble(parameter.substring(2)) <= 0;
+        } catch (NumberFormatException e) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+}
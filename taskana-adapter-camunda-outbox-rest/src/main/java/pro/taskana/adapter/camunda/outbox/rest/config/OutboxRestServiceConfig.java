@@ -4,16 +4,24 @@ import jakarta.ws.rs.ApplicationPath;
 import jakarta.ws.rs.core.Application;
 import java.util.HashSet;
 import java.util.Set;
+import pro.taskana.adapter.camunda.OutboxRestConfiguration;
+import pro.taskana.adapter.camunda.outbox.rest.controller.CamundaTaskController;
 import pro.taskana.adapter.camunda.outbox.rest.controller.CamundaTaskEventsController;
+import pro.taskana.adapter.camunda.outbox.rest.exception.CamundaAuthorizationExceptionMapper;
 import pro.taskana.adapter.camunda.outbox.rest.exception.CamundaTaskEventNotFoundExceptionMapper;
+import pro.taskana.adapter.camunda.outbox.rest.exception.CamundaTaskNotFoundExceptionMapper;
 import pro.taskana.adapter.camunda.outbox.rest.exception.InvalidArgumentExceptionMapper;
 import pro.taskana.adapter.camunda.outbox.rest.exception.JsonParseExceptionMapper;
 import pro.taskana.adapter.camunda.outbox.rest.exception.MismatchedInputExceptionMapper;
+import pro.taskana.adapter.camunda.outbox.rest.exception.NotAuthenticatedExceptionMapper;
+import pro.taskana.adapter.camunda.outbox.rest.exception.ProcessEngineNotAvailableExceptionMapper;
 
 /** Configures the outbox REST service. */
 @ApplicationPath("/outbox-rest")
 public class OutboxRestServiceConfig extends Application {
 
+  private static final String PROCESS_ENGINES_CLASS = "org.camunda.bpm.engine.ProcessEngines";
+
   @Override
   public Set<Class<?>> getClasses() {
     Set<Class<?>> classesToBeScanned = new HashSet<>();
@@ -22,6 +30,27 @@ public class OutboxRestServiceConfig extends Application {
     classesToBeScanned.add(CamundaTaskEventNotFoundExceptionMapper.class);
     classesToBeScanned.add(JsonParseExceptionMapper.class);
     classesToBeScanned.add(MismatchedInputExceptionMapper.class);
+    if (OutboxRestConfiguration.getResponseCompressionEnabled()) {
+      classesToBeScanned.add(GzipResponseEncoder.class);
+    }
+    if (isProcessEngineAvailable()) {
+      classesToBeScanned.add(CamundaTaskController.class);
+      classesToBeScanned.add(CamundaTaskNotFoundExceptionMapper.class);
+      classesToBeScanned.add(CamundaAuthorizationExceptionMapper.class);
+      classesToBeScanned.add(NotAuthenticatedExceptionMapper.class);
+      classesToBeScanned.add(ProcessEngineNotAvailableExceptionMapper.class);
+    }
     return classesToBeScanned;
   }
+
+  // the process engine is a provided dependency, so tasks can only be completed if the outbox
+  // REST service is deployed next to it
+  private boolean isProcessEngineAvailable() {
+    try {
+      Class.forName(PROCESS_ENGINES_CLASS, false, getClass().getClassLoader());
+      return true;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
 }
@@ -0,0 +1,26 @@
+package pro.taskana.adapter.camunda.outbox.rest.config;
+
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import jakarta.servlet.annotation.WebListener;
+import pro.taskana.adapter.camunda.outbox.rest.service.OutboxDataSourceProvider;
+import pro.taskana.adapter.camunda.outbox.rest.service.OutboxEventWatcher;
+
+/**
+ * Stops the threads and closes the connection pool of the outbox REST service when its web
+ * application is shut down.
+ */
+@WebListener
+public class OutboxRestServiceLifecycleListener implements ServletContextListener {
+
+  @Override
+  public void contextInitialized(ServletContextEvent servletContextEvent) {
+    // the threads are started when they are first needed
+  }
+
+  @Override
+  public void contextDestroyed(ServletContextEvent servletContextEvent) {
+    OutboxEventWatcher.getInstance().stop();
+    OutboxDataSourceProvider.close();
+  }
+}
@@ -0,0 +1,119 @@
+package pro.taskana.adapter.camunda.outbox.rest.controller;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.GenericEntity;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.SecurityContext;
+import java.util.List;
+import pro.taskana.adapter.camunda.outbox.rest.exception.CamundaTaskNotFoundException;
+import pro.taskana.adapter.camunda.outbox.rest.exception.InvalidArgumentException;
+import pro.taskana.adapter.camunda.outbox.rest.exception.NotAuthenticatedException;
+import pro.taskana.adapter.camunda.outbox.rest.exception.ProcessEngineNotAvailableException;
+import pro.taskana.adapter.camunda.outbox.rest.model.CamundaTaskResult;
+import pro.taskana.adapter.camunda.outbox.rest.service.CamundaTaskCaller;
+import pro.taskana.adapter.camunda.outbox.rest.service.CamundaTaskService;
+
+/**
+ * Controller for the completion, the claim and the cancellation of claims of camunda tasks. It is
+ * only available if the outbox REST service runs with the camunda process engine. The bulk
+ * requests answer with the result of each task, so that one failing task doesn't fail the others.
+ * The optional query parameter "engine" names the process engine of the tasks.
+ */
+@Path(Mapping.URL_TASKS)
+public class CamundaTaskController {
+
+  private static final String ENGINE = "engine";
+
+  CamundaTaskService camundaTaskService = new CamundaTaskService();
+
+  @Path(Mapping.URL_COMPLETE_TASK)
+  @POST
+  @Consumes(MediaType.APPLICATION_JSON)
+  public Response completeTask(
+      @PathParam("taskId") String taskId,
+      @QueryParam(ENGINE) String engineName,
+      @HeaderParam(HttpHeaders.AUTHORIZATION) String authorization,
+      @Context SecurityContext securityContext,
+      String body)
+      throws CamundaTaskNotFoundException,
+          InvalidArgumentException,
+          ProcessEngineNotAvailableException,
+          NotAuthenticatedException {
+
+    camundaTaskService.completeTask(
+        taskId, body, engineName, getCaller(authorization, securityContext));
+
+    return Response.status(204).build();
+  }
+
+  @Path(Mapping.URL_COMPLETE_TASKS)
+  @POST
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  public Response completeTasks(
+      @QueryParam(ENGINE) String engineName,
+      @HeaderParam(HttpHeaders.AUTHORIZATION) String authorization,
+      @Context SecurityContext securityContext,
+      String body)
+      throws InvalidArgumentException,
+          ProcessEngineNotAvailableException,
+          NotAuthenticatedException {
+
+    CamundaTaskCaller caller = getCaller(authorization, securityContext);
+    return toResponse(camundaTaskService.completeTasks(body, engineName, caller));
+  }
+
+  @Path(Mapping.URL_CLAIM_TASKS)
+  @POST
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  public Response claimTasks(
+      @QueryParam(ENGINE) String engineName,
+      @HeaderParam(HttpHeaders.AUTHORIZATION) String authorization,
+      @Context SecurityContext securityContext,
+      String body)
+      throws InvalidArgumentException,
+          ProcessEngineNotAvailableException,
+          NotAuthenticatedException {
+
+    CamundaTaskCaller caller = getCaller(authorization, securityContext);
+    return toResponse(camundaTaskService.claimTasks(body, engineName, caller));
+  }
+
+  @Path(Mapping.URL_CANCEL_CLAIM_TASKS)
+  @POST
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  public Response cancelClaimOfTasks(
+      @QueryParam(ENGINE) String engineName,
+      @HeaderParam(HttpHeaders.AUTHORIZATION) String authorization,
+      @Context SecurityContext securityContext,
+      String body)
+      throws InvalidArgumentException,
+          ProcessEngineNotAvailableException,
+          NotAuthenticatedException {
+
+    CamundaTaskCaller caller = getCaller(authorization, securityContext);
+    return toResponse(camundaTaskService.cancelClaimOfTasks(body, engineName, caller));
+  }
+
+  private static CamundaTaskCaller getCaller(
+      String authorization, SecurityContext securityContext) {
+    return CamundaTaskCaller.of(securityContext.getUserPrincipal(), authorization);
+  }
+
+  private static Response toResponse(List<CamundaTaskResult> results) {
+    GenericEntity<List<CamundaTaskResult>> entity =
+        new GenericEntity<List<CamundaTaskResult>>(results) {};
+    return Response.status(200).entity(entity).build();
+  }
+}
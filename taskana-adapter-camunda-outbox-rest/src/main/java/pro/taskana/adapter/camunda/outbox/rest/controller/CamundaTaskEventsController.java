@@ -3,23 +3,34 @@ package pro.taskana.adapter.camunda.outbox.rest.controller;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.PATCH;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.core.UriBuilder;
 import jakarta.ws.rs.core.UriInfo;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
 import pro.taskana.adapter.camunda.outbox.rest.exception.CamundaTaskEventNotFoundException;
 import pro.taskana.adapter.camunda.outbox.rest.exception.InvalidArgumentException;
 import pro.taskana.adapter.camunda.outbox.rest.model.CamundaTaskEvent;
 import pro.taskana.adapter.camunda.outbox.rest.model.CamundaTaskEventList;
+import pro.taskana.adapter.camunda.outbox.rest.model.OutboxPoolMetrics;
 import pro.taskana.adapter.camunda.outbox.rest.resource.CamundaTaskEventListResource;
 import pro.taskana.adapter.camunda.outbox.rest.resource.CamundaTaskEventListResourceAssembler;
 import pro.taskana.adapter.camunda.outbox.rest.resource.CamundaTaskEventResource;
@@ -33,6 +44,10 @@ import spinjar.com.fasterxml.jackson.databind.ObjectMapper;
 @Path(Mapping.URL_EVENTS)
 public class CamundaTaskEventsController {
 
+  public static final String APPLICATION_NDJSON = "application/x-ndjson";
+  private static final String SERVER_SENT_EVENTS_WITH_LOW_QUALITY =
+      MediaType.SERVER_SENT_EVENTS + ";qs=0.1";
+
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
   CamundaTaskEventsService camundaTaskEventService = new CamundaTaskEventsService();
@@ -41,22 +56,86 @@ public class CamundaTaskEventsController {
   CamundaTaskEventListResourceAssembler camundaTaskEventListResourceAssembler =
       new CamundaTaskEventListResourceAssembler();
 
+  // a long poll with the max-wait param is suspended while it waits for events, so that it
+  // doesn't hold a thread of the servlet container
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public Response getEvents(@Context UriInfo uriInfo) throws InvalidArgumentException {
-
-    CamundaTaskEventList camundaTaskEventList = new CamundaTaskEventList();
+  public void getEvents(
+      @Context UriInfo uriInfo,
+      @Context Request request,
+      @Context HttpHeaders httpHeaders,
+      @Suspended AsyncResponse asyncResponse)
+      throws InvalidArgumentException {
 
     MultivaluedMap<String, String> filterParams = uriInfo.getQueryParameters();
 
-    List<CamundaTaskEvent> camundaTaskEvents = camundaTaskEventService.getEvents(filterParams);
+    // leasing changes the outbox, so a leased response must always be delivered
+    boolean isLeasing = filterParams.containsKey(CamundaTaskEventsService.LEASE_OWNER);
+
+    // the version of the events is checked before they are loaded. A long poll for events that
+    // the client doesn't have yet waits for them instead
+    if (!isLeasing) {
+      String eventsVersion = camundaTaskEventService.getEventsVersion(filterParams);
+      if (eventsVersion != null && !isWaitingForNewEvents(filterParams, eventsVersion)) {
+        Response.ResponseBuilder notModified =
+            request.evaluatePreconditions(getEntityTag(eventsVersion));
+        if (notModified != null) {
+          asyncResponse.resume(notModified.build());
+          return;
+        }
+      }
+    }
 
-    camundaTaskEventList.setCamundaTaskEvents(camundaTaskEvents);
+    // the context objects are bound to the request thread, but the events may arrive on another one
+    List<String> ifNoneMatch = httpHeaders.getRequestHeader(HttpHeaders.IF_NONE_MATCH);
+    UriBuilder requestUriBuilder = uriInfo.getRequestUriBuilder();
+    int limit = camundaTaskEventService.getLimit(filterParams);
+    camundaTaskEventService
+        .getEvents(filterParams)
+        .whenComplete(
+            (camundaTaskEvents, e) -> {
+              // the response must be resumed in any case, otherwise the client waits forever
+              try {
+                if (e != null) {
+                  asyncResponse.resume(e instanceof CompletionException ? e.getCause() : e);
+                } else {
+                  asyncResponse.resume(
+                      toEventsResponse(
+                          requestUriBuilder, ifNoneMatch, isLeasing, limit, camundaTaskEvents));
+                }
+              } catch (RuntimeException responseException) {
+                asyncResponse.resume(responseException);
+              }
+            });
+  }
 
-    CamundaTaskEventListResource camundaTaskEventListResource =
-        camundaTaskEventListResourceAssembler.toResource(camundaTaskEventList);
+  // selected with the Accept header application/x-ndjson, writes one event per line while reading
+  // them from the database instead of building the whole list in memory
+  @GET
+  @Produces(APPLICATION_NDJSON)
+  public Response streamEvents(@Context UriInfo uriInfo) throws InvalidArgumentException {
 
-    return Response.status(200).entity(camundaTaskEventListResource).build();
+    StreamingOutput events = camundaTaskEventService.streamEvents(uriInfo.getQueryParameters());
+
+    return Response.status(200).entity(events).build();
+  }
+
+  // selected with the Accept header text/event-stream, keeps the response open and pushes new
+  // events to the client. A client resumes a dropped stream with the Last-Event-ID header. The
+  // low quality makes sure that clients that accept any media type still get a list of events
+  @GET
+  @Produces(SERVER_SENT_EVENTS_WITH_LOW_QUALITY)
+  public Response subscribeEvents(
+      @Context UriInfo uriInfo, @HeaderParam(HttpHeaders.LAST_EVENT_ID_HEADER) String lastEventId)
+      throws InvalidArgumentException {
+
+    StreamingOutput events =
+        camundaTaskEventService.streamServerSentEvents(uriInfo.getQueryParameters(), lastEventId);
+
+    return Response.status(200)
+        .entity(events)
+        .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+        .build();
   }
 
   @Path(Mapping.URL_EVENT)
@@ -144,17 +223,13 @@ public class CamundaTaskEventsController {
 
     int remainingRetries = Integer.parseInt(retries);
 
-    List<CamundaTaskEvent> camundaTaskEvents =
+    int updatedEventsCount =
         camundaTaskEventService.setRemainingRetriesForMultipleEvents(
             remainingRetries, retriesToSet);
 
-    CamundaTaskEventList camundaTaskEventList = new CamundaTaskEventList();
-    camundaTaskEventList.setCamundaTaskEvents(camundaTaskEvents);
-
-    CamundaTaskEventListResource camundaTaskEventListResource =
-        camundaTaskEventListResourceAssembler.toResource(camundaTaskEventList);
-
-    return Response.status(200).entity(camundaTaskEventListResource).build();
+    return Response.status(200)
+        .entity("{\"eventsCount\":" + updatedEventsCount + "}")
+        .build();
   }
 
   @Path(Mapping.URL_EVENT)
@@ -176,6 +251,16 @@ public class CamundaTaskEventsController {
     return Response.status(204).build();
   }
 
+  @GET
+  @Path(Mapping.URL_POOL_METRICS)
+  @Produces(MediaType.APPLICATION_JSON)
+  public Response getPoolMetrics() {
+
+    OutboxPoolMetrics poolMetrics = camundaTaskEventService.getPoolMetrics();
+
+    return Response.status(200).entity(poolMetrics).build();
+  }
+
   @GET
   @Path(Mapping.URL_COUNT_FAILED_EVENTS)
   @Produces(MediaType.APPLICATION_JSON)
@@ -185,4 +270,69 @@ public class CamundaTaskEventsController {
 
     return Response.status(200).entity(failedEventsCount).build();
   }
+
+  private Response toEventsResponse(
+      UriBuilder requestUriBuilder,
+      List<String> ifNoneMatch,
+      boolean isLeasing,
+      int limit,
+      List<CamundaTaskEvent> camundaTaskEvents) {
+
+    // the events may have changed since their version was checked
+    EntityTag entityTag = null;
+    if (!isLeasing) {
+      entityTag = getEntityTag(camundaTaskEventService.getEventsVersion(camundaTaskEvents));
+      if (matchesAny(ifNoneMatch, entityTag)) {
+        return Response.notModified(entityTag).build();
+      }
+    }
+
+    CamundaTaskEventList camundaTaskEventList = new CamundaTaskEventList();
+    camundaTaskEventList.setCamundaTaskEvents(camundaTaskEvents);
+
+    CamundaTaskEventListResource camundaTaskEventListResource =
+        camundaTaskEventListResourceAssembler.toResource(camundaTaskEventList);
+
+    // a full page indicates that there may be more events behind the last one
+    if (!camundaTaskEvents.isEmpty() && camundaTaskEvents.size() >= limit) {
+      int lastId = camundaTaskEvents.get(camundaTaskEvents.size() - 1).getId();
+      camundaTaskEventListResource.setNextPage(
+          requestUriBuilder
+              .replaceQueryParam(CamundaTaskEventsService.AFTER_ID, lastId)
+              .build()
+              .toString());
+    }
+
+    return Response.status(200).entity(camundaTaskEventListResource).tag(entityTag).build();
+  }
+
+  private boolean isWaitingForNewEvents(
+      MultivaluedMap<String, String> filterParams, String eventsVersion) {
+    return filterParams.containsKey(CamundaTaskEventsService.MAX_WAIT)
+        && eventsVersion.equals(
+            camundaTaskEventService.getEventsVersion(Collections.emptyList()));
+  }
+
+  // the weak comparison of an If-None-Match header, like Request.evaluatePreconditions does it
+  private static boolean matchesAny(List<String> ifNoneMatch, EntityTag entityTag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    for (String headerValue : ifNoneMatch) {
+      for (String tag : headerValue.split(",")) {
+        String trimmedTag = tag.trim();
+        if ("*".equals(trimmedTag)
+            || EntityTag.valueOf(trimmedTag).getValue().equals(entityTag.getValue())) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  // the tag changes with every change of the returned events. It is weak, because the response
+  // may be compressed, which changes its bytes but not its content
+  private EntityTag getEntityTag(String eventsVersion) {
+    return new EntityTag(eventsVersion, true);
+  }
 }
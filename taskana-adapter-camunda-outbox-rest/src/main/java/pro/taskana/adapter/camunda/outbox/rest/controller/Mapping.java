@@ -10,6 +10,12 @@ public final class Mapping {
       URL_EVENT + "/decrease-remaining-retries";
   public static final String DELETE_FAILED_EVENTS = "/delete-failed-events";
   public static final String URL_COUNT_FAILED_EVENTS = "/count";
+  public static final String URL_POOL_METRICS = "/pool-metrics";
+  public static final String URL_TASKS = "/tasks";
+  public static final String URL_COMPLETE_TASK = "/{taskId}/complete";
+  public static final String URL_COMPLETE_TASKS = "/complete";
+  public static final String URL_CLAIM_TASKS = "/claim";
+  public static final String URL_CANCEL_CLAIM_TASKS = "/cancel-claim";
 
   private Mapping() {}
 }
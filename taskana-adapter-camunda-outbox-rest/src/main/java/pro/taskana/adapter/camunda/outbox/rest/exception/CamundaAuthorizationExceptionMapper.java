@@ -0,0 +1,16 @@
+package pro.taskana.adapter.camunda.outbox.rest.exception;
+
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import org.camunda.bpm.engine.AuthorizationException;
+
+/** Answers a camunda task operation that the process engine didn't authorize with 403. */
+public class CamundaAuthorizationExceptionMapper
+    implements ExceptionMapper<AuthorizationException> {
+
+  @Override
+  public Response toResponse(AuthorizationException exception) {
+    return Response.status(Status.FORBIDDEN).entity(exception.toString()).build();
+  }
+}
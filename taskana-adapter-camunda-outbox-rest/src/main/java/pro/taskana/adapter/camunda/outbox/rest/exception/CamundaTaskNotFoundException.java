@@ -0,0 +1,14 @@
+package pro.taskana.adapter.camunda.outbox.rest.exception;
+
+import java.io.Serializable;
+
+public class CamundaTaskNotFoundException extends Exception implements Serializable {
+
+  public CamundaTaskNotFoundException(String msg) {
+    super(msg);
+  }
+
+  public CamundaTaskNotFoundException(String msg, Throwable cause) {
+    super(msg, cause);
+  }
+}
@@ -0,0 +1,14 @@
+package pro.taskana.adapter.camunda.outbox.rest.exception;
+
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+import jakarta.ws.rs.ext.ExceptionMapper;
+
+public class CamundaTaskNotFoundExceptionMapper
+    implements ExceptionMapper<CamundaTaskNotFoundException> {
+
+  @Override
+  public Response toResponse(CamundaTaskNotFoundException exception) {
+    return Response.status(Status.NOT_FOUND).entity(exception.toString()).build();
+  }
+}
@@ -0,0 +1,10 @@
+package pro.taskana.adapter.camunda.outbox.rest.exception;
+
+import java.io.Serializable;
+
+public class NotAuthenticatedException extends Exception implements Serializable {
+
+  public NotAuthenticatedException(String msg) {
+    super(msg);
+  }
+}
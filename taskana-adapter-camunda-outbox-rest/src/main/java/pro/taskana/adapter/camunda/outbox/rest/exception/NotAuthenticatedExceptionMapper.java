@@ -0,0 +1,17 @@
+package pro.taskana.adapter.camunda.outbox.rest.exception;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+import jakarta.ws.rs.ext.ExceptionMapper;
+
+public class NotAuthenticatedExceptionMapper implements ExceptionMapper<NotAuthenticatedException> {
+
+  @Override
+  public Response toResponse(NotAuthenticatedException exception) {
+    return Response.status(Status.UNAUTHORIZED)
+        .header(HttpHeaders.WWW_AUTHENTICATE, "Basic realm=\"outbox-rest\"")
+        .entity(exception.toString())
+        .build();
+  }
+}
@@ -0,0 +1,10 @@
+package pro.taskana.adapter.camunda.outbox.rest.exception;
+
+import java.io.Serializable;
+
+public class ProcessEngineNotAvailableException extends Exception implements Serializable {
+
+  public ProcessEngineNotAvailableException(String msg) {
+    super(msg);
+  }
+}
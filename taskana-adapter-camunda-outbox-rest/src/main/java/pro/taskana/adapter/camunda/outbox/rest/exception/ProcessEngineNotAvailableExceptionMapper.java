@@ -0,0 +1,14 @@
+package pro.taskana.adapter.camunda.outbox.rest.exception;
+
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+import jakarta.ws.rs.ext.ExceptionMapper;
+
+public class ProcessEngineNotAvailableExceptionMapper
+    implements ExceptionMapper<ProcessEngineNotAvailableException> {
+
+  @Override
+  public Response toResponse(ProcessEngineNotAvailableException exception) {
+    return Response.status(Status.SERVICE_UNAVAILABLE).entity(exception.toString()).build();
+  }
+}
@@ -0,0 +1,40 @@
+package pro.taskana.adapter.camunda.outbox.rest.model;
+
+import java.io.Serializable;
+
+/** POJO that represents the result of an operation on a single camunda task of a bulk request. */
+public class CamundaTaskResult implements Serializable {
+
+  private String taskId;
+  private int status;
+  private String error;
+
+  public String getTaskId() {
+    return taskId;
+  }
+
+  public void setTaskId(String taskId) {
+    this.taskId = taskId;
+  }
+
+  public int getStatus() {
+    return status;
+  }
+
+  public void setStatus(int status) {
+    this.status = status;
+  }
+
+  public String getError() {
+    return error;
+  }
+
+  public void setError(String error) {
+    this.error = error;
+  }
+
+  @Override
+  public String toString() {
+    return "CamundaTaskResult [taskId=" + taskId + ", status=" + status + ", error=" + error + "]";
+  }
+}
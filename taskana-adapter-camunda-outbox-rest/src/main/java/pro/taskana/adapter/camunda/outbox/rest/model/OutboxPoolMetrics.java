@@ -0,0 +1,104 @@
+package pro.taskana.adapter.camunda.outbox.rest.model;
+
+import java.io.Serializable;
+
+/**
+ * POJO that represents the state of the connection pool of the outbox. The connection counts are
+ * null if the pool doesn't provide them, e.g. for a datasource that is looked up via JNDI.
+ */
+public class OutboxPoolMetrics implements Serializable {
+
+  private String poolType;
+  private Integer activeConnections;
+  private Integer idleConnections;
+  private Integer totalConnections;
+  private Integer pendingRequests;
+  private long acquireCount;
+  private double averageAcquireTimeMillis;
+  private double maxAcquireTimeMillis;
+
+  public String getPoolType() {
+    return poolType;
+  }
+
+  public void setPoolType(String poolType) {
+    this.poolType = poolType;
+  }
+
+  public Integer getActiveConnections() {
+    return activeConnections;
+  }
+
+  public void setActiveConnections(Integer activeConnections) {
+    this.activeConnections = activeConnections;
+  }
+
+  public Integer getIdleConnections() {
+    return idleConnections;
+  }
+
+  public void setIdleConnections(Integer idleConnections) {
+    this.idleConnections = idleConnections;
+  }
+
+  public Integer getTotalConnections() {
+    return totalConnections;
+  }
+
+  public void setTotalConnections(Integer totalConnections) {
+    this.totalConnections = totalConnections;
+  }
+
+  public Integer getPendingRequests() {
+    return pendingRequests;
+  }
+
+  public void setPendingRequests(Integer pendingRequests) {
+    this.pendingRequests = pendingRequests;
+  }
+
+  public long getAcquireCount() {
+    return acquireCount;
+  }
+
+  public void setAcquireCount(long acquireCount) {
+    this.acquireCount = acquireCount;
+  }
+
+  public double getAverageAcquireTimeMillis() {
+    return averageAcquireTimeMillis;
+  }
+
+  public void setAverageAcquireTimeMillis(double averageAcquireTimeMillis) {
+    this.averageAcquireTimeMillis = averageAcquireTimeMillis;
+  }
+
+  public double getMaxAcquireTimeMillis() {
+    return maxAcquireTimeMillis;
+  }
+
+  public void setMaxAcquireTimeMillis(double maxAcquireTimeMillis) {
+    this.maxAcquireTimeMillis = maxAcquireTimeMillis;
+  }
+
+  @Override
+  public String toString() {
+    return "OutboxPoolMetrics [poolType="
+        + poolType
+        + ", activeConnections="
+        + activeConnections
+        + ", idleConnections="
+        + idleConnections
+        + ", totalConnections="
+        + totalConnections
+        + ", pendingRequests="
+        + pendingRequests
+        + ", acquireCount="
+        + acquireCount
+        + ", averageAcquireTimeMillis="
+        + averageAcquireTimeMillis
+        + ", maxAcquireTimeMillis="
+        + maxAcquireTimeMillis
+        + "]";
+  }
+}
@@ -11,6 +11,7 @@ import pro.taskana.adapter.camunda.outbox.rest.model.CamundaTaskEvent;
 public class CamundaTaskEventListResource implements Serializable {
 
   private List<CamundaTaskEvent> camundaTaskEvents;
+  private String nextPage;
 
   public CamundaTaskEventListResource() {}
 
@@ -26,4 +27,17 @@ public class CamundaTaskEventListResource implements Serializable {
   public void setCamundaTaskEvents(List<CamundaTaskEvent> theResources) {
     this.camundaTaskEvents = theResources;
   }
+
+  /**
+   * Returns the link to the next page of events.
+   *
+   * @return the link or null if there are no more events
+   */
+  public String getNextPage() {
+    return nextPage;
+  }
+
+  public void setNextPage(String nextPage) {
+    this.nextPage = nextPage;
+  }
 }
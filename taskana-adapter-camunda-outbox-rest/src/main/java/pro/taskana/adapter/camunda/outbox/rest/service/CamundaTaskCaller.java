@@ -0,0 +1,79 @@
+package pro.taskana.adapter.camunda.outbox.rest.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.Base64;
+
+/**
+ * The caller of a request for camunda tasks. A user that the servlet container authenticated takes
+ * precedence over the credentials of the basic authorization header of the request.
+ */
+public final class CamundaTaskCaller {
+
+  private static final String BASIC_PREFIX = "Basic ";
+
+  private final String authenticatedUserId;
+  private final String userId;
+  private final String password;
+
+  private CamundaTaskCaller(String authenticatedUserId, String userId, String password) {
+    this.authenticatedUserId = authenticatedUserId;
+    this.userId = userId;
+    this.password = password;
+  }
+
+  /**
+   * Creates the caller of a request.
+   *
+   * @param principal the user that the servlet container authenticated or null
+   * @param authorizationHeader the authorization header of the request or null
+   * @return the caller
+   */
+  public static CamundaTaskCaller of(Principal principal, String authorizationHeader) {
+
+    if (principal != null) {
+      return new CamundaTaskCaller(principal.getName(), null, null);
+    }
+
+    if (authorizationHeader != null
+        && authorizationHeader.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length())) {
+      try {
+        String credentials =
+            new String(
+                Base64.getDecoder()
+                    .decode(authorizationHeader.substring(BASIC_PREFIX.length()).trim()),
+                StandardCharsets.UTF_8);
+        int separator = credentials.indexOf(':');
+        if (separator > 0) {
+          return new CamundaTaskCaller(
+              null, credentials.substring(0, separator), credentials.substring(separator + 1));
+        }
+      } catch (IllegalArgumentException e) {
+        // a malformed header doesn't identify anybody
+      }
+    }
+
+    return anonymous();
+  }
+
+  /**
+   * Returns the caller without any identification.
+   *
+   * @return the anonymous caller
+   */
+  public static CamundaTaskCaller anonymous() {
+    return new CamundaTaskCaller(null, null, null);
+  }
+
+  String getAuthenticatedUserId() {
+    return authenticatedUserId;
+  }
+
+  String getUserId() {
+    return userId;
+  }
+
+  String getPassword() {
+    return password;
+  }
+}
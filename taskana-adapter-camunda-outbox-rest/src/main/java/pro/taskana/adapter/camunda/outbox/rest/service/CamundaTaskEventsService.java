@@ -1,7 +1,10 @@
 package pro.taskana.adapter.camunda.outbox.rest.service;
 
 import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.StreamingOutput;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -15,18 +18,19 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import javax.naming.InitialContext;
-import javax.naming.NamingException;
-import javax.sql.DataSource;
-import org.apache.ibatis.datasource.pooled.PooledDataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.taskana.adapter.camunda.OutboxRestConfiguration;
 import pro.taskana.adapter.camunda.outbox.rest.exception.CamundaTaskEventNotFoundException;
 import pro.taskana.adapter.camunda.outbox.rest.exception.InvalidArgumentException;
 import pro.taskana.adapter.camunda.outbox.rest.model.CamundaTaskEvent;
+import pro.taskana.adapter.camunda.outbox.rest.model.OutboxPoolMetrics;
 import spinjar.com.fasterxml.jackson.databind.JsonNode;
 import spinjar.com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -39,37 +43,90 @@ public class CamundaTaskEventsService {
   private static final String DELETE = "delete";
   private static final String RETRIES = "retries";
   private static final String TYPE = "type";
-
-  private static final List<String> ALLOWED_PARAMS = Stream.of(TYPE, RETRIES)
-      .collect(Collectors.toList());
+  public static final String LIMIT = "limit";
+  public static final String AFTER_ID = "after-id";
+  public static final String LEASE_OWNER = "lease-owner";
+  public static final String KEEP_PAYLOAD_ENCODING = "keep-payload-encoding";
+  public static final String MAX_WAIT = "max-wait";
+  private static final String POSTGRESQL = "PostgreSQL";
+  private static final int MAX_LEASE_OWNER_LENGTH = 128;
+  // the column was added last, so its position depends on the schema version it was added with
+  private static final String PAYLOAD_ENCODING_COLUMN = "payload_encoding";
+
+  private static final List<String> ALLOWED_PARAMS =
+      Stream.of(TYPE, RETRIES, LIMIT, AFTER_ID, LEASE_OWNER, KEEP_PAYLOAD_ENCODING, MAX_WAIT)
+          .collect(Collectors.toList());
 
   private static final String OUTBOX_SCHEMA = OutboxRestConfiguration.getOutboxSchema();
   private static final String SQL_GET_CREATE_EVENTS =
       "select * from %s.event_store where type = ? "
-          + "and remaining_retries>0 and blocked_until < ? fetch first %d rows only";
-  private static final String SQL_GET_ALL_EVENTS = "select * from %s.event_store";
+          + "and remaining_retries>0 and blocked_until < ? and id > ? "
+          + "order by id fetch first %d rows only";
+  private static final String SQL_GET_ALL_EVENTS =
+      "select * from %s.event_store where id > ? order by id fetch first %d rows only";
   private static final String SQL_GET_EVENT = "select * from %s.event_store where id = ? ";
   private static final String SQL_GET_COMPLETE_AND_DELETE_EVENTS =
-      "select * from %s.event_store where type = ? OR type = ? fetch first %d rows only";
+      "select * from %s.event_store e where (type = ? OR type = ?) and id > ?%s "
+          + "order by id fetch first %d rows only";
   private static final String SQL_GET_EVENTS_FILTERED_BY_RETRIES =
-      "select * from %s.event_store where remaining_retries = ?";
+      "select * from %s.event_store where remaining_retries = ? and id > ? "
+          + "order by id fetch first %d rows only";
+  private static final String SQL_GET_CREATE_EVENTS_TO_LEASE =
+      "select * from %s.event_store where type = ? "
+          + "and remaining_retries>0 and blocked_until < ? and id > ? "
+          + "and (lease_expire is null or lease_expire < ?) order by id";
+  private static final String SQL_GET_COMPLETE_AND_DELETE_EVENTS_TO_LEASE =
+      "select * from %s.event_store e where (type = ? OR type = ?) and id > ?%s "
+          + "and (lease_expire is null or lease_expire < ?) order by id";
+  // a complete or delete event waits until the create event of the same task was processed
+  private static final String SQL_NO_PENDING_CREATE_EVENT_OF_SAME_TASK =
+      " and not exists (select 1 from %s.event_store c where c.type = 'create' "
+          + "and c.remaining_retries > 0 and c.camunda_task_id = e.camunda_task_id "
+          + "and c.id < e.id)";
+  // the page of events is aggregated by the database, so its version is known without loading it
+  private static final String SQL_GET_EVENTS_VERSION =
+      "select count(id), max(id), sum(id), sum(remaining_retries) from (%s) matching_events";
+  private static final String SQL_FETCH_FIRST_ROWS = " fetch first %d rows only";
+  private static final String SQL_FOR_UPDATE_SKIP_LOCKED = " for update skip locked";
+  private static final String SQL_LEASE_EVENT =
+      "update %s.event_store set lease_owner = ?, lease_expire = ? "
+          + "where id = ? and (lease_expire is null or lease_expire < ?)";
+  private static final String SQL_GET_DATABASE_TIME =
+      "select current_timestamp from %s.outbox_schema_version fetch first 1 rows only";
   private static final String SQL_GET_EVENTS_COUNT =
       "select count(id) from %s.event_store where remaining_retries = ?";
   private static final String SQL_WITHOUT_PLACEHOLDERS_DELETE_EVENTS =
       "delete from %s.event_store where id in (%s)";
   private static final String SQL_DECREASE_REMAINING_RETRIES =
       "update %s.event_store set remaining_retries = remaining_retries-1, blocked_until = ?, "
-          + "error = ? where id = ?";
+          + "error = ?, lease_owner = null, lease_expire = null where id = ?";
   private static final String SQL_SET_REMAINING_RETRIES =
-      "update %s.event_store set remaining_retries = ? where id = ?";
+      "update %s.event_store set remaining_retries = ?, lease_owner = null, lease_expire = null "
+          + "where id = ?";
   private static final String SQL_SET_REMAINING_RETRIES_FOR_MULTIPLE_EVENTS =
-      "update %s.event_store set remaining_retries = ? where remaining_retries = ?";
+      "update %s.event_store set remaining_retries = ?, lease_owner = null, lease_expire = null "
+          + "where remaining_retries = ?";
   private static final String SQL_DELETE_FAILED_EVENT =
       "delete from %s.event_store where id = ? and remaining_retries <=0";
   private static final String SQL_DELETE_ALL_FAILED_EVENTS =
       "delete from %s.event_store where remaining_retries <= 0 ";
 
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final long LONG_POLL_MAX_WAIT_MILLIS =
+      OutboxRestConfiguration.getLongPollMaxWait().toMillis();
+  private static final int FETCH_SIZE = OutboxRestConfiguration.getOutboxFetchSize();
+  private static final long SSE_HEARTBEAT_INTERVAL_NANOS =
+      Math.max(1, OutboxRestConfiguration.getSseHeartbeatInterval().toNanos());
+  private static final long SSE_MAX_DURATION_NANOS =
+      OutboxRestConfiguration.getSseMaxDuration().toNanos();
+  // a comment line, which clients ignore, but which fails if the client is gone
+  private static final byte[] SSE_HEARTBEAT = ":\n\n".getBytes(StandardCharsets.UTF_8);
+  private static final String SSE_EVENT = "id: %d\nevent: %s\ndata: %s\n\n";
+  private static final String LAST_EVENT_ID = "Last-Event-ID";
+  private static final String ORDERED_PER_TASK_CONDITION =
+      OutboxRestConfiguration.getOrderedPerTask()
+          ? String.format(SQL_NO_PENDING_CREATE_EVENT_OF_SAME_TASK, OUTBOX_SCHEMA)
+          : "";
 
   private static int maxNumberOfEventsReturned = 0;
 
@@ -81,41 +138,311 @@ public class CamundaTaskEventsService {
         "Outbox Rest Api will return at max {} events per request", maxNumberOfEventsReturned);
   }
 
-  private DataSource dataSource = null;
+  /**
+   * Returns the events that match the given parameters. If the max-wait param is set and no event
+   * matches, the result waits up to the given number of milliseconds, but not longer than the
+   * configured maximum, and is completed as soon as matching events show up in the outbox. No
+   * thread is blocked while it waits.
+   *
+   * @param filterParams the query parameters of the request
+   * @return the matching events, which may be empty
+   * @throws InvalidArgumentException if the request contains invalid parameters
+   */
+  public CompletionStage<List<CamundaTaskEvent>> getEvents(
+      MultivaluedMap<String, String> filterParams) throws InvalidArgumentException {
+
+    verifyNoInvalidParameters(filterParams);
+
+    int afterId = getAfterId(filterParams);
+    int limit = getLimit(filterParams);
+    Integer remainingRetries = getRetriesFilter(filterParams);
+    long deadlineNanos = System.nanoTime() + getMaxWaitNanos(filterParams);
+    boolean decodePayloads = !keepPayloadEncoding(filterParams);
+
+    return retrieveEventsWhenAvailable(
+            filterParams, remainingRetries, afterId, limit, deadlineNanos)
+        .thenApply(
+            camundaTaskEvents -> {
+              if (decodePayloads) {
+                camundaTaskEvents.forEach(OutboxPayloadCodec::decode);
+              }
+              if (LOGGER.isDebugEnabled()) {
+
+                LOGGER.debug(
+                    "outbox retrieved {} camundaTaskEvents: {}",
+                    camundaTaskEvents.size(),
+                    camundaTaskEvents.stream()
+                        .map(Object::toString)
+                        .collect(Collectors.joining(";\n")));
+              }
+              return camundaTaskEvents;
+            });
+  }
+
+  private CompletionStage<List<CamundaTaskEvent>> retrieveEventsWhenAvailable(
+      MultivaluedMap<String, String> filterParams,
+      Integer remainingRetries,
+      int afterId,
+      int limit,
+      long deadlineNanos)
+      throws InvalidArgumentException {
+
+    // the version is read before the query, so a change during the query isn't missed
+    OutboxEventWatcher outboxEventWatcher = OutboxEventWatcher.getInstance();
+    long observedVersion = outboxEventWatcher.getVersion();
+    List<CamundaTaskEvent> camundaTaskEvents =
+        retrieveEvents(filterParams, remainingRetries, afterId, limit);
+
+    if (!camundaTaskEvents.isEmpty() || deadlineNanos - System.nanoTime() <= 0) {
+      return CompletableFuture.completedFuture(camundaTaskEvents);
+    }
+
+    // the watcher thread completes the change, the query runs on another thread, so that it
+    // doesn't delay the watcher
+    return outboxEventWatcher
+        .whenChanged(observedVersion, deadlineNanos)
+        .thenComposeAsync(
+            changed -> {
+              if (!changed) {
+                return CompletableFuture.completedFuture(camundaTaskEvents);
+              }
+              try {
+                return retrieveEventsWhenAvailable(
+                    filterParams, remainingRetries, afterId, limit, deadlineNanos);
+              } catch (InvalidArgumentException e) {
+                CompletableFuture<List<CamundaTaskEvent>> failed = new CompletableFuture<>();
+                failed.completeExceptionally(e);
+                return failed;
+              }
+            });
+  }
+
+  private List<CamundaTaskEvent> retrieveEvents(
+      MultivaluedMap<String, String> filterParams, Integer remainingRetries, int afterId, int limit)
+      throws InvalidArgumentException {
+
+    List<CamundaTaskEvent> camundaTaskEvents = new ArrayList<>();
+
+    if (filterParams.containsKey(LEASE_OWNER)) {
+
+      camundaTaskEvents = leaseEvents(filterParams, afterId, limit);
+
+    } else {
+
+      try (Connection connection = getConnection();
+          PreparedStatement preparedStatement =
+              prepareGetEventsStatement(
+                  connection,
+                  filterParams,
+                  remainingRetries,
+                  afterId,
+                  limit,
+                  UnaryOperator.identity())) {
+
+        ResultSet camundaTaskEventResultSet = preparedStatement.executeQuery();
+        camundaTaskEvents = getCamundaTaskEvents(camundaTaskEventResultSet);
+
+      } catch (SQLException e) {
+        LOGGER.warn("Caught Exception while trying to retrieve events from the outbox", e);
+      }
+    }
+    return camundaTaskEvents;
+  }
 
-  public List<CamundaTaskEvent> getEvents(MultivaluedMap<String, String> filterParams)
+  /**
+   * Returns the version of the events that a request with the given parameters returns right now.
+   * It changes if events are added to or removed from the result or if their remaining retries
+   * change. The database computes it without loading the events, so a client that already has the
+   * current events can be answered without reading them. A request that leases events changes the
+   * outbox and therefore has no version.
+   *
+   * @param filterParams the query parameters of the request
+   * @return the version of the matching events, or null if it couldn't be retrieved
+   * @throws InvalidArgumentException if the request contains invalid parameters
+   */
+  public String getEventsVersion(MultivaluedMap<String, String> filterParams)
       throws InvalidArgumentException {
 
     verifyNoInvalidParameters(filterParams);
 
-    List<CamundaTaskEvent> camundaTaskEvents;
+    if (filterParams.containsKey(LEASE_OWNER)) {
+      throw new InvalidArgumentException("lease-owner param is not supported for a version");
+    }
 
-    if (filterParams.containsKey(TYPE) && filterParams.get(TYPE).contains(CREATE)) {
+    int afterId = getAfterId(filterParams);
+    int limit = getLimit(filterParams);
+    Integer remainingRetries = getRetriesFilter(filterParams);
 
-      camundaTaskEvents = getCreateEvents();
+    try (Connection connection = getConnection();
+        PreparedStatement preparedStatement =
+            prepareGetEventsStatement(
+                connection,
+                filterParams,
+                remainingRetries,
+                afterId,
+                limit,
+                sql -> String.format(SQL_GET_EVENTS_VERSION, sql));
+        ResultSet resultSet = preparedStatement.executeQuery()) {
+
+      resultSet.next();
+      // the max and the sums of no events are null, which are read as 0
+      return formatEventsVersion(
+          resultSet.getLong(1), resultSet.getLong(2), resultSet.getLong(3), resultSet.getLong(4));
 
-    } else if (filterParams.containsKey(TYPE)
-        && filterParams.get(TYPE).contains(DELETE)
-        && filterParams.get(TYPE).contains(COMPLETE)) {
+    } catch (SQLException e) {
+      LOGGER.warn("Caught Exception while trying to retrieve the version of outbox events", e);
+      return null;
+    }
+  }
 
-      camundaTaskEvents = getCompleteAndDeleteEvents();
+  /**
+   * Returns the version of the given events, which equals the version that {@link
+   * #getEventsVersion(MultivaluedMap)} returns for the request that retrieved them.
+   *
+   * @param camundaTaskEvents the events retrieved by a request
+   * @return the version of the events
+   */
+  public String getEventsVersion(List<CamundaTaskEvent> camundaTaskEvents) {
+
+    long maxId = 0;
+    long idSum = 0;
+    long remainingRetriesSum = 0;
+    for (CamundaTaskEvent camundaTaskEvent : camundaTaskEvents) {
+      maxId = Math.max(maxId, camundaTaskEvent.getId());
+      idSum += camundaTaskEvent.getId();
+      remainingRetriesSum += camundaTaskEvent.getRemainingRetries();
+    }
+    return formatEventsVersion(camundaTaskEvents.size(), maxId, idSum, remainingRetriesSum);
+  }
 
-    } else if (filterParams.containsKey(RETRIES) && filterParams.get(RETRIES) != null) {
+  /**
+   * Writes the events that match the given parameters as newline delimited JSON. The events are
+   * written one by one while they are read from the database, so the whole result is never held in
+   * memory. Therefore the result isn't capped by the configured maximum number of events, but only
+   * by an explicitly requested limit. Like all requests for events, it returns compressed payloads
+   * decoded unless the keep-payload-encoding param is set.
+   *
+   * @param filterParams the query parameters of the request
+   * @return the output that writes the events to the response
+   * @throws InvalidArgumentException if the request contains invalid parameters
+   */
+  public StreamingOutput streamEvents(MultivaluedMap<String, String> filterParams)
+      throws InvalidArgumentException {
 
-      int remainingRetries = getRetries(filterParams.get(RETRIES));
+    verifyNoInvalidParameters(filterParams);
 
-      camundaTaskEvents = getEventsFilteredByRetries(remainingRetries);
-    } else {
-      camundaTaskEvents = getAllEvents();
+    if (filterParams.containsKey(LEASE_OWNER)) {
+      throw new InvalidArgumentException("lease-owner param is not supported for streamed events");
+    }
+    if (filterParams.containsKey(MAX_WAIT)) {
+      throw new InvalidArgumentException("max-wait param is not supported for streamed events");
     }
-    if (LOGGER.isDebugEnabled()) {
 
-      LOGGER.debug(
-          "outbox retrieved {} camundaTaskEvents: {}",
-          camundaTaskEvents.size(),
-          camundaTaskEvents.stream().map(Object::toString).collect(Collectors.joining(";\n")));
+    int afterId = getAfterId(filterParams);
+    int limit =
+        filterParams.containsKey(LIMIT) ? getRequestedLimit(filterParams) : Integer.MAX_VALUE;
+    Integer remainingRetries = getRetriesFilter(filterParams);
+    boolean decodePayloads = !keepPayloadEncoding(filterParams);
+
+    return outputStream -> {
+      try (Connection connection = getConnection()) {
+        // some drivers (e.g. PostgreSQL) only use the fetch size outside of auto-commit mode
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement preparedStatement =
+            prepareGetEventsStatement(
+                connection,
+                filterParams,
+                remainingRetries,
+                afterId,
+                limit,
+                UnaryOperator.identity())) {
+
+          preparedStatement.setFetchSize(FETCH_SIZE);
+          writeCamundaTaskEvents(preparedStatement.executeQuery(), outputStream, decodePayloads);
+
+        } finally {
+          connection.rollback();
+          connection.setAutoCommit(autoCommit);
+        }
+      } catch (SQLException e) {
+        LOGGER.warn("Caught Exception while trying to stream events from the outbox", e);
+        throw new IOException("Streaming events from the outbox failed", e);
+      }
+    };
+  }
+
+  /**
+   * Writes the events that match the given parameters as server-sent events and keeps writing the
+   * matching events that show up in the outbox afterwards. Every event carries its id, so a client
+   * that reconnects with the Last-Event-ID header resumes after the last event it received. While
+   * no event shows up, a comment is written in the configured heartbeat interval, so a broken
+   * connection is noticed on both sides. The stream ends after the configured max duration and the
+   * client is expected to reconnect, so a subscription doesn't hold its request thread forever.
+   *
+   * <p>The stream only moves forward. An event that doesn't match when the stream passes it, e.g.
+   * a create event that is blocked until its next retry, is not written later on. Clients still
+   * have to poll for those events from time to time.
+   *
+   * @param filterParams the query parameters of the request
+   * @param lastEventId the value of the Last-Event-ID header, or null if the header isn't set
+   * @return the output that writes the events to the response
+   * @throws InvalidArgumentException if the request contains invalid parameters
+   */
+  public StreamingOutput streamServerSentEvents(
+      MultivaluedMap<String, String> filterParams, String lastEventId)
+      throws InvalidArgumentException {
+
+    verifyNoInvalidParameters(filterParams);
+
+    if (filterParams.containsKey(LIMIT) || filterParams.containsKey(MAX_WAIT)) {
+      throw new InvalidArgumentException(
+          "limit and max-wait params are not supported for server-sent events");
     }
-    return camundaTaskEvents;
+
+    int afterId =
+        lastEventId == null
+            ? getAfterId(filterParams)
+            : parseIntegerParam(Collections.singletonList(lastEventId.trim()), LAST_EVENT_ID);
+    Integer remainingRetries = getRetriesFilter(filterParams);
+    boolean decodePayloads = !keepPayloadEncoding(filterParams);
+
+    // the first events are retrieved right away, so invalid params are rejected with the response
+    long observedVersion = OutboxEventWatcher.getInstance().getVersion();
+    List<CamundaTaskEvent> firstEvents =
+        retrieveEvents(filterParams, remainingRetries, afterId, maxNumberOfEventsReturned);
+
+    return outputStream -> {
+      try {
+        writeServerSentEvents(
+            outputStream,
+            filterParams,
+            remainingRetries,
+            decodePayloads,
+            afterId,
+            observedVersion,
+            firstEvents);
+      } catch (InvalidArgumentException e) {
+        throw new IOException("Streaming server-sent events from the outbox failed", e);
+      }
+    };
+  }
+
+  /**
+   * Returns the maximum number of events that a request with the given parameters returns. It is
+   * the requested limit, but never more than the configured maximum number of events.
+   *
+   * @param filterParams the query parameters of the request
+   * @return the maximum number of events in the response
+   * @throws InvalidArgumentException if the requested limit is not a positive number
+   */
+  public int getLimit(MultivaluedMap<String, String> filterParams)
+      throws InvalidArgumentException {
+
+    if (!filterParams.containsKey(LIMIT)) {
+      return maxNumberOfEventsReturned;
+    }
+    return Math.min(getRequestedLimit(filterParams), maxNumberOfEventsReturned);
   }
 
   public void deleteEvents(String idsAsJsonArray) {
@@ -166,21 +493,28 @@ public class CamundaTaskEventsService {
   }
 
   public List<CamundaTaskEvent> getEventsFilteredByRetries(Integer remainingRetries) {
+    return getEventsFilteredByRetries(remainingRetries, 0, maxNumberOfEventsReturned);
+  }
+
+  public List<CamundaTaskEvent> getEventsFilteredByRetries(
+      Integer remainingRetries, int afterId, int limit) {
 
     List<CamundaTaskEvent> camundaTaskEventsFilteredByRetries = new ArrayList<>();
 
     String getEventsFilteredByRetriesSql =
-        String.format(SQL_GET_EVENTS_FILTERED_BY_RETRIES, OUTBOX_SCHEMA);
+        String.format(SQL_GET_EVENTS_FILTERED_BY_RETRIES, OUTBOX_SCHEMA, limit);
 
     try (Connection connection = getConnection();
         PreparedStatement preparedStatement =
             connection.prepareStatement(getEventsFilteredByRetriesSql)) {
 
       preparedStatement.setInt(1, remainingRetries);
+      preparedStatement.setInt(2, afterId);
 
       ResultSet camundaTaskEventFilteredByRetriesResultSet = preparedStatement.executeQuery();
       camundaTaskEventsFilteredByRetries =
           getCamundaTaskEvents(camundaTaskEventFilteredByRetriesResultSet);
+      camundaTaskEventsFilteredByRetries.forEach(OutboxPayloadCodec::decode);
 
     } catch (Exception e) {
       LOGGER.warn("Caught Exception while trying to retrieve failed events from the outbox", e);
@@ -236,13 +570,15 @@ public class CamundaTaskEventsService {
     return event;
   }
 
-  public List<CamundaTaskEvent> setRemainingRetriesForMultipleEvents(
-      int retries, int retriesToSet) {
-
-    List<CamundaTaskEvent> camundaTaskEventsFilteredByRetries = getEventsFilteredByRetries(retries);
-
-    camundaTaskEventsFilteredByRetries.forEach(
-        camundaTaskEvent -> camundaTaskEvent.setRemainingRetries(retriesToSet));
+  /**
+   * Sets the remaining retries of all events with the given remaining retries. The events are
+   * updated with a single statement and aren't loaded, since there may be a lot of them.
+   *
+   * @param retries the remaining retries of the events to update
+   * @param retriesToSet the remaining retries to set
+   * @return the number of updated events
+   */
+  public int setRemainingRetriesForMultipleEvents(int retries, int retriesToSet) {
 
     String setRemainingRetriesForAllFilteredByRetriesSql =
         String.format(SQL_SET_REMAINING_RETRIES_FOR_MULTIPLE_EVENTS, OUTBOX_SCHEMA);
@@ -253,7 +589,7 @@ public class CamundaTaskEventsService {
 
       preparedStatement.setInt(1, retriesToSet);
       preparedStatement.setInt(2, retries);
-      preparedStatement.execute();
+      return preparedStatement.executeUpdate();
 
     } catch (Exception e) {
       LOGGER.warn(
@@ -261,8 +597,7 @@ public class CamundaTaskEventsService {
               + "for all filtered by retries camunda task events",
           e);
     }
-
-    return camundaTaskEventsFilteredByRetries;
+    return 0;
   }
 
   public void deleteFailedEvent(int id) {
@@ -296,6 +631,10 @@ public class CamundaTaskEventsService {
     }
   }
 
+  public OutboxPoolMetrics getPoolMetrics() {
+    return OutboxDataSourceProvider.getPoolMetrics();
+  }
+
   public CamundaTaskEvent getEvent(int id) throws CamundaTaskEventNotFoundException {
 
     String sql = String.format(SQL_GET_EVENT, OUTBOX_SCHEMA);
@@ -319,6 +658,9 @@ public class CamundaTaskEventsService {
         camundaTaskEvent.setBlockedUntil(completeAndDeleteEventsResultSet.getString(6));
         camundaTaskEvent.setError(completeAndDeleteEventsResultSet.getString(7));
         camundaTaskEvent.setCamundaTaskId(completeAndDeleteEventsResultSet.getString(8));
+        camundaTaskEvent.setPayloadEncoding(
+            completeAndDeleteEventsResultSet.getString(PAYLOAD_ENCODING_COLUMN));
+        OutboxPayloadCodec.decode(camundaTaskEvent);
 
         return camundaTaskEvent;
       }
@@ -331,16 +673,23 @@ public class CamundaTaskEventsService {
   }
 
   public List<CamundaTaskEvent> getAllEvents() {
+    return getAllEvents(0, maxNumberOfEventsReturned);
+  }
+
+  public List<CamundaTaskEvent> getAllEvents(int afterId, int limit) {
 
     List<CamundaTaskEvent> camundaTaskEvents = new ArrayList<>();
 
-    String sql = String.format(SQL_GET_ALL_EVENTS, OUTBOX_SCHEMA);
+    String sql = String.format(SQL_GET_ALL_EVENTS, OUTBOX_SCHEMA, limit);
 
     try (Connection connection = getConnection();
         PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
 
+      preparedStatement.setInt(1, afterId);
+
       ResultSet camundaTaskEventResultSet = preparedStatement.executeQuery();
       camundaTaskEvents = getCamundaTaskEvents(camundaTaskEventResultSet);
+      camundaTaskEvents.forEach(OutboxPayloadCodec::decode);
 
     } catch (Exception e) {
       LOGGER.warn("Caught Exception while trying to retrieve all events from the outbox", e);
@@ -349,12 +698,74 @@ public class CamundaTaskEventsService {
   }
 
   private int getRetries(List<String> retries) throws InvalidArgumentException {
+    return parseIntegerParam(retries, RETRIES);
+  }
+
+  private Integer getRetriesFilter(MultivaluedMap<String, String> filterParams)
+      throws InvalidArgumentException {
+
+    if (filterParams.containsKey(RETRIES) && filterParams.get(RETRIES) != null) {
+      return getRetries(filterParams.get(RETRIES));
+    }
+    return null;
+  }
+
+  private String getLeaseOwner(MultivaluedMap<String, String> filterParams)
+      throws InvalidArgumentException {
+
+    String leaseOwner = filterParams.getFirst(LEASE_OWNER);
+    if (leaseOwner == null
+        || leaseOwner.trim().isEmpty()
+        || leaseOwner.length() > MAX_LEASE_OWNER_LENGTH) {
+      throw new InvalidArgumentException(
+          "lease-owner param must not be empty and not be longer than "
+              + MAX_LEASE_OWNER_LENGTH
+              + " characters!");
+    }
+    return leaseOwner;
+  }
+
+  private int getRequestedLimit(MultivaluedMap<String, String> filterParams)
+      throws InvalidArgumentException {
+
+    int limit = parseIntegerParam(filterParams.get(LIMIT), LIMIT);
+    if (limit <= 0) {
+      throw new InvalidArgumentException("limit param must be greater than 0!");
+    }
+    return limit;
+  }
+
+  private long getMaxWaitNanos(MultivaluedMap<String, String> filterParams)
+      throws InvalidArgumentException {
+
+    if (!filterParams.containsKey(MAX_WAIT)) {
+      return 0;
+    }
+
+    int maxWaitMillis = parseIntegerParam(filterParams.get(MAX_WAIT), MAX_WAIT);
+    if (maxWaitMillis < 0) {
+      throw new InvalidArgumentException("max-wait param must not be negative!");
+    }
+    return TimeUnit.MILLISECONDS.toNanos(Math.min(maxWaitMillis, LONG_POLL_MAX_WAIT_MILLIS));
+  }
+
+  private int getAfterId(MultivaluedMap<String, String> filterParams)
+      throws InvalidArgumentException {
+
+    if (!filterParams.containsKey(AFTER_ID)) {
+      return 0;
+    }
+    return parseIntegerParam(filterParams.get(AFTER_ID), AFTER_ID);
+  }
+
+  private int parseIntegerParam(List<String> values, String paramName)
+      throws InvalidArgumentException {
 
     try {
-      return Integer.parseInt(retries.get(0));
+      return Integer.parseInt(values.get(0));
 
     } catch (NumberFormatException e) {
-      throw new InvalidArgumentException("retries param must be of type Integer!");
+      throw new InvalidArgumentException(paramName + " param must be of type Integer!");
     }
   }
 
@@ -371,6 +782,11 @@ public class CamundaTaskEventsService {
     }
   }
 
+  private boolean keepPayloadEncoding(MultivaluedMap<String, String> filterParams) {
+    return filterParams.containsKey(KEEP_PAYLOAD_ENCODING)
+        && Boolean.parseBoolean(filterParams.getFirst(KEEP_PAYLOAD_ENCODING));
+  }
+
   private Instant getBlockedUntil() {
 
     Duration blockedDuration = OutboxRestConfiguration.getDurationBetweenTaskCreationRetries();
@@ -378,31 +794,268 @@ public class CamundaTaskEventsService {
     return Instant.now().plus(blockedDuration);
   }
 
-  private static DataSource createDatasource(
-      String driver, String jdbcUrl, String username, String password) {
-    return new PooledDataSource(driver, jdbcUrl, username, password);
-  }
+  // leases the create events or the complete and delete events to the requesting adapter, so that
+  // other adapters polling the same outbox don't get them until the lease expired. PostgreSQL and
+  // Oracle skip rows that are locked by a concurrent lease, the other databases lease each event
+  // with a conditional update instead. The leases are taken and compared with the time of the
+  // database, so that the clocks of the adapter hosts don't shorten or extend them.
+  private List<CamundaTaskEvent> leaseEvents(
+      MultivaluedMap<String, String> filterParams, int afterId, int limit)
+      throws InvalidArgumentException {
 
-  private List<CamundaTaskEvent> getCreateEvents() {
+    String leaseOwner = getLeaseOwner(filterParams);
 
-    List<CamundaTaskEvent> camundaTaskEvents = new ArrayList<>();
+    boolean createEvents =
+        filterParams.containsKey(TYPE) && filterParams.get(TYPE).contains(CREATE);
+    boolean completeAndDeleteEvents =
+        filterParams.containsKey(TYPE)
+            && filterParams.get(TYPE).contains(COMPLETE)
+            && filterParams.get(TYPE).contains(DELETE);
+
+    if (!createEvents && !completeAndDeleteEvents) {
+      throw new InvalidArgumentException(
+          "lease-owner param is only supported for create events and complete/delete events");
+    }
 
     try (Connection connection = getConnection()) {
+      return leaseEvents(connection, createEvents, afterId, limit, leaseOwner);
+    } catch (SQLException e) {
+      LOGGER.warn("Caught Exception while trying to lease events from the outbox", e);
+    }
+    return new ArrayList<>();
+  }
+
+  List<CamundaTaskEvent> leaseEvents(
+      Connection connection, boolean createEvents, int afterId, int limit, String leaseOwner)
+      throws SQLException {
+
+    String sql =
+        String.format(
+            createEvents
+                ? SQL_GET_CREATE_EVENTS_TO_LEASE
+                : SQL_GET_COMPLETE_AND_DELETE_EVENTS_TO_LEASE,
+            OUTBOX_SCHEMA,
+            ORDERED_PER_TASK_CONDITION);
+
+    String databaseProductName = connection.getMetaData().getDatabaseProductName();
+
+    if (POSTGRESQL.equals(databaseProductName)) {
+      return leaseEventsSkippingLockedOnes(
+          connection,
+          sql + String.format(SQL_FETCH_FIRST_ROWS, limit) + SQL_FOR_UPDATE_SKIP_LOCKED,
+          createEvents,
+          afterId,
+          limit,
+          leaseOwner);
+    } else if (databaseProductName != null
+        && databaseProductName.toLowerCase().startsWith("oracle")) {
+      // Oracle doesn't allow FETCH FIRST together with FOR UPDATE, max rows limits it instead
+      return leaseEventsSkippingLockedOnes(
+          connection, sql + SQL_FOR_UPDATE_SKIP_LOCKED, createEvents, afterId, limit, leaseOwner);
+    } else {
+      return leaseEventsWithConditionalUpdates(
+          connection, sql, createEvents, afterId, limit, leaseOwner);
+    }
+  }
+
+  private List<CamundaTaskEvent> leaseEventsSkippingLockedOnes(
+      Connection connection,
+      String sql,
+      boolean createEvents,
+      int afterId,
+      int limit,
+      String leaseOwner)
+      throws SQLException {
 
-      String sql = String.format(SQL_GET_CREATE_EVENTS, OUTBOX_SCHEMA, maxNumberOfEventsReturned);
-      try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+    Instant now = getDatabaseTime(connection);
+    boolean autoCommit = connection.getAutoCommit();
+    connection.setAutoCommit(false);
 
-        preparedStatement.setString(1, CREATE);
-        preparedStatement.setTimestamp(2, Timestamp.from(Instant.now()));
+    try {
+      List<CamundaTaskEvent> camundaTaskEvents;
 
-        ResultSet camundaTaskEventResultSet = preparedStatement.executeQuery();
-        camundaTaskEvents = getCamundaTaskEvents(camundaTaskEventResultSet);
+      try (PreparedStatement preparedStatement =
+          prepareEventsToLeaseStatement(connection, sql, createEvents, afterId, now)) {
+
+        preparedStatement.setMaxRows(limit);
+        camundaTaskEvents = getCamundaTaskEvents(preparedStatement.executeQuery());
+      }
+
+      if (!camundaTaskEvents.isEmpty()) {
+        try (PreparedStatement preparedStatement =
+            connection.prepareStatement(String.format(SQL_LEASE_EVENT, OUTBOX_SCHEMA))) {
+
+          for (CamundaTaskEvent camundaTaskEvent : camundaTaskEvents) {
+            setLeaseEventValues(preparedStatement, camundaTaskEvent, leaseOwner, now);
+            preparedStatement.addBatch();
+          }
+          preparedStatement.executeBatch();
+        }
       }
 
-    } catch (SQLException | NullPointerException e) {
-      LOGGER.warn("Caught Exception while trying to retrieve create events from the outbox", e);
+      connection.commit();
+      return camundaTaskEvents;
+
+    } catch (SQLException e) {
+      connection.rollback();
+      throw e;
+    } finally {
+      connection.setAutoCommit(autoCommit);
     }
-    return camundaTaskEvents;
+  }
+
+  private List<CamundaTaskEvent> leaseEventsWithConditionalUpdates(
+      Connection connection,
+      String sql,
+      boolean createEvents,
+      int afterId,
+      int limit,
+      String leaseOwner)
+      throws SQLException {
+
+    Instant now = getDatabaseTime(connection);
+    List<CamundaTaskEvent> leasedEvents = new ArrayList<>();
+    int lastCandidateId = afterId;
+    boolean candidatesLeft = true;
+
+    // a candidate that was leased by a concurrent request in the meantime isn't updated anymore,
+    // so the next candidates are selected until enough events are leased or none are left
+    while (candidatesLeft && leasedEvents.size() < limit) {
+      int missingEvents = limit - leasedEvents.size();
+      List<CamundaTaskEvent> candidates;
+
+      try (PreparedStatement preparedStatement =
+          prepareEventsToLeaseStatement(
+              connection,
+              sql + String.format(SQL_FETCH_FIRST_ROWS, missingEvents),
+              createEvents,
+              lastCandidateId,
+              now)) {
+
+        candidates = getCamundaTaskEvents(preparedStatement.executeQuery());
+      }
+
+      try (PreparedStatement preparedStatement =
+          connection.prepareStatement(String.format(SQL_LEASE_EVENT, OUTBOX_SCHEMA))) {
+
+        for (CamundaTaskEvent candidate : candidates) {
+          setLeaseEventValues(preparedStatement, candidate, leaseOwner, now);
+          if (preparedStatement.executeUpdate() == 1) {
+            leasedEvents.add(candidate);
+          }
+          lastCandidateId = candidate.getId();
+        }
+      }
+      candidatesLeft = candidates.size() == missingEvents;
+    }
+    return leasedEvents;
+  }
+
+  private Instant getDatabaseTime(Connection connection) throws SQLException {
+
+    try (PreparedStatement preparedStatement =
+            connection.prepareStatement(String.format(SQL_GET_DATABASE_TIME, OUTBOX_SCHEMA));
+        ResultSet resultSet = preparedStatement.executeQuery()) {
+
+      if (!resultSet.next()) {
+        throw new SQLException("Couldn't retrieve the current time of the outbox database");
+      }
+      return resultSet.getTimestamp(1).toInstant();
+    }
+  }
+
+  private PreparedStatement prepareEventsToLeaseStatement(
+      Connection connection, String sql, boolean createEvents, int afterId, Instant now)
+      throws SQLException {
+
+    PreparedStatement preparedStatement = connection.prepareStatement(sql);
+
+    if (createEvents) {
+      preparedStatement.setString(1, CREATE);
+      // blocked_until is set with the clock of the adapter host, see getBlockedUntil
+      preparedStatement.setTimestamp(2, Timestamp.from(Instant.now()));
+    } else {
+      preparedStatement.setString(1, COMPLETE);
+      preparedStatement.setString(2, DELETE);
+    }
+    preparedStatement.setInt(3, afterId);
+    preparedStatement.setTimestamp(4, Timestamp.from(now));
+
+    return preparedStatement;
+  }
+
+  private void setLeaseEventValues(
+      PreparedStatement preparedStatement,
+      CamundaTaskEvent camundaTaskEvent,
+      String leaseOwner,
+      Instant now)
+      throws SQLException {
+
+    preparedStatement.setString(1, leaseOwner);
+    preparedStatement.setTimestamp(
+        2, Timestamp.from(now.plus(OutboxRestConfiguration.getLeaseDuration())));
+    preparedStatement.setInt(3, camundaTaskEvent.getId());
+    preparedStatement.setTimestamp(4, Timestamp.from(now));
+  }
+
+  private PreparedStatement prepareGetEventsStatement(
+      Connection connection,
+      MultivaluedMap<String, String> filterParams,
+      Integer remainingRetries,
+      int afterId,
+      int limit,
+      UnaryOperator<String> querySql)
+      throws SQLException {
+
+    PreparedStatement preparedStatement;
+
+    if (filterParams.containsKey(TYPE) && filterParams.get(TYPE).contains(CREATE)) {
+
+      preparedStatement =
+          connection.prepareStatement(
+              querySql.apply(String.format(SQL_GET_CREATE_EVENTS, OUTBOX_SCHEMA, limit)));
+      preparedStatement.setString(1, CREATE);
+      preparedStatement.setTimestamp(2, Timestamp.from(Instant.now()));
+      preparedStatement.setInt(3, afterId);
+
+    } else if (filterParams.containsKey(TYPE)
+        && filterParams.get(TYPE).contains(DELETE)
+        && filterParams.get(TYPE).contains(COMPLETE)) {
+
+      preparedStatement =
+          connection.prepareStatement(
+              querySql.apply(
+                  String.format(
+                      SQL_GET_COMPLETE_AND_DELETE_EVENTS,
+                      OUTBOX_SCHEMA,
+                      ORDERED_PER_TASK_CONDITION,
+                      limit)));
+      preparedStatement.setString(1, COMPLETE);
+      preparedStatement.setString(2, DELETE);
+      preparedStatement.setInt(3, afterId);
+
+    } else if (remainingRetries != null) {
+
+      preparedStatement =
+          connection.prepareStatement(
+              querySql.apply(
+                  String.format(SQL_GET_EVENTS_FILTERED_BY_RETRIES, OUTBOX_SCHEMA, limit)));
+      preparedStatement.setInt(1, remainingRetries);
+      preparedStatement.setInt(2, afterId);
+
+    } else {
+
+      preparedStatement =
+          connection.prepareStatement(
+              querySql.apply(String.format(SQL_GET_ALL_EVENTS, OUTBOX_SCHEMA, limit)));
+      preparedStatement.setInt(1, afterId);
+    }
+    return preparedStatement;
+  }
+
+  private static String formatEventsVersion(
+      long count, long maxId, long idSum, long remainingRetriesSum) {
+    return count + "-" + maxId + "-" + idSum + "-" + remainingRetriesSum;
   }
 
   private String preparePlaceHolders(int length) {
@@ -422,23 +1075,98 @@ public class CamundaTaskEventsService {
     List<CamundaTaskEvent> camundaTaskEvents = new ArrayList<>();
 
     while (createEventsResultSet.next()) {
+      camundaTaskEvents.add(getCamundaTaskEvent(createEventsResultSet));
+    }
 
-      CamundaTaskEvent camundaTaskEvent = new CamundaTaskEvent();
+    return camundaTaskEvents;
+  }
 
-      camundaTaskEvent.setId(createEventsResultSet.getInt(1));
-      camundaTaskEvent.setType(createEventsResultSet.getString(2));
-      camundaTaskEvent.setCreated(formatDate(createEventsResultSet.getTimestamp(3)));
-      camundaTaskEvent.setPayload(createEventsResultSet.getString(4));
-      camundaTaskEvent.setRemainingRetries(createEventsResultSet.getInt(5));
-      camundaTaskEvent.setBlockedUntil(createEventsResultSet.getString(6));
-      camundaTaskEvent.setError(createEventsResultSet.getString(7));
-      camundaTaskEvent.setCamundaTaskId(createEventsResultSet.getString(8));
-      camundaTaskEvent.setSystemEngineIdentifier(createEventsResultSet.getString(9));
+  private void writeCamundaTaskEvents(
+      ResultSet camundaTaskEventResultSet, OutputStream outputStream, boolean decodePayloads)
+      throws SQLException, IOException {
 
-      camundaTaskEvents.add(camundaTaskEvent);
+    while (camundaTaskEventResultSet.next()) {
+      CamundaTaskEvent camundaTaskEvent = getCamundaTaskEvent(camundaTaskEventResultSet);
+      if (decodePayloads) {
+        OutboxPayloadCodec.decode(camundaTaskEvent);
+      }
+      outputStream.write(OBJECT_MAPPER.writeValueAsBytes(camundaTaskEvent));
+      outputStream.write('\n');
     }
+    outputStream.flush();
+  }
 
-    return camundaTaskEvents;
+  private void writeServerSentEvents(
+      OutputStream outputStream,
+      MultivaluedMap<String, String> filterParams,
+      Integer remainingRetries,
+      boolean decodePayloads,
+      int afterId,
+      long observedVersion,
+      List<CamundaTaskEvent> firstEvents)
+      throws IOException, InvalidArgumentException {
+
+    OutboxEventWatcher outboxEventWatcher = OutboxEventWatcher.getInstance();
+    long endNanos = System.nanoTime() + SSE_MAX_DURATION_NANOS;
+    List<CamundaTaskEvent> camundaTaskEvents = firstEvents;
+    int lastId = afterId;
+
+    while (true) {
+
+      for (CamundaTaskEvent camundaTaskEvent : camundaTaskEvents) {
+        if (decodePayloads) {
+          OutboxPayloadCodec.decode(camundaTaskEvent);
+        }
+        String serverSentEvent =
+            String.format(
+                SSE_EVENT,
+                camundaTaskEvent.getId(),
+                camundaTaskEvent.getType(),
+                OBJECT_MAPPER.writeValueAsString(camundaTaskEvent));
+        outputStream.write(serverSentEvent.getBytes(StandardCharsets.UTF_8));
+        lastId = camundaTaskEvent.getId();
+      }
+      outputStream.flush();
+
+      long remainingNanos = endNanos - System.nanoTime();
+      if (remainingNanos <= 0 || Thread.currentThread().isInterrupted()) {
+        return;
+      }
+
+      // a full batch may be followed by more events, otherwise the outbox has to change first
+      if (camundaTaskEvents.size() < maxNumberOfEventsReturned
+          && !outboxEventWatcher.awaitChange(
+              observedVersion,
+              System.nanoTime() + Math.min(SSE_HEARTBEAT_INTERVAL_NANOS, remainingNanos))) {
+        outputStream.write(SSE_HEARTBEAT);
+        camundaTaskEvents = Collections.emptyList();
+        continue;
+      }
+
+      observedVersion = outboxEventWatcher.getVersion();
+      camundaTaskEvents =
+          retrieveEvents(filterParams, remainingRetries, lastId, maxNumberOfEventsReturned);
+    }
+  }
+
+  private CamundaTaskEvent getCamundaTaskEvent(ResultSet camundaTaskEventResultSet)
+      throws SQLException {
+
+    CamundaTaskEvent camundaTaskEvent = new CamundaTaskEvent();
+
+    camundaTaskEvent.setId(camundaTaskEventResultSet.getInt(1));
+    camundaTaskEvent.setType(camundaTaskEventResultSet.getString(2));
+    camundaTaskEvent.setCreated(formatDate(camundaTaskEventResultSet.getTimestamp(3)));
+    camundaTaskEvent.setPayload(camundaTaskEventResultSet.getString(4));
+    camundaTaskEvent.setRemainingRetries(camundaTaskEventResultSet.getInt(5));
+    camundaTaskEvent.setBlockedUntil(camundaTaskEventResultSet.getString(6));
+    camundaTaskEvent.setError(camundaTaskEventResultSet.getString(7));
+    camundaTaskEvent.setCamundaTaskId(camundaTaskEventResultSet.getString(8));
+    camundaTaskEvent.setSystemEngineIdentifier(camundaTaskEventResultSet.getString(9));
+    camundaTaskEvent.setPayloadEncoding(
+        camundaTaskEventResultSet.getString(PAYLOAD_ENCODING_COLUMN));
+
+    return camundaTaskEvent;
   }
 
   private List<Integer> getIdsAsIntegers(String idsAsJsonArray) {
@@ -462,35 +1190,12 @@ public class CamundaTaskEventsService {
     return idsAsIntegers;
   }
 
-  private List<CamundaTaskEvent> getCompleteAndDeleteEvents() {
-
-    List<CamundaTaskEvent> camundaTaskEvents = new ArrayList<>();
-
-    String sql =
-        String.format(SQL_GET_COMPLETE_AND_DELETE_EVENTS, OUTBOX_SCHEMA, maxNumberOfEventsReturned);
-    try (Connection connection = getConnection();
-        PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-
-      preparedStatement.setString(1, COMPLETE);
-      preparedStatement.setString(2, DELETE);
-
-      ResultSet completeAndDeleteEventsResultSet = preparedStatement.executeQuery();
-      camundaTaskEvents = getCamundaTaskEvents(completeAndDeleteEventsResultSet);
-
-    } catch (SQLException | NullPointerException e) {
-      LOGGER.warn(
-          "Caught exception while trying to retrieve complete/delete events from the outbox", e);
-    }
-
-    return camundaTaskEvents;
-  }
-
   private Connection getConnection() {
 
     Connection connection = null;
     try {
-      connection = getDataSource().getConnection();
-    } catch (SQLException | NullPointerException e) {
+      connection = OutboxDataSourceProvider.getConnection();
+    } catch (SQLException e) {
       LOGGER.warn(
           "Caught {} while trying to retrieve a connection from the provided datasource",
           e.getClass().getName());
@@ -504,42 +1209,6 @@ public class CamundaTaskEventsService {
     return connection;
   }
 
-  private DataSource getDataSource() {
-
-    synchronized (CamundaTaskEventsService.class) {
-      if (dataSource == null) {
-        return getDataSourceFromPropertiesFile();
-      }
-    }
-    return dataSource;
-  }
-
-  private DataSource getDataSourceFromPropertiesFile() {
-    try {
-
-      String jndiUrl = OutboxRestConfiguration.getOutboxDatasourceJndi();
-      if (jndiUrl != null) {
-        dataSource = (DataSource) new InitialContext().lookup(jndiUrl);
-
-      } else {
-
-        dataSource =
-            createDatasource(
-                OutboxRestConfiguration.getOutboxDatasourceDriver(),
-                OutboxRestConfiguration.getOutboxDatasourceUrl(),
-                OutboxRestConfiguration.getOutboxDatasourceUsername(),
-                OutboxRestConfiguration.getOutboxDatasourcePassword());
-      }
-
-    } catch (NamingException | NullPointerException e) {
-      LOGGER.warn(
-          "Caught {} while trying to retrieve the datasource from the provided properties file",
-          e.getClass().getName());
-    }
-
-    return dataSource;
-  }
-
   private String formatDate(Date date) {
     if (date == null) {
       return null;
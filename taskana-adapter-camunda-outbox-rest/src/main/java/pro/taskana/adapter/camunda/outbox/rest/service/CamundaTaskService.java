@@ -0,0 +1,437 @@
+package pro.taskana.adapter.camunda.outbox.rest.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.camunda.bpm.engine.AuthorizationException;
+import org.camunda.bpm.engine.IdentityService;
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.ProcessEngines;
+import org.camunda.bpm.engine.TaskService;
+import org.camunda.bpm.engine.identity.Group;
+import org.camunda.bpm.engine.identity.Tenant;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.variable.VariableMap;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.type.PrimitiveValueType;
+import org.camunda.bpm.engine.variable.type.SerializableValueType;
+import org.camunda.bpm.engine.variable.type.ValueType;
+import org.camunda.bpm.engine.variable.type.ValueTypeResolver;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pro.taskana.adapter.camunda.outbox.rest.exception.CamundaTaskNotFoundException;
+import pro.taskana.adapter.camunda.outbox.rest.exception.InvalidArgumentException;
+import pro.taskana.adapter.camunda.outbox.rest.exception.NotAuthenticatedException;
+import pro.taskana.adapter.camunda.outbox.rest.exception.ProcessEngineNotAvailableException;
+import pro.taskana.adapter.camunda.outbox.rest.model.CamundaTaskResult;
+import spinjar.com.fasterxml.jackson.core.type.TypeReference;
+import spinjar.com.fasterxml.jackson.databind.JsonNode;
+import spinjar.com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Completes, claims and cancels claims of camunda tasks directly in the process engine the outbox
+ * REST service runs with. Each task is processed in a transaction of its own. For a completion, the
+ * assignee, the local variable "completedByTaskanaAdapter" and the completion with the process
+ * variables are applied in this transaction, so a task is either completed with all of them or
+ * left untouched. The process variables are expected in the format of the camunda REST API.
+ *
+ * <p>If the process engine checks authorizations, the tasks are processed on behalf of the caller
+ * like the camunda REST API does it: the caller is the user that the servlet container
+ * authenticated or the user of the basic authorization header, whose password the identity service
+ * of the process engine checks. Requests without such a user are rejected then.
+ */
+public class CamundaTaskService {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CamundaTaskService.class);
+  private static final String COMPLETED_BY_TASKANA_ADAPTER_LOCAL_VARIABLE =
+      "completedByTaskanaAdapter";
+  private static final String TASK_ID = "taskId";
+  private static final String ASSIGNEE = "assignee";
+  private static final String VARIABLES = "variables";
+  private static final String TYPE = "type";
+  private static final String VALUE = "value";
+  private static final String VALUE_INFO = "valueInfo";
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  /**
+   * Sets the assignee of a camunda task and completes it with the given process variables.
+   *
+   * @param taskId the id of the camunda task
+   * @param requestBody the JSON object with the assignee and the process variables
+   * @param engineName the name of the process engine or null for the default process engine
+   * @param caller the caller of the request
+   * @throws CamundaTaskNotFoundException if the camunda task doesn't exist
+   * @throws InvalidArgumentException if the request body or one of the variables is invalid
+   * @throws ProcessEngineNotAvailableException if the process engine isn't available
+   * @throws NotAuthenticatedException if the process engine checks authorizations and the caller
+   *     couldn't be authenticated
+   */
+  public void completeTask(
+      String taskId, String requestBody, String engineName, CamundaTaskCaller caller)
+      throws CamundaTaskNotFoundException,
+          InvalidArgumentException,
+          ProcessEngineNotAvailableException,
+          NotAuthenticatedException {
+
+    JsonNode requestedCompletion = readRequestBody(requestBody);
+    if (requestedCompletion.isMissingNode()) {
+      requestedCompletion = OBJECT_MAPPER.createObjectNode();
+    } else if (!requestedCompletion.isObject()) {
+      throw new InvalidArgumentException("The completion of a camunda task must be an object");
+    }
+    final JsonNode completion = requestedCompletion;
+
+    ProcessEngine processEngine = getProcessEngine(engineName);
+    boolean completed =
+        executeOnBehalfOf(
+            processEngine, caller, () -> complete(processEngine, taskId, completion));
+
+    if (!completed) {
+      throw new CamundaTaskNotFoundException(
+          String.format("Camunda task with id %s wasn't found", taskId));
+    }
+  }
+
+  /**
+   * Completes several camunda tasks like {@link #completeTask(String, String, String,
+   * CamundaTaskCaller)} does.
+   *
+   * @param requestBody the JSON array of objects with the taskId, the assignee and the process
+   *     variables of each camunda task
+   * @param engineName the name of the process engine or null for the default process engine
+   * @param caller the caller of the request
+   * @return the result of each camunda task in the order of the request
+   * @throws InvalidArgumentException if the request body isn't an array
+   * @throws ProcessEngineNotAvailableException if the process engine isn't available
+   * @throws NotAuthenticatedException if the process engine checks authorizations and the caller
+   *     couldn't be authenticated
+   */
+  public List<CamundaTaskResult> completeTasks(
+      String requestBody, String engineName, CamundaTaskCaller caller)
+      throws InvalidArgumentException,
+          ProcessEngineNotAvailableException,
+          NotAuthenticatedException {
+    return processTasks(requestBody, engineName, caller, CamundaTaskService::complete);
+  }
+
+  /**
+   * Sets the assignee of several camunda tasks.
+   *
+   * @param requestBody the JSON array of objects with the taskId and the assignee of each camunda
+   *     task
+   * @param engineName the name of the process engine or null for the default process engine
+   * @param caller the caller of the request
+   * @return the result of each camunda task in the order of the request
+   * @throws InvalidArgumentException if the request body isn't an array
+   * @throws ProcessEngineNotAvailableException if the process engine isn't available
+   * @throws NotAuthenticatedException if the process engine checks authorizations and the caller
+   *     couldn't be authenticated
+   */
+  public List<CamundaTaskResult> claimTasks(
+      String requestBody, String engineName, CamundaTaskCaller caller)
+      throws InvalidArgumentException,
+          ProcessEngineNotAvailableException,
+          NotAuthenticatedException {
+    return processTasks(
+        requestBody,
+        engineName,
+        caller,
+        (processEngine, taskId, task) ->
+            executeOnTask(
+                processEngine,
+                taskId,
+                taskService -> taskService.setAssignee(taskId, getAssignee(task))));
+  }
+
+  /**
+   * Removes the assignee of several camunda tasks.
+   *
+   * @param requestBody the JSON array of objects with the taskId of each camunda task
+   * @param engineName the name of the process engine or null for the default process engine
+   * @param caller the caller of the request
+   * @return the result of each camunda task in the order of the request
+   * @throws InvalidArgumentException if the request body isn't an array
+   * @throws ProcessEngineNotAvailableException if the process engine isn't available
+   * @throws NotAuthenticatedException if the process engine checks authorizations and the caller
+   *     couldn't be authenticated
+   */
+  public List<CamundaTaskResult> cancelClaimOfTasks(
+      String requestBody, String engineName, CamundaTaskCaller caller)
+      throws InvalidArgumentException,
+          ProcessEngineNotAvailableException,
+          NotAuthenticatedException {
+    return processTasks(
+        requestBody,
+        engineName,
+        caller,
+        (processEngine, taskId, task) ->
+            executeOnTask(
+                processEngine, taskId, taskService -> taskService.setAssignee(taskId, null)));
+  }
+
+  private static List<CamundaTaskResult> processTasks(
+      String requestBody, String engineName, CamundaTaskCaller caller, TaskOperation operation)
+      throws InvalidArgumentException,
+          ProcessEngineNotAvailableException,
+          NotAuthenticatedException {
+
+    JsonNode tasks = readRequestBody(requestBody);
+    if (!tasks.isArray()) {
+      throw new InvalidArgumentException("Please provide a json array of camunda tasks");
+    }
+
+    ProcessEngine processEngine = getProcessEngine(engineName);
+
+    return executeOnBehalfOf(
+        processEngine,
+        caller,
+        () -> {
+          List<CamundaTaskResult> results = new ArrayList<>(tasks.size());
+          for (JsonNode task : tasks) {
+            results.add(processTask(processEngine, task, operation));
+          }
+          return results;
+        });
+  }
+
+  // sets the authentication of the caller for the operation if the process engine checks
+  // authorizations. Otherwise camunda doesn't check anything, like its REST API without the
+  // authentication filter
+  private static <T, E extends Exception> T executeOnBehalfOf(
+      ProcessEngine processEngine, CamundaTaskCaller caller, Operation<T, E> operation)
+      throws E, NotAuthenticatedException {
+
+    if (!processEngine.getProcessEngineConfiguration().isAuthorizationEnabled()) {
+      return operation.execute();
+    }
+
+    IdentityService identityService = processEngine.getIdentityService();
+    String userId = caller.getAuthenticatedUserId();
+    if (userId == null
+        && caller.getUserId() != null
+        && identityService.checkPassword(caller.getUserId(), caller.getPassword())) {
+      userId = caller.getUserId();
+    }
+    if (userId == null) {
+      throw new NotAuthenticatedException(
+          "Please authenticate as a camunda user to process camunda tasks");
+    }
+
+    List<String> groupIds =
+        identityService.createGroupQuery().groupMember(userId).list().stream()
+            .map(Group::getId)
+            .collect(Collectors.toList());
+    List<String> tenantIds =
+        identityService.createTenantQuery().userMember(userId).includingGroupsOfUser(true).list()
+            .stream()
+            .map(Tenant::getId)
+            .collect(Collectors.toList());
+
+    identityService.setAuthentication(userId, groupIds, tenantIds);
+    try {
+      return operation.execute();
+    } finally {
+      identityService.clearAuthentication();
+    }
+  }
+
+  // a failing task doesn't affect the other tasks of the request, its result carries the error
+  private static CamundaTaskResult processTask(
+      ProcessEngine processEngine, JsonNode task, TaskOperation operation) {
+
+    String taskId = task.path(TASK_ID).asText(null);
+
+    CamundaTaskResult result = new CamundaTaskResult();
+    result.setTaskId(taskId);
+    try {
+      if (taskId == null) {
+        throw new InvalidArgumentException("Please provide the taskId of each camunda task");
+      }
+      result.setStatus(operation.apply(processEngine, taskId, task) ? 204 : 404);
+    } catch (InvalidArgumentException e) {
+      result.setStatus(400);
+      result.setError(e.toString());
+    } catch (AuthorizationException e) {
+      result.setStatus(403);
+      result.setError(e.toString());
+    } catch (RuntimeException e) {
+      LOGGER.warn("Caught exception while processing camunda task {}", taskId, e);
+      result.setStatus(500);
+      result.setError(e.toString());
+    }
+    return result;
+  }
+
+  private static boolean complete(ProcessEngine processEngine, String taskId, JsonNode completion)
+      throws InvalidArgumentException {
+
+    String assignee = getAssignee(completion);
+    VariableMap variables =
+        toVariableMap(
+            completion.path(VARIABLES), getConfiguration(processEngine).getValueTypeResolver());
+
+    boolean completed =
+        executeOnTask(
+            processEngine,
+            taskId,
+            taskService -> {
+              taskService.setAssignee(taskId, assignee);
+              taskService.setVariableLocal(
+                  taskId,
+                  COMPLETED_BY_TASKANA_ADAPTER_LOCAL_VARIABLE,
+                  Variables.booleanValue(true));
+              taskService.complete(taskId, variables);
+            });
+
+    if (completed) {
+      LOGGER.debug("Completed camunda task {} with {} variables", taskId, variables.size());
+    }
+    return completed;
+  }
+
+  // the nested calls of the task service join the transaction of the command. Returns false
+  // without calling the operation if the task doesn't exist
+  private static boolean executeOnTask(
+      ProcessEngine processEngine, String taskId, Consumer<TaskService> operation) {
+
+    TaskService taskService = processEngine.getTaskService();
+
+    return getConfiguration(processEngine)
+        .getCommandExecutorTxRequired()
+        .execute(
+            commandContext -> {
+              if (taskService.createTaskQuery().taskId(taskId).count() == 0) {
+                return false;
+              }
+              operation.accept(taskService);
+              return true;
+            });
+  }
+
+  private static String getAssignee(JsonNode task) {
+    JsonNode assigneeNode = task.path(ASSIGNEE);
+    return assigneeNode.isTextual() ? assigneeNode.asText() : null;
+  }
+
+  private static JsonNode readRequestBody(String requestBody) throws InvalidArgumentException {
+
+    if (requestBody == null || requestBody.trim().isEmpty()) {
+      return OBJECT_MAPPER.missingNode();
+    }
+
+    try {
+      return OBJECT_MAPPER.readTree(requestBody);
+    } catch (IOException e) {
+      throw new InvalidArgumentException("Can't read the camunda tasks of the request", e);
+    }
+  }
+
+  private static ProcessEngine getProcessEngine(String engineName)
+      throws ProcessEngineNotAvailableException {
+
+    ProcessEngine processEngine =
+        engineName == null || engineName.isEmpty()
+            ? ProcessEngines.getDefaultProcessEngine(false)
+            : ProcessEngines.getProcessEngine(engineName, false);
+    if (processEngine == null) {
+      throw new ProcessEngineNotAvailableException(
+          String.format(
+              "The process engine %s to process camunda tasks with isn't available",
+              engineName == null || engineName.isEmpty()
+                  ? ProcessEngines.NAME_DEFAULT
+                  : engineName));
+    }
+    return processEngine;
+  }
+
+  private static ProcessEngineConfigurationImpl getConfiguration(ProcessEngine processEngine) {
+    return (ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration();
+  }
+
+  // the same conversion as the camunda REST API applies to the variables of a completion
+  private static VariableMap toVariableMap(JsonNode variablesNode, ValueTypeResolver resolver)
+      throws InvalidArgumentException {
+
+    VariableMap variables = Variables.createVariables();
+
+    Iterator<Map.Entry<String, JsonNode>> fields = variablesNode.fields();
+    while (fields.hasNext()) {
+      Map.Entry<String, JsonNode> field = fields.next();
+      variables.putValueTyped(field.getKey(), toTypedValue(field.getValue(), resolver));
+    }
+
+    return variables;
+  }
+
+  private static TypedValue toTypedValue(JsonNode variableNode, ValueTypeResolver resolver)
+      throws InvalidArgumentException {
+
+    JsonNode valueNode = variableNode.path(VALUE);
+    Map<String, Object> valueInfo = getValueInfo(variableNode.path(VALUE_INFO));
+
+    String typeName = variableNode.path(TYPE).asText(null);
+    if (typeName == null) {
+      return Variables.untypedValue(OBJECT_MAPPER.convertValue(valueNode, Object.class));
+    }
+
+    ValueType valueType =
+        resolver.typeForName(Character.toLowerCase(typeName.charAt(0)) + typeName.substring(1));
+    if (valueType == null) {
+      throw new InvalidArgumentException(
+          String.format("Unknown type %s of a process variable", typeName));
+    }
+
+    try {
+      if (valueType instanceof SerializableValueType) {
+        String serializedValue = valueNode.isTextual() ? valueNode.asText() : null;
+        if (serializedValue == null && valueNode.isContainerNode()) {
+          serializedValue = valueNode.toString();
+        }
+        return ((SerializableValueType) valueType)
+            .createValueFromSerialized(serializedValue, valueInfo);
+      } else if (valueType instanceof PrimitiveValueType) {
+        Object value =
+            valueNode.isNull() || valueNode.isMissingNode()
+                ? null
+                : OBJECT_MAPPER.treeToValue(
+                    valueNode, ((PrimitiveValueType) valueType).getJavaType());
+        return valueType.createValue(value, valueInfo);
+      } else {
+        throw new InvalidArgumentException(
+            String.format("Unsupported type %s of a process variable", typeName));
+      }
+    } catch (IOException | IllegalArgumentException e) {
+      throw new InvalidArgumentException(
+          String.format("Can't convert a process variable to type %s", typeName), e);
+    }
+  }
+
+  private static Map<String, Object> getValueInfo(JsonNode valueInfoNode) {
+
+    if (!valueInfoNode.isObject()) {
+      return Collections.emptyMap();
+    }
+    return OBJECT_MAPPER.convertValue(valueInfoNode, new TypeReference<Map<String, Object>>() {});
+  }
+
+  @FunctionalInterface
+  private interface Operation<T, E extends Exception> {
+
+    T execute() throws E;
+  }
+
+  @FunctionalInterface
+  private interface TaskOperation {
+
+    // returns false if the camunda task doesn't exist
+    boolean apply(ProcessEngine processEngine, String taskId, JsonNode task)
+        throws InvalidArgumentException;
+  }
+}
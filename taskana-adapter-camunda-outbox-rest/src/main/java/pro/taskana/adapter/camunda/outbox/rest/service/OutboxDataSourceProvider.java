@@ -0,0 +1,216 @@
+package pro.taskana.adapter.camunda.outbox.rest.service;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+import javax.sql.DataSource;
+import org.apache.ibatis.datasource.pooled.PoolState;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pro.taskana.adapter.camunda.OutboxRestConfiguration;
+import pro.taskana.adapter.camunda.outbox.rest.model.OutboxPoolMetrics;
+
+/**
+ * Provides the connections to the outbox. The datasource is either looked up via JNDI or it is a
+ * connection pool that is created from the outbox properties. It is created when it is first
+ * needed and afterwards handed out without any locking. A failed lookup or creation is retried
+ * with the next request for a connection.
+ */
+public final class OutboxDataSourceProvider {
+
+  static final String POOL_TYPE_HIKARI = "hikari";
+  static final String POOL_TYPE_MYBATIS = "mybatis";
+  static final String POOL_TYPE_JNDI = "jndi";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(OutboxDataSourceProvider.class);
+  private static final String POOL_NAME = "taskana-outbox-rest";
+
+  private static final LongAdder ACQUIRE_COUNT = new LongAdder();
+  private static final LongAdder ACQUIRE_TIME_NANOS = new LongAdder();
+  private static final AtomicLong MAX_ACQUIRE_TIME_NANOS = new AtomicLong();
+
+  private static volatile DataSource dataSource;
+
+  private OutboxDataSourceProvider() {}
+
+  static Connection getConnection() throws SQLException {
+
+    DataSource outboxDataSource = getDataSource();
+
+    long start = System.nanoTime();
+    try {
+      return outboxDataSource.getConnection();
+    } finally {
+      recordAcquireTime(System.nanoTime() - start);
+    }
+  }
+
+  static OutboxPoolMetrics getPoolMetrics() {
+
+    OutboxPoolMetrics poolMetrics = new OutboxPoolMetrics();
+    // the metrics don't create the datasource, it doesn't exist before the first request
+    DataSource outboxDataSource = dataSource;
+
+    if (outboxDataSource instanceof HikariDataSource) {
+      poolMetrics.setPoolType(POOL_TYPE_HIKARI);
+      HikariPoolMXBean pool = ((HikariDataSource) outboxDataSource).getHikariPoolMXBean();
+      if (pool != null) {
+        poolMetrics.setActiveConnections(pool.getActiveConnections());
+        poolMetrics.setIdleConnections(pool.getIdleConnections());
+        poolMetrics.setTotalConnections(pool.getTotalConnections());
+        poolMetrics.setPendingRequests(pool.getThreadsAwaitingConnection());
+      }
+    } else if (outboxDataSource instanceof PooledDataSource) {
+      poolMetrics.setPoolType(POOL_TYPE_MYBATIS);
+      PoolState poolState = ((PooledDataSource) outboxDataSource).getPoolState();
+      poolMetrics.setActiveConnections(poolState.getActiveConnectionCount());
+      poolMetrics.setIdleConnections(poolState.getIdleConnectionCount());
+      poolMetrics.setTotalConnections(
+          poolState.getActiveConnectionCount() + poolState.getIdleConnectionCount());
+    } else if (outboxDataSource != null) {
+      // the pool of a JNDI datasource is monitored by the application server
+      poolMetrics.setPoolType(POOL_TYPE_JNDI);
+    }
+
+    long acquireCount = ACQUIRE_COUNT.sum();
+    poolMetrics.setAcquireCount(acquireCount);
+    if (acquireCount > 0) {
+      poolMetrics.setAverageAcquireTimeMillis(
+          toMillis(ACQUIRE_TIME_NANOS.sum()) / acquireCount);
+    }
+    poolMetrics.setMaxAcquireTimeMillis(toMillis(MAX_ACQUIRE_TIME_NANOS.get()));
+
+    return poolMetrics;
+  }
+
+  /**
+   * Closes the connection pool that was created for the outbox. A datasource that was looked up via
+   * JNDI belongs to the application server and is left open.
+   */
+  public static synchronized void close() {
+
+    DataSource outboxDataSource = dataSource;
+    dataSource = null;
+
+    if (outboxDataSource instanceof HikariDataSource) {
+      ((HikariDataSource) outboxDataSource).close();
+    } else if (outboxDataSource instanceof PooledDataSource) {
+      ((PooledDataSource) outboxDataSource).forceCloseAll();
+    }
+  }
+
+  private static DataSource getDataSource() throws SQLException {
+
+    DataSource outboxDataSource = dataSource;
+    if (outboxDataSource != null) {
+      return outboxDataSource;
+    }
+
+    synchronized (OutboxDataSourceProvider.class) {
+      if (dataSource == null) {
+        try {
+          dataSource = createDataSource();
+        } catch (RuntimeException e) {
+          throw new SQLException("Couldn't create the datasource for the outbox", e);
+        }
+      }
+      if (dataSource == null) {
+        throw new SQLException("No datasource for the outbox is available");
+      }
+      return dataSource;
+    }
+  }
+
+  private static void recordAcquireTime(long acquireTimeNanos) {
+    ACQUIRE_COUNT.increment();
+    ACQUIRE_TIME_NANOS.add(acquireTimeNanos);
+    MAX_ACQUIRE_TIME_NANOS.accumulateAndGet(acquireTimeNanos, Math::max);
+  }
+
+  private static double toMillis(long nanos) {
+    return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  private static DataSource createDataSource() {
+
+    String jndiUrl = OutboxRestConfiguration.getOutboxDatasourceJndi();
+
+    if (jndiUrl != null) {
+      try {
+        return (DataSource) new InitialContext().lookup(jndiUrl);
+      } catch (NamingException | ClassCastException e) {
+        LOGGER.warn("Caught {} while trying to look up the datasource {}", e, jndiUrl);
+        return null;
+      }
+    }
+
+    String poolType = OutboxRestConfiguration.getOutboxDatasourcePoolType();
+
+    if (POOL_TYPE_MYBATIS.equals(poolType)) {
+      return createMybatisDataSource();
+    } else {
+      if (!POOL_TYPE_HIKARI.equals(poolType)) {
+        LOGGER.warn(
+            "Unknown datasource pool type {}, using {} instead", poolType, POOL_TYPE_HIKARI);
+      }
+      return createHikariDataSource();
+    }
+  }
+
+  private static DataSource createHikariDataSource() {
+
+    HikariConfig config = new HikariConfig();
+    config.setPoolName(POOL_NAME);
+    config.setDriverClassName(OutboxRestConfiguration.getOutboxDatasourceDriver());
+    config.setJdbcUrl(OutboxRestConfiguration.getOutboxDatasourceUrl());
+    config.setUsername(OutboxRestConfiguration.getOutboxDatasourceUsername());
+    config.setPassword(OutboxRestConfiguration.getOutboxDatasourcePassword());
+    config.setMaximumPoolSize(OutboxRestConfiguration.getOutboxDatasourcePoolMaxSize());
+    config.setMinimumIdle(OutboxRestConfiguration.getOutboxDatasourcePoolMinIdle());
+    config.setIdleTimeout(OutboxRestConfiguration.getOutboxDatasourcePoolIdleTimeout().toMillis());
+    config.setConnectionTimeout(
+        OutboxRestConfiguration.getOutboxDatasourcePoolConnectionTimeout().toMillis());
+    config.setValidationTimeout(
+        OutboxRestConfiguration.getOutboxDatasourcePoolValidationTimeout().toMillis());
+    // the outbox may not be available yet when the first request arrives
+    config.setInitializationFailTimeout(-1);
+
+    LOGGER.info(
+        "Created {} pool with at most {} connections for the outbox datasource {}",
+        POOL_TYPE_HIKARI,
+        config.getMaximumPoolSize(),
+        config.getJdbcUrl());
+
+    return new HikariDataSource(config);
+  }
+
+  private static DataSource createMybatisDataSource() {
+
+    PooledDataSource dataSource =
+        new PooledDataSource(
+            OutboxRestConfiguration.getOutboxDatasourceDriver(),
+            OutboxRestConfiguration.getOutboxDatasourceUrl(),
+            OutboxRestConfiguration.getOutboxDatasourceUsername(),
+            OutboxRestConfiguration.getOutboxDatasourcePassword());
+    dataSource.setPoolMaximumActiveConnections(
+        OutboxRestConfiguration.getOutboxDatasourcePoolMaxSize());
+    dataSource.setPoolTimeToWait(
+        (int) OutboxRestConfiguration.getOutboxDatasourcePoolConnectionTimeout().toMillis());
+
+    LOGGER.info(
+        "Created {} pool with at most {} connections for the outbox datasource {}",
+        POOL_TYPE_MYBATIS,
+        dataSource.getPoolMaximumActiveConnections(),
+        dataSource.getUrl());
+
+    return dataSource;
+  }
+}
@@ -0,0 +1,204 @@
+package pro.taskana.adapter.camunda.outbox.rest.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pro.taskana.adapter.camunda.OutboxRestConfiguration;
+
+/**
+ * Watches the outbox for new events on behalf of long polling requests. While at least one request
+ * waits, the highest event id is read in the configured check interval on a scheduled thread, and
+ * the futures of the waiting requests are completed if it changed, so they query their events
+ * again. The same thread completes them when their deadline passes, so a waiting request doesn't
+ * hold a thread of its own. The outbox is
+ * therefore read once per interval, regardless of how many requests wait. Without waiting requests
+ * the check is cancelled and the idle thread ends after a while. {@link #stop()} ends it right away
+ * when the outbox REST service is shut down.
+ */
+public final class OutboxEventWatcher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(OutboxEventWatcher.class);
+  private static final OutboxEventWatcher INSTANCE = new OutboxEventWatcher();
+  private static final String SQL_GET_MAX_EVENT_ID = "select max(id) from %s.event_store";
+  private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60;
+
+  private final String maxEventIdSql =
+      String.format(SQL_GET_MAX_EVENT_ID, OutboxRestConfiguration.getOutboxSchema());
+  private final long checkIntervalMillis =
+      Math.max(1, OutboxRestConfiguration.getLongPollCheckInterval().toMillis());
+  private final Object monitor = new Object();
+  private long version;
+  private final List<CompletableFuture<Boolean>> waitingRequests = new ArrayList<>();
+  private Long lastMaxEventId;
+  private ScheduledThreadPoolExecutor executor;
+  private ScheduledFuture<?> outboxCheck;
+
+  private OutboxEventWatcher() {}
+
+  public static OutboxEventWatcher getInstance() {
+    return INSTANCE;
+  }
+
+  long getVersion() {
+    synchronized (monitor) {
+      return version;
+    }
+  }
+
+  // returns false if the deadline passed before the outbox changed after the given version
+  boolean awaitChange(long observedVersion, long deadlineNanos) {
+
+    CompletableFuture<Boolean> change = whenChanged(observedVersion, deadlineNanos);
+    try {
+      return change.get();
+    } catch (InterruptedException e) {
+      change.cancel(false);
+      Thread.currentThread().interrupt();
+      return false;
+    } catch (ExecutionException | CancellationException e) {
+      return false;
+    }
+  }
+
+  // completes with false if the deadline passed before the outbox changed after the given
+  // version. No thread waits in the meantime, the future is completed by the watcher thread
+  CompletableFuture<Boolean> whenChanged(long observedVersion, long deadlineNanos) {
+
+    CompletableFuture<Boolean> change = new CompletableFuture<>();
+
+    synchronized (monitor) {
+      if (version != observedVersion) {
+        change.complete(true);
+        return change;
+      }
+      long remainingNanos = deadlineNanos - System.nanoTime();
+      if (remainingNanos <= 0) {
+        change.complete(false);
+        return change;
+      }
+
+      waitingRequests.add(change);
+      startOutboxCheck();
+      ScheduledFuture<?> deadline =
+          executor.schedule(() -> change.complete(false), remainingNanos, TimeUnit.NANOSECONDS);
+      change.whenComplete(
+          (changed, e) -> {
+            deadline.cancel(false);
+            removeWaitingRequest(change);
+          });
+    }
+    return change;
+  }
+
+  /**
+   * Stops watching the outbox and ends the thread of the watcher. Requests that still wait are
+   * woken up, so they answer with the events they find now.
+   */
+  public void stop() {
+
+    List<CompletableFuture<Boolean>> wokenRequests;
+
+    synchronized (monitor) {
+      if (executor != null) {
+        executor.shutdownNow();
+        executor = null;
+        outboxCheck = null;
+      }
+      version++;
+      wokenRequests = new ArrayList<>(waitingRequests);
+    }
+    wokenRequests.forEach(change -> change.complete(true));
+  }
+
+  private void removeWaitingRequest(CompletableFuture<Boolean> change) {
+
+    synchronized (monitor) {
+      waitingRequests.remove(change);
+      if (waitingRequests.isEmpty()) {
+        stopOutboxCheck();
+      }
+    }
+  }
+
+  private void startOutboxCheck() {
+
+    if (outboxCheck == null) {
+      if (executor == null) {
+        executor = createExecutor();
+      }
+      outboxCheck =
+          executor.scheduleWithFixedDelay(
+              this::checkOutbox, 0, checkIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void stopOutboxCheck() {
+
+    if (outboxCheck != null) {
+      outboxCheck.cancel(false);
+      outboxCheck = null;
+    }
+  }
+
+  private void checkOutbox() {
+
+    Long maxEventId = readMaxEventId();
+    List<CompletableFuture<Boolean>> wokenRequests;
+
+    synchronized (monitor) {
+      // the first id is a change too, the outbox may have changed while nobody watched it
+      if (maxEventId == null || maxEventId.equals(lastMaxEventId)) {
+        return;
+      }
+      lastMaxEventId = maxEventId;
+      version++;
+      wokenRequests = new ArrayList<>(waitingRequests);
+    }
+    // the requests continue outside of the monitor, they register again if they keep waiting
+    wokenRequests.forEach(change -> change.complete(true));
+  }
+
+  private Long readMaxEventId() {
+
+    try (Connection connection = OutboxDataSourceProvider.getConnection();
+        PreparedStatement preparedStatement = connection.prepareStatement(maxEventIdSql);
+        ResultSet resultSet = preparedStatement.executeQuery()) {
+
+      if (resultSet.next()) {
+        // an empty outbox has no max id, which is read as 0
+        return resultSet.getLong(1);
+      }
+
+    } catch (SQLException e) {
+      LOGGER.warn("Caught Exception while trying to watch the outbox for changes", e);
+    }
+    return null;
+  }
+
+  private static ScheduledThreadPoolExecutor createExecutor() {
+
+    ScheduledThreadPoolExecutor executor =
+        new ScheduledThreadPoolExecutor(
+            1,
+            runnable -> {
+              Thread thread = new Thread(runnable, "taskana-outbox-watcher");
+              thread.setDaemon(true);
+              return thread;
+            });
+    executor.setKeepAliveTime(IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+    executor.allowCoreThreadTimeOut(true);
+    executor.setRemoveOnCancelPolicy(true);
+    return executor;
+  }
+}
@@ -0,0 +1,68 @@
+package pro.taskana.adapter.camunda.outbox.rest.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pro.taskana.adapter.camunda.outbox.rest.model.CamundaTaskEvent;
+
+/**
+ * Decodes the payload of outbox events that the listener stored compressed. The encoding of a
+ * payload is stored in the PAYLOAD_ENCODING column, a payload without an encoding is plain JSON.
+ */
+final class OutboxPayloadCodec {
+
+  static final String GZIP_BASE64 = "gzip-base64";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(OutboxPayloadCodec.class);
+
+  private OutboxPayloadCodec() {}
+
+  static void decode(CamundaTaskEvent camundaTaskEvent) {
+
+    String payloadEncoding = camundaTaskEvent.getPayloadEncoding();
+
+    if (payloadEncoding == null || camundaTaskEvent.getPayload() == null) {
+      return;
+    }
+
+    if (!GZIP_BASE64.equals(payloadEncoding)) {
+      LOGGER.warn(
+          "Camunda task event {} has the unknown payload encoding {}, returning it encoded",
+          camundaTaskEvent.getId(),
+          payloadEncoding);
+      return;
+    }
+
+    try {
+      camundaTaskEvent.setPayload(decompress(camundaTaskEvent.getPayload()));
+      camundaTaskEvent.setPayloadEncoding(null);
+    } catch (IOException | IllegalArgumentException e) {
+      LOGGER.warn(
+          "Caught Exception while trying to decode the payload of camunda task event {}",
+          camundaTaskEvent.getId(),
+          e);
+    }
+  }
+
+  private static String decompress(String payload) throws IOException {
+
+    ByteArrayOutputStream decompressedPayload = new ByteArrayOutputStream();
+    byte[] buffer = new byte[4096];
+
+    try (InputStream inputStream =
+        new GZIPInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(payload)))) {
+      int length;
+      while ((length = inputStream.read(buffer)) > 0) {
+        decompressedPayload.write(buffer, 0, length);
+      }
+    }
+
+    return new String(decompressedPayload.toByteArray(), StandardCharsets.UTF_8);
+  }
+}
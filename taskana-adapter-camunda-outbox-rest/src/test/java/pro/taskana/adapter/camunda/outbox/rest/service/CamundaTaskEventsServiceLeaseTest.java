@@ -0,0 +1,275 @@
+package pro.taskana.adapter.camunda.outbox.rest.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import pro.taskana.adapter.camunda.outbox.rest.model.CamundaTaskEvent;
+
+/**
+ * Test for the leasing of events. H2 supports FOR UPDATE SKIP LOCKED, so the connections pretend
+ * to belong to the given database to run the path of that database against a real outbox.
+ */
+class CamundaTaskEventsServiceLeaseTest {
+
+  private static final String URL = "jdbc:h2:mem:outbox-lease;DB_CLOSE_DELAY=-1";
+
+  private final CamundaTaskEventsService camundaTaskEventsService = new CamundaTaskEventsService();
+  private final List<String> preparedSql = new ArrayList<>();
+  private final List<Integer> maxRows = new ArrayList<>();
+  private final List<String> concurrentUpdates = new ArrayList<>();
+
+  @BeforeEach
+  void createOutbox() throws Exception {
+    try (Connection connection = DriverManager.getConnection(URL);
+        Statement statement = connection.createStatement()) {
+      statement.execute("CREATE SCHEMA taskana_tables");
+      statement.execute(
+          "CREATE TABLE taskana_tables.event_store (ID INT NOT NULL GENERATED ALWAYS AS "
+              + "IDENTITY, TYPE VARCHAR(32) NOT NULL, CREATED TIMESTAMP, PAYLOAD CLOB, "
+              + "REMAINING_RETRIES INT NOT NULL, BLOCKED_UNTIL TIMESTAMP NOT NULL, "
+              + "ERROR VARCHAR(1000), CAMUNDA_TASK_ID VARCHAR(40), "
+              + "SYSTEM_ENGINE_IDENTIFIER VARCHAR(128), LEASE_OWNER VARCHAR(128), "
+              + "LEASE_EXPIRE TIMESTAMP, PAYLOAD_ENCODING VARCHAR(32), PRIMARY KEY (ID))");
+      statement.execute(
+          "CREATE TABLE taskana_tables.OUTBOX_SCHEMA_VERSION (ID INT NOT NULL GENERATED ALWAYS "
+              + "AS IDENTITY, VERSION VARCHAR(255) NOT NULL, CREATED TIMESTAMP NOT NULL)");
+      statement.execute(
+          "INSERT INTO taskana_tables.OUTBOX_SCHEMA_VERSION (VERSION, CREATED) "
+              + "VALUES ('3.1.1', CURRENT_TIMESTAMP)");
+      for (int i = 0; i < 20; i++) {
+        statement.execute(
+            "INSERT INTO taskana_tables.event_store (TYPE, CREATED, PAYLOAD, REMAINING_RETRIES, "
+                + "BLOCKED_UNTIL, CAMUNDA_TASK_ID) VALUES ('create', CURRENT_TIMESTAMP, '{}', 3, "
+                + "DATEADD('HOUR', -1, CURRENT_TIMESTAMP), 'task-"
+                + i
+                + "')");
+      }
+    }
+  }
+
+  @AfterEach
+  void dropOutbox() throws Exception {
+    try (Connection connection = DriverManager.getConnection(URL);
+        Statement statement = connection.createStatement()) {
+      statement.execute("DROP SCHEMA taskana_tables CASCADE");
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"PostgreSQL", "Oracle", "H2"})
+  void should_LeaseEventsToOneOwnerOnly_When_TwoOwnersClaimConcurrently(
+      String databaseProductName) throws Exception {
+
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<List<Integer>> leasedByFirstOwner =
+          executor.submit(leaseAfter(start, databaseProductName, "owner-1"));
+      Future<List<Integer>> leasedBySecondOwner =
+          executor.submit(leaseAfter(start, databaseProductName, "owner-2"));
+      start.countDown();
+
+      // 20 events are available, so every request leases as many events as it asked for
+      assertThat(leasedByFirstOwner.get()).hasSize(8);
+      assertThat(leasedBySecondOwner.get()).hasSize(8);
+      assertThat(leasedByFirstOwner.get()).doesNotContainAnyElementsOf(leasedBySecondOwner.get());
+      assertThat(getLeasedIds("owner-1")).isEqualTo(leasedByFirstOwner.get());
+      assertThat(getLeasedIds("owner-2")).isEqualTo(leasedBySecondOwner.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void should_LeaseNextEvents_When_CandidatesWereLeasedConcurrently() throws Exception {
+
+    // another owner leases the first candidates between their selection and their update
+    concurrentUpdates.add(
+        "set lease_owner = 'owner-2', "
+            + "lease_expire = DATEADD('MINUTE', 5, CURRENT_TIMESTAMP) where id <= 3");
+
+    assertThat(lease("H2", "owner-1", 3)).containsExactly(4, 5, 6);
+    assertThat(getLeasedIds("owner-1")).containsExactly(4, 5, 6);
+    assertThat(getLeasedIds("owner-2")).containsExactly(1, 2, 3);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"PostgreSQL", "Oracle", "H2"})
+  void should_LeaseEventToAnotherOwner_When_LeaseExpired(String databaseProductName)
+      throws Exception {
+
+    List<Integer> leasedIds = lease(databaseProductName, "owner-1", 20);
+    assertThat(leasedIds).hasSize(20);
+    assertThat(lease(databaseProductName, "owner-2", 20)).isEmpty();
+
+    // the lease is taken with the time of the database
+    assertThat(countEvents("lease_expire > DATEADD('MINUTE', 4, CURRENT_TIMESTAMP)"))
+        .isEqualTo(20);
+
+    updateEvents("set lease_expire = DATEADD('SECOND', -1, CURRENT_TIMESTAMP) where id = 5");
+
+    assertThat(lease(databaseProductName, "owner-2", 20)).containsExactly(5);
+    assertThat(getLeasedIds("owner-2")).containsExactly(5);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"PostgreSQL", "Oracle", "H2"})
+  void should_LimitLeasedEvents_When_MoreEventsAreAvailable(String databaseProductName)
+      throws Exception {
+
+    assertThat(lease(databaseProductName, "owner-1", 3)).containsExactly(1, 2, 3);
+
+    String leaseQuery = preparedSql.get(1);
+    if ("H2".equals(databaseProductName)) {
+      assertThat(leaseQuery).endsWith("fetch first 3 rows only").doesNotContain("for update");
+      assertThat(maxRows).isEmpty();
+    } else if ("PostgreSQL".equals(databaseProductName)) {
+      assertThat(leaseQuery).endsWith("fetch first 3 rows only for update skip locked");
+    } else {
+      // Oracle doesn't allow FETCH FIRST together with FOR UPDATE
+      assertThat(leaseQuery).endsWith("order by id for update skip locked");
+      assertThat(maxRows).containsExactly(3);
+    }
+  }
+
+  private Callable<List<Integer>> leaseAfter(
+      CountDownLatch start, String databaseProductName, String leaseOwner) {
+    return () -> {
+      start.await();
+      List<Integer> leasedIds = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        leasedIds.addAll(lease(databaseProductName, leaseOwner, 2));
+      }
+      return leasedIds;
+    };
+  }
+
+  private List<Integer> lease(String databaseProductName, String leaseOwner, int limit)
+      throws SQLException {
+    try (Connection connection = DriverManager.getConnection(URL)) {
+      return camundaTaskEventsService
+          .leaseEvents(
+              pretendDatabase(connection, databaseProductName), true, 0, limit, leaseOwner)
+          .stream()
+          .map(CamundaTaskEvent::getId)
+          .collect(Collectors.toList());
+    }
+  }
+
+  private List<Integer> getLeasedIds(String leaseOwner) throws SQLException {
+    try (Connection connection = DriverManager.getConnection(URL);
+        PreparedStatement preparedStatement =
+            connection.prepareStatement(
+                "select id from taskana_tables.event_store where lease_owner = ? order by id")) {
+      preparedStatement.setString(1, leaseOwner);
+      List<Integer> ids = new ArrayList<>();
+      try (ResultSet resultSet = preparedStatement.executeQuery()) {
+        while (resultSet.next()) {
+          ids.add(resultSet.getInt(1));
+        }
+      }
+      return ids;
+    }
+  }
+
+  private int countEvents(String condition) throws SQLException {
+    try (Connection connection = DriverManager.getConnection(URL);
+        Statement statement = connection.createStatement();
+        ResultSet resultSet =
+            statement.executeQuery(
+                "select count(id) from taskana_tables.event_store where " + condition)) {
+      resultSet.next();
+      return resultSet.getInt(1);
+    }
+  }
+
+  private void updateEvents(String assignmentAndCondition) throws SQLException {
+    try (Connection connection = DriverManager.getConnection(URL);
+        Statement statement = connection.createStatement()) {
+      statement.executeUpdate("update taskana_tables.event_store " + assignmentAndCondition);
+    }
+  }
+
+  private Connection pretendDatabase(Connection connection, String databaseProductName) {
+    return proxy(
+        Connection.class,
+        connection,
+        (method, args) -> {
+          if ("getMetaData".equals(method)) {
+            return proxy(
+                DatabaseMetaData.class,
+                connection.getMetaData(),
+                (metaDataMethod, metaDataArgs) ->
+                    "getDatabaseProductName".equals(metaDataMethod) ? databaseProductName : null);
+          } else if ("prepareStatement".equals(method) && args.length == 1) {
+            synchronized (preparedSql) {
+              preparedSql.add((String) args[0]);
+            }
+            return proxy(
+                PreparedStatement.class,
+                connection.prepareStatement((String) args[0]),
+                (statementMethod, statementArgs) -> {
+                  if ("setMaxRows".equals(statementMethod)) {
+                    synchronized (maxRows) {
+                      maxRows.add((Integer) statementArgs[0]);
+                    }
+                  } else if ("executeUpdate".equals(statementMethod)) {
+                    for (String concurrentUpdate : concurrentUpdates) {
+                      updateEvents(concurrentUpdate);
+                    }
+                    concurrentUpdates.clear();
+                  }
+                  return null;
+                });
+          }
+          return null;
+        });
+  }
+
+  // delegates every call that the interception doesn't answer to the target
+  @SuppressWarnings("unchecked")
+  private static <T> T proxy(Class<T> type, T target, Interception interception) {
+    return (T)
+        Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) -> {
+              Object result = interception.invoke(method.getName(), args);
+              if (result != null) {
+                return result;
+              }
+              try {
+                return method.invoke(target, args);
+              } catch (InvocationTargetException e) {
+                throw e.getCause();
+              }
+            });
+  }
+
+  @FunctionalInterface
+  private interface Interception {
+
+    Object invoke(String method, Object[] args) throws SQLException;
+  }
+}
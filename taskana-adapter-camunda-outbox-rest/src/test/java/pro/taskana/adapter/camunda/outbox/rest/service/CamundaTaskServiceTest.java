@@ -0,0 +1,168 @@
+package pro.taskana.adapter.camunda.outbox.rest.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.authorization.Authorization;
+import org.camunda.bpm.engine.authorization.Permission;
+import org.camunda.bpm.engine.authorization.Permissions;
+import org.camunda.bpm.engine.authorization.Resources;
+import org.camunda.bpm.engine.identity.User;
+import org.camunda.bpm.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.camunda.bpm.engine.task.Task;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pro.taskana.adapter.camunda.outbox.rest.exception.NotAuthenticatedException;
+import pro.taskana.adapter.camunda.outbox.rest.exception.ProcessEngineNotAvailableException;
+import pro.taskana.adapter.camunda.outbox.rest.model.CamundaTaskResult;
+
+/**
+ * Test for the processing of camunda tasks by a process engine that checks authorizations. The
+ * engine isn't the default process engine, so it is only found by its name.
+ */
+class CamundaTaskServiceTest {
+
+  private static final String ENGINE_NAME = "outbox-tasks";
+  private static final String USER_ID = "clerk";
+  private static final String PASSWORD = "secret";
+
+  private static ProcessEngine processEngine;
+
+  private final CamundaTaskService camundaTaskService = new CamundaTaskService();
+  private String taskId;
+
+  @BeforeAll
+  static void buildProcessEngine() {
+    processEngine =
+        new StandaloneInMemProcessEngineConfiguration()
+            .setProcessEngineName(ENGINE_NAME)
+            .setJdbcUrl("jdbc:h2:mem:outbox-tasks;DB_CLOSE_DELAY=-1")
+            .setAuthorizationEnabled(true)
+            .setJobExecutorActivate(false)
+            .buildProcessEngine();
+
+    User user = processEngine.getIdentityService().newUser(USER_ID);
+    user.setPassword(PASSWORD);
+    processEngine.getIdentityService().saveUser(user);
+  }
+
+  @AfterAll
+  static void closeProcessEngine() {
+    processEngine.close();
+  }
+
+  @BeforeEach
+  void createTask() {
+    Task task = processEngine.getTaskService().newTask();
+    processEngine.getTaskService().saveTask(task);
+    taskId = task.getId();
+  }
+
+  @AfterEach
+  void deleteTask() {
+    processEngine.getTaskService().deleteTask(taskId, true);
+    processEngine
+        .getAuthorizationService()
+        .createAuthorizationQuery()
+        .userIdIn(USER_ID)
+        .list()
+        .forEach(
+            authorization ->
+                processEngine.getAuthorizationService().deleteAuthorization(authorization.getId()));
+  }
+
+  @Test
+  void should_ReportUnavailableProcessEngine_When_EngineNameIsUnknown() {
+
+    assertThatThrownBy(
+            () ->
+                camundaTaskService.completeTask(
+                    taskId, "{}", "unknown", basicCaller(USER_ID, PASSWORD)))
+        .isInstanceOf(ProcessEngineNotAvailableException.class);
+  }
+
+  @Test
+  void should_RejectCaller_When_CallerIsNotAuthenticated() {
+    grant(Permissions.ALL);
+
+    assertThatThrownBy(
+            () ->
+                camundaTaskService.completeTask(
+                    taskId, "{}", ENGINE_NAME, CamundaTaskCaller.anonymous()))
+        .isInstanceOf(NotAuthenticatedException.class);
+    assertThatThrownBy(
+            () ->
+                camundaTaskService.completeTasks(
+                    "[{\"taskId\":\"" + taskId + "\"}]",
+                    ENGINE_NAME,
+                    basicCaller(USER_ID, "wrong")))
+        .isInstanceOf(NotAuthenticatedException.class);
+
+    assertThat(countTasks()).isOne();
+  }
+
+  @Test
+  void should_DenyCompletion_When_CallerMayOnlyReadTheTask() throws Exception {
+    grant(Permissions.READ);
+
+    List<CamundaTaskResult> results =
+        camundaTaskService.completeTasks(
+            "[{\"taskId\":\"" + taskId + "\"}]", ENGINE_NAME, basicCaller(USER_ID, PASSWORD));
+
+    assertThat(results).extracting(CamundaTaskResult::getStatus).containsExactly(403);
+    assertThat(countTasks()).isOne();
+  }
+
+  @Test
+  void should_CompleteTask_When_CallerIsAuthorized() throws Exception {
+    grant(Permissions.ALL);
+
+    camundaTaskService.completeTask(
+        taskId, "{\"assignee\":\"" + USER_ID + "\"}", ENGINE_NAME, basicCaller(USER_ID, PASSWORD));
+
+    assertThat(countTasks()).isZero();
+    // the authentication of the request doesn't stay with the thread
+    assertThat(processEngine.getIdentityService().getCurrentAuthentication()).isNull();
+  }
+
+  @Test
+  void should_CompleteTask_When_ServletContainerAuthenticatedTheCaller() throws Exception {
+    grant(Permissions.ALL);
+
+    camundaTaskService.completeTask(
+        taskId, "{}", ENGINE_NAME, CamundaTaskCaller.of(() -> USER_ID, null));
+
+    assertThat(countTasks()).isZero();
+  }
+
+  private void grant(Permission permission) {
+    Authorization authorization =
+        processEngine
+            .getAuthorizationService()
+            .createNewAuthorization(Authorization.AUTH_TYPE_GRANT);
+    authorization.setUserId(USER_ID);
+    authorization.setResource(Resources.TASK);
+    authorization.setResourceId(taskId);
+    authorization.addPermission(permission);
+    processEngine.getAuthorizationService().saveAuthorization(authorization);
+  }
+
+  private long countTasks() {
+    return processEngine.getTaskService().createTaskQuery().taskId(taskId).count();
+  }
+
+  private static CamundaTaskCaller basicCaller(String userId, String password) {
+    String credentials = userId + ":" + password;
+    return CamundaTaskCaller.of(
+        null,
+        "Basic "
+            + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)));
+  }
+}
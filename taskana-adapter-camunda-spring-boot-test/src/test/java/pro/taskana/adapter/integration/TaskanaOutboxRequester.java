@@ -1,11 +1,25 @@
 package pro.taskana.adapter.integration;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 import org.json.JSONException;
+import org.json.JSONObject;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import pro.taskana.adapter.camunda.outbox.rest.model.CamundaTaskEvent;
 import pro.taskana.adapter.camunda.outbox.rest.resource.CamundaTaskEventListResource;
@@ -68,6 +82,122 @@ public class TaskanaOutboxRequester {
     return answer.getBody().getCamundaTaskEvents();
   }
 
+  public List<CamundaTaskEvent> getCompleteAndDeleteEvents() {
+
+    return getEventsPage(BASIC_OUTBOX_PATH + "?type=complete&type=delete").getCamundaTaskEvents();
+  }
+
+  public List<CamundaTaskEvent> leaseCreateEvents(String leaseOwner) {
+
+    return getEventsPage(BASIC_OUTBOX_PATH + "?type=create&lease-owner=" + leaseOwner)
+        .getCamundaTaskEvents();
+  }
+
+  public CamundaTaskEventListResource getFailedEventsPage(int limit) {
+
+    return getEventsPage(BASIC_OUTBOX_PATH + "?retries=0&limit=" + limit);
+  }
+
+  public CamundaTaskEventListResource getFailedEventsPageWaiting(int maxWaitInMillis) {
+
+    return getEventsPage(BASIC_OUTBOX_PATH + "?retries=0&max-wait=" + maxWaitInMillis);
+  }
+
+  public CamundaTaskEventListResource getAllEventsPageWaiting(int maxWaitInMillis) {
+
+    return getEventsPage(BASIC_OUTBOX_PATH + "?max-wait=" + maxWaitInMillis);
+  }
+
+  public CamundaTaskEventListResource getEventsPage(String url) {
+
+    HttpEntity<Void> requestEntity = httpHeaderProvider.prepareNewEntityForOutboxRestApi();
+    ResponseEntity<CamundaTaskEventListResource> answer =
+        this.restTemplate.exchange(
+            url, HttpMethod.GET, requestEntity, CamundaTaskEventListResource.class);
+
+    return answer.getBody();
+  }
+
+  public List<String> streamFailedEvents() {
+
+    String url = BASIC_OUTBOX_PATH + "?retries=0";
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.putAll(httpHeaderProvider.prepareNewEntityForOutboxRestApi().getHeaders());
+    headers.setAccept(Collections.singletonList(MediaType.parseMediaType("application/x-ndjson")));
+
+    ResponseEntity<String> answer =
+        this.restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+    return Arrays.asList(answer.getBody().split("\n"));
+  }
+
+  public ResponseEntity<String> getFailedEventsIfNoneMatch(String entityTag) {
+
+    String url = BASIC_OUTBOX_PATH + "?retries=0";
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.putAll(httpHeaderProvider.prepareNewEntityForOutboxRestApi().getHeaders());
+    if (entityTag != null) {
+      headers.setIfNoneMatch(entityTag);
+    }
+
+    return this.restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+  }
+
+  // requested without the rest template, because its http client decodes the response silently
+  public HttpResponse<byte[]> getAllEventsGzipEncoded() throws IOException, InterruptedException {
+
+    HttpRequest.Builder requestBuilder =
+        newOutboxRequestBuilder().header(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+    return HttpClient.newHttpClient()
+        .send(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+  }
+
+  // requested without the rest template, because it reads the whole response before returning it
+  public HttpResponse<Stream<String>> subscribeToAllEvents(String lastEventId)
+      throws IOException, InterruptedException {
+
+    HttpRequest.Builder requestBuilder =
+        newOutboxRequestBuilder().header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE);
+    if (lastEventId != null) {
+      requestBuilder.header("Last-Event-ID", lastEventId);
+    }
+
+    return HttpClient.newHttpClient()
+        .send(requestBuilder.build(), HttpResponse.BodyHandlers.ofLines());
+  }
+
+  public String decodeGzip(byte[] body) throws IOException {
+    try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+      return new String(gzipInputStream.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  private HttpRequest.Builder newOutboxRequestBuilder() {
+
+    HttpRequest.Builder requestBuilder =
+        HttpRequest.newBuilder(URI.create(BASIC_OUTBOX_PATH)).GET();
+    httpHeaderProvider
+        .prepareNewEntityForOutboxRestApi()
+        .getHeaders()
+        .forEach((name, values) -> values.forEach(value -> requestBuilder.header(name, value)));
+
+    return requestBuilder;
+  }
+
+  public JSONObject getPoolMetrics() throws JSONException {
+
+    String url = BASIC_OUTBOX_PATH + "/pool-metrics";
+
+    HttpEntity<Void> requestEntity = httpHeaderProvider.prepareNewEntityForOutboxRestApi();
+    ResponseEntity<String> answer =
+        this.restTemplate.exchange(url, HttpMethod.GET, requestEntity, String.class);
+
+    return new JSONObject(answer.getBody());
+  }
+
   public List<CamundaTaskEvent> getAllEvents() {
 
     String url = BASIC_OUTBOX_PATH;
@@ -0,0 +1,128 @@
+package pro.taskana.adapter.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.context.ContextConfiguration;
+import pro.taskana.adapter.exceptions.TaskCreationFailedException;
+import pro.taskana.adapter.taskanaconnector.api.TaskanaConnector;
+import pro.taskana.adapter.taskanaconnector.api.TaskanaTaskCreationResult;
+import pro.taskana.adapter.taskanaconnector.api.TaskanaTaskCreationResult.Status;
+import pro.taskana.adapter.test.TaskanaAdapterTestApplication;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
+
+/** Test class to test the creation of TASKANA tasks in chunks with a savepoint per task. */
+@SpringBootTest(
+    classes = TaskanaAdapterTestApplication.class,
+    webEnvironment = WebEnvironment.DEFINED_PORT)
+@AutoConfigureWebTestClient
+@ExtendWith(JaasExtension.class)
+@ContextConfiguration
+class TestChunkedTaskCreation extends AbsIntegrationTest {
+
+  @Autowired TaskanaConnector taskanaConnector;
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin"})
+  @Test
+  void should_CreateTheOtherTasksOfTheChunk_When_OneTaskOfTheChunkFails() throws Exception {
+
+    List<Task> tasks =
+        List.of(
+            newTask("GPK_KSC"),
+            newTask("GPK_KSC"),
+            newTask("UNKNOWN_WORKBASKET"),
+            newTask("GPK_KSC"),
+            newTask("GPK_KSC"));
+
+    int chunkSize = setTaskCreationChunkSize(2);
+    List<TaskanaTaskCreationResult> results;
+    try {
+      results = taskanaConnector.createTaskanaTasks(tasks);
+    } finally {
+      setTaskCreationChunkSize(chunkSize);
+    }
+
+    assertThat(results)
+        .extracting(TaskanaTaskCreationResult::getStatus)
+        .containsExactly(
+            Status.CREATED, Status.CREATED, Status.FAILED, Status.CREATED, Status.CREATED);
+    assertThat(results.get(2).getError())
+        .isInstanceOf(TaskCreationFailedException.class)
+        .hasMessageContaining(tasks.get(2).getExternalId());
+
+    // the failed task was rolled back to its savepoint, the rest of its chunk was committed
+    assertThat(retrieveExternalIdsOfTaskanaTasks(tasks))
+        .containsExactlyInAnyOrder(
+            tasks.get(0).getExternalId(),
+            tasks.get(1).getExternalId(),
+            tasks.get(3).getExternalId(),
+            tasks.get(4).getExternalId());
+  }
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin"})
+  @Test
+  void should_ReportTaskAsAlreadyExisting_When_TaskOfTheChunkWasCreatedBefore() throws Exception {
+
+    Task existingTask = newTask("GPK_KSC");
+    assertThat(taskanaConnector.createTaskanaTasks(List.of(existingTask)))
+        .extracting(TaskanaTaskCreationResult::getStatus)
+        .containsExactly(Status.CREATED);
+
+    Task taskCreatedAgain = newTask("GPK_KSC");
+    taskCreatedAgain.setExternalId(existingTask.getExternalId());
+    List<Task> tasks = List.of(newTask("GPK_KSC"), taskCreatedAgain, newTask("GPK_KSC"));
+
+    List<TaskanaTaskCreationResult> results = taskanaConnector.createTaskanaTasks(tasks);
+
+    assertThat(results)
+        .extracting(TaskanaTaskCreationResult::getStatus)
+        .containsExactly(Status.CREATED, Status.ALREADY_EXISTS, Status.CREATED);
+    assertThat(retrieveExternalIdsOfTaskanaTasks(tasks))
+        .containsExactlyInAnyOrder(
+            tasks.get(0).getExternalId(),
+            existingTask.getExternalId(),
+            tasks.get(2).getExternalId());
+  }
+
+  private Task newTask(String workbasketKey) {
+    Task task = taskService.newTask(workbasketKey, "DOMAIN_A");
+    task.setExternalId(UUID.randomUUID().toString());
+    task.setName("chunked task creation");
+    task.setClassificationKey("T6310");
+    task.setPrimaryObjRef(
+        taskService.newObjectReference("company", "system", "instance", "type", "value"));
+    return task;
+  }
+
+  private List<String> retrieveExternalIdsOfTaskanaTasks(List<Task> tasks) {
+    String[] externalIds = tasks.stream().map(Task::getExternalId).toArray(String[]::new);
+    return taskService.createTaskQuery().externalIdIn(externalIds).list().stream()
+        .map(TaskSummary::getExternalId)
+        .collect(Collectors.toList());
+  }
+
+  private int setTaskCreationChunkSize(int chunkSize) throws Exception {
+    Field taskCreationChunkSize =
+        taskanaConnector.getClass().getDeclaredField("taskCreationChunkSize");
+    taskCreationChunkSize.setAccessible(true);
+    int previousChunkSize = taskCreationChunkSize.getInt(taskanaConnector);
+    taskCreationChunkSize.setInt(taskanaConnector, chunkSize);
+    return previousChunkSize;
+  }
+}
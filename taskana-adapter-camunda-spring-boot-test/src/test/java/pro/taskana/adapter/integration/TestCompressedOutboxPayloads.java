@@ -0,0 +1,59 @@
+package pro.taskana.adapter.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import pro.taskana.adapter.test.TaskanaAdapterTestApplication;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
+
+/**
+ * Test class to test the task creation of an adapter that retrieves the compressed payloads of the
+ * outbox events and decodes them itself.
+ */
+@SpringBootTest(
+    classes = TaskanaAdapterTestApplication.class,
+    webEnvironment = WebEnvironment.DEFINED_PORT)
+@AutoConfigureWebTestClient
+@ExtendWith(JaasExtension.class)
+@ContextConfiguration
+@ActiveProfiles("outbox-compressed-payloads")
+@Tag("outbox-compressed-payloads")
+class TestCompressedOutboxPayloads extends AbsIntegrationTest {
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin"})
+  @Test
+  void should_CreateTaskanaTasksWithVariables_When_AdapterDecodesCompressedPayloads()
+      throws Exception {
+
+    String processInstanceId =
+        this.camundaProcessengineRequester.startCamundaProcessAndReturnId(
+            "simple_user_task_process_with_multiple_tasks_and_complex_variables", "");
+    List<String> camundaTaskIds =
+        this.camundaProcessengineRequester.getTaskIdsFromProcessInstanceId(processInstanceId);
+    assertThat(camundaTaskIds).hasSize(3);
+
+    Thread.sleep((long) (this.adapterTaskPollingInterval * 1.2));
+
+    List<TaskSummary> taskanaTasks =
+        this.taskService.createTaskQuery().externalIdIn(camundaTaskIds.get(2)).list();
+    assertThat(taskanaTasks).hasSize(1);
+    Task taskanaTask = taskService.getTask(taskanaTasks.get(0).getId());
+    assertThat(taskanaTask.getCustomAttributeMap().keySet())
+        .containsExactlyInAnyOrderElementsOf(
+            Arrays.asList("camunda:attribute1", "camunda:attribute2", "camunda:attribute3"));
+  }
+}
@@ -0,0 +1,85 @@
+package pro.taskana.adapter.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import pro.taskana.adapter.camunda.outbox.rest.model.CamundaTaskEvent;
+import pro.taskana.adapter.test.TaskanaAdapterTestApplication;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.models.TaskSummary;
+
+/**
+ * Test class to test the task creation and termination of an adapter that long polls the outbox.
+ */
+@SpringBootTest(
+    classes = TaskanaAdapterTestApplication.class,
+    webEnvironment = WebEnvironment.DEFINED_PORT)
+@AutoConfigureWebTestClient
+@ExtendWith(JaasExtension.class)
+@ContextConfiguration
+@ActiveProfiles("outbox-long-polling")
+@Tag("adapter-mode")
+class TestLongPollingTaskAcquisition extends AbsIntegrationTest {
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin"})
+  @Test
+  void should_CreateTaskanaTasks_When_AdapterLongPollsOutbox() throws Exception {
+
+    // the adapter is already waiting for new events when the processes are started
+    Thread.sleep(this.adapterTaskPollingInterval);
+
+    for (int i = 0; i < 2; i++) {
+      String processInstanceId =
+          this.camundaProcessengineRequester.startCamundaProcessAndReturnId(
+              "simple_user_task_process", "");
+      List<String> camundaTaskIds =
+          this.camundaProcessengineRequester.getTaskIdsFromProcessInstanceId(processInstanceId);
+
+      Thread.sleep((long) (this.adapterTaskPollingInterval * 1.2));
+
+      assertThat(this.taskService.createTaskQuery().externalIdIn(camundaTaskIds.get(0)).list())
+          .hasSize(1);
+    }
+    assertThat(taskanaOutboxRequester.getAllEvents()).isEmpty();
+  }
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin"})
+  @Test
+  void should_CompleteTaskanaTask_When_AdapterLongPollsFinishedEvents() throws Exception {
+
+    String processInstanceId =
+        this.camundaProcessengineRequester.startCamundaProcessAndReturnId(
+            "simple_user_task_process", "");
+    List<String> camundaTaskIds =
+        this.camundaProcessengineRequester.getTaskIdsFromProcessInstanceId(processInstanceId);
+    Thread.sleep((long) (this.adapterTaskPollingInterval * 1.2));
+    assertThat(this.taskService.createTaskQuery().externalIdIn(camundaTaskIds.get(0)).list())
+        .hasSize(1);
+
+    // the adapter waits for the finished events the same way as for the new ones
+    assertThat(this.camundaProcessengineRequester.completeTaskWithId(camundaTaskIds.get(0)))
+        .isTrue();
+    Thread.sleep((long) (this.adapterCompletionPollingInterval * 1.2));
+
+    List<TaskSummary> taskanaTasks =
+        this.taskService.createTaskQuery().externalIdIn(camundaTaskIds.get(0)).list();
+    assertThat(taskanaTasks).hasSize(1);
+    assertThat(taskanaTasks.get(0).getCompleted()).isNotNull();
+    assertThat(taskanaOutboxRequester.getAllEvents())
+        .extracting(CamundaTaskEvent::getCamundaTaskId)
+        .doesNotContain(camundaTaskIds.get(0));
+  }
+}
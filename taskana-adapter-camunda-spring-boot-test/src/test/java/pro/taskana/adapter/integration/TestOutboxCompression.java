@@ -0,0 +1,102 @@
+package pro.taskana.adapter.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.http.HttpResponse;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ContextConfiguration;
+import pro.taskana.adapter.camunda.outbox.rest.model.CamundaTaskEvent;
+import pro.taskana.adapter.test.TaskanaAdapterTestApplication;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.impl.configuration.DbCleaner;
+import pro.taskana.impl.configuration.DbCleaner.ApplicationDatabaseType;
+
+/** Test class to test the compressed and conditional responses of the outbox REST service. */
+@SpringBootTest(
+    classes = TaskanaAdapterTestApplication.class,
+    webEnvironment = WebEnvironment.DEFINED_PORT)
+@AutoConfigureWebTestClient
+@ExtendWith(JaasExtension.class)
+@ContextConfiguration
+class TestOutboxCompression extends AbsIntegrationTest {
+
+  @AfterEach
+  @WithAccessId(user = "taskadmin")
+  void resetOutbox() {
+    DbCleaner cleaner = new DbCleaner();
+    cleaner.clearDb(camundaBpmDataSource, ApplicationDatabaseType.OUTBOX);
+  }
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin"})
+  @Test
+  void should_ReturnNotModified_When_EventsHaveNotChangedSinceLastRequest() {
+
+    ResponseEntity<String> firstResponse = taskanaOutboxRequester.getFailedEventsIfNoneMatch(null);
+    String entityTag = firstResponse.getHeaders().getETag();
+    ResponseEntity<String> secondResponse =
+        taskanaOutboxRequester.getFailedEventsIfNoneMatch(entityTag);
+
+    assertThat(firstResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(entityTag).startsWith("W/");
+    assertThat(secondResponse.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(secondResponse.getBody()).isNull();
+  }
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin"})
+  @Test
+  void should_ReturnEvents_When_EventsHaveChangedSinceLastRequest() throws Exception {
+
+    ResponseEntity<String> firstResponse = taskanaOutboxRequester.getFailedEventsIfNoneMatch(null);
+    String entityTag = firstResponse.getHeaders().getETag();
+
+    String processInstanceId =
+        this.camundaProcessengineRequester.startCamundaProcessAndReturnId(
+            "simple_user_task_process_with_incorrect_workbasket_key", "");
+    List<String> camundaTaskIds =
+        this.camundaProcessengineRequester.getTaskIdsFromProcessInstanceId(processInstanceId);
+    CamundaTaskEvent camundaTaskEvent = taskanaOutboxRequester.getAllEvents().get(0);
+    assertThat(taskanaOutboxRequester.setRemainingRetries(camundaTaskEvent.getId(), 0)).isTrue();
+
+    ResponseEntity<String> secondResponse =
+        taskanaOutboxRequester.getFailedEventsIfNoneMatch(entityTag);
+
+    assertThat(secondResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(secondResponse.getHeaders().getETag()).isNotEqualTo(entityTag);
+    assertThat(secondResponse.getBody()).contains(camundaTaskIds.get(0));
+  }
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin"})
+  @Test
+  void should_CompressEvents_When_ClientAcceptsGzip() throws Exception {
+
+    String processInstanceId =
+        this.camundaProcessengineRequester.startCamundaProcessAndReturnId(
+            "simple_user_task_process_with_incorrect_workbasket_key", "");
+    List<String> camundaTaskIds =
+        this.camundaProcessengineRequester.getTaskIdsFromProcessInstanceId(processInstanceId);
+
+    HttpResponse<byte[]> response = taskanaOutboxRequester.getAllEventsGzipEncoded();
+
+    assertThat(response.statusCode()).isEqualTo(200);
+    assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+    assertThat(taskanaOutboxRequester.decodeGzip(response.body()))
+        .contains("\"camundaTaskEvents\"")
+        .contains(camundaTaskIds.get(0));
+  }
+}
@@ -0,0 +1,106 @@
+package pro.taskana.adapter.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import pro.taskana.adapter.camunda.outbox.rest.model.CamundaTaskEvent;
+import pro.taskana.adapter.manager.AdapterManager;
+import pro.taskana.adapter.systemconnector.api.SystemConnector;
+import pro.taskana.adapter.test.TaskanaAdapterTestApplication;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+
+/** Test class to test the task creation of an adapter that leases the outbox events. */
+@SpringBootTest(
+    classes = TaskanaAdapterTestApplication.class,
+    webEnvironment = WebEnvironment.DEFINED_PORT)
+@AutoConfigureWebTestClient
+@ExtendWith(JaasExtension.class)
+@ContextConfiguration
+@ActiveProfiles("outbox-leasing")
+@Tag("adapter-mode")
+class TestOutboxLeasing extends AbsIntegrationTest {
+
+  private static final String OTHER_LEASE_OWNER = "other-adapter";
+
+  @Autowired AdapterManager adapterManager;
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin"})
+  @Test
+  void should_CreateTaskanaTask_When_AdapterLeasedCreateEvent() throws Exception {
+
+    String processInstanceId =
+        this.camundaProcessengineRequester.startCamundaProcessAndReturnId(
+            "simple_user_task_process", "");
+    List<String> camundaTaskIds =
+        this.camundaProcessengineRequester.getTaskIdsFromProcessInstanceId(processInstanceId);
+
+    Thread.sleep((long) (this.adapterTaskPollingInterval * 1.2));
+
+    assertThat(this.taskService.createTaskQuery().externalIdIn(camundaTaskIds.get(0)).list())
+        .hasSize(1);
+    assertThat(taskanaOutboxRequester.getAllEvents()).isEmpty();
+  }
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin"})
+  @Test
+  void should_CreateTaskanaTaskOnlyAfterLeaseExpired_When_OtherAdapterLeasedCreateEvent()
+      throws Exception {
+
+    Map<String, SystemConnector> originalSystemConnectors =
+        new HashMap<>(adapterManager.getSystemConnectors());
+    List<String> camundaTaskIds;
+    try {
+      // the adapter doesn't poll the outbox until the other adapter leased the event
+      adapterManager.getSystemConnectors().clear();
+      Thread.sleep(200);
+
+      String processInstanceId =
+          this.camundaProcessengineRequester.startCamundaProcessAndReturnId(
+              "simple_user_task_process", "");
+      camundaTaskIds =
+          this.camundaProcessengineRequester.getTaskIdsFromProcessInstanceId(processInstanceId);
+
+      assertThat(taskanaOutboxRequester.leaseCreateEvents(OTHER_LEASE_OWNER))
+          .extracting(CamundaTaskEvent::getCamundaTaskId)
+          .containsExactlyElementsOf(camundaTaskIds);
+    } finally {
+      adapterManager.getSystemConnectors().putAll(originalSystemConnectors);
+    }
+
+    Thread.sleep(this.adapterTaskPollingInterval * 2);
+
+    assertThat(this.taskService.createTaskQuery().externalIdIn(camundaTaskIds.get(0)).list())
+        .isEmpty();
+
+    new JdbcTemplate(camundaBpmDataSource)
+        .update(
+            "UPDATE taskana_tables.event_store SET lease_expire = ? WHERE lease_owner = ?",
+            Timestamp.from(Instant.now().minus(1, ChronoUnit.HOURS)),
+            OTHER_LEASE_OWNER);
+
+    Thread.sleep((long) (this.adapterTaskPollingInterval * 1.2));
+
+    assertThat(this.taskService.createTaskQuery().externalIdIn(camundaTaskIds.get(0)).list())
+        .hasSize(1);
+  }
+}
@@ -0,0 +1,86 @@
+package pro.taskana.adapter.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.context.ContextConfiguration;
+import pro.taskana.adapter.camunda.outbox.rest.model.CamundaTaskEvent;
+import pro.taskana.adapter.camunda.outbox.rest.resource.CamundaTaskEventListResource;
+import pro.taskana.adapter.test.TaskanaAdapterTestApplication;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.impl.configuration.DbCleaner;
+import pro.taskana.impl.configuration.DbCleaner.ApplicationDatabaseType;
+
+/** Test class to test the long polling of outbox events. */
+@SpringBootTest(
+    classes = TaskanaAdapterTestApplication.class,
+    webEnvironment = WebEnvironment.DEFINED_PORT)
+@AutoConfigureWebTestClient
+@ExtendWith(JaasExtension.class)
+@ContextConfiguration
+class TestOutboxLongPolling extends AbsIntegrationTest {
+
+  @AfterEach
+  @WithAccessId(user = "taskadmin")
+  void resetOutbox() {
+    DbCleaner cleaner = new DbCleaner();
+    cleaner.clearDb(camundaBpmDataSource, ApplicationDatabaseType.OUTBOX);
+  }
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin"})
+  @Test
+  void should_WaitForEvents_When_MaxWaitIsRequested() {
+
+    Instant start = Instant.now();
+    CamundaTaskEventListResource failedEvents =
+        taskanaOutboxRequester.getFailedEventsPageWaiting(1500);
+    Duration waited = Duration.between(start, Instant.now());
+
+    assertThat(failedEvents.getCamundaTaskEvents()).isEmpty();
+    assertThat(waited).isGreaterThanOrEqualTo(Duration.ofMillis(1400));
+  }
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin"})
+  @Test
+  void should_ReturnEarly_When_EventArrivesWhileWaiting() throws Exception {
+
+    Instant start = Instant.now();
+    CompletableFuture<CamundaTaskEventListResource> waitingPoll =
+        CompletableFuture.supplyAsync(
+            () -> taskanaOutboxRequester.getAllEventsPageWaiting(20000));
+
+    // the poll waits as long as there is no event
+    assertThatThrownBy(() -> waitingPoll.get(500, TimeUnit.MILLISECONDS))
+        .isInstanceOf(TimeoutException.class);
+
+    String processInstanceId =
+        this.camundaProcessengineRequester.startCamundaProcessAndReturnId(
+            "simple_user_task_process_with_incorrect_workbasket_key", "");
+    List<String> camundaTaskIds =
+        this.camundaProcessengineRequester.getTaskIdsFromProcessInstanceId(processInstanceId);
+    CamundaTaskEventListResource events = waitingPoll.get(10, TimeUnit.SECONDS);
+    Duration waited = Duration.between(start, Instant.now());
+
+    assertThat(events.getCamundaTaskEvents())
+        .extracting(CamundaTaskEvent::getCamundaTaskId)
+        .contains(camundaTaskIds.get(0));
+    assertThat(waited).isLessThan(Duration.ofMillis(20000));
+  }
+}
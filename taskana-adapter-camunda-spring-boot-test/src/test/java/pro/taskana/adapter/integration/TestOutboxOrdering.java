@@ -0,0 +1,75 @@
+package pro.taskana.adapter.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.context.ContextConfiguration;
+import pro.taskana.adapter.camunda.outbox.rest.model.CamundaTaskEvent;
+import pro.taskana.adapter.test.TaskanaAdapterTestApplication;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.impl.configuration.DbCleaner;
+import pro.taskana.impl.configuration.DbCleaner.ApplicationDatabaseType;
+
+/** Test class to test that the outbox keeps the events of a task in order. */
+@SpringBootTest(
+    classes = TaskanaAdapterTestApplication.class,
+    webEnvironment = WebEnvironment.DEFINED_PORT)
+@AutoConfigureWebTestClient
+@ExtendWith(JaasExtension.class)
+@ContextConfiguration
+@Tag("outbox-ordered")
+class TestOutboxOrdering extends AbsIntegrationTest {
+
+  @AfterEach
+  @WithAccessId(user = "taskadmin")
+  void resetOutbox() {
+    DbCleaner cleaner = new DbCleaner();
+    cleaner.clearDb(camundaBpmDataSource, ApplicationDatabaseType.OUTBOX);
+  }
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin"})
+  @Test
+  void should_HoldBackCompleteEvent_When_CreateEventOfSameTaskIsStillPending() throws Exception {
+
+    String processInstanceId =
+        this.camundaProcessengineRequester.startCamundaProcessAndReturnId(
+            "simple_user_task_process_with_incorrect_workbasket_key", "");
+
+    List<String> camundaTaskIds =
+        this.camundaProcessengineRequester.getTaskIdsFromProcessInstanceId(processInstanceId);
+    String camundaTaskId = camundaTaskIds.get(0);
+
+    assertThat(this.camundaProcessengineRequester.completeTaskWithId(camundaTaskId)).isTrue();
+
+    List<CamundaTaskEvent> completeAndDeleteEvents =
+        taskanaOutboxRequester.getCompleteAndDeleteEvents();
+    // the remaining retries only decrease, so the create event was pending before as well
+    List<CamundaTaskEvent> allEvents = taskanaOutboxRequester.getAllEvents();
+
+    assertThat(allEvents)
+        .anySatisfy(
+            event -> {
+              assertThat(event.getType()).isEqualTo("create");
+              assertThat(event.getCamundaTaskId()).isEqualTo(camundaTaskId);
+              assertThat(event.getRemainingRetries()).isPositive();
+            })
+        .anySatisfy(
+            event -> {
+              assertThat(event.getType()).isEqualTo("complete");
+              assertThat(event.getCamundaTaskId()).isEqualTo(camundaTaskId);
+            });
+    assertThat(completeAndDeleteEvents)
+        .extracting(CamundaTaskEvent::getCamundaTaskId)
+        .doesNotContain(camundaTaskId);
+  }
+}
@@ -0,0 +1,72 @@
+package pro.taskana.adapter.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.context.ContextConfiguration;
+import pro.taskana.adapter.camunda.outbox.rest.model.CamundaTaskEvent;
+import pro.taskana.adapter.camunda.outbox.rest.resource.CamundaTaskEventListResource;
+import pro.taskana.adapter.test.TaskanaAdapterTestApplication;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.impl.configuration.DbCleaner;
+import pro.taskana.impl.configuration.DbCleaner.ApplicationDatabaseType;
+
+/** Test class to test the retrieval of outbox events page by page. */
+@SpringBootTest(
+    classes = TaskanaAdapterTestApplication.class,
+    webEnvironment = WebEnvironment.DEFINED_PORT)
+@AutoConfigureWebTestClient
+@ExtendWith(JaasExtension.class)
+@ContextConfiguration
+class TestOutboxPagination extends AbsIntegrationTest {
+
+  @AfterEach
+  @WithAccessId(user = "taskadmin")
+  void resetOutbox() {
+    DbCleaner cleaner = new DbCleaner();
+    cleaner.clearDb(camundaBpmDataSource, ApplicationDatabaseType.OUTBOX);
+  }
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin"})
+  @Test
+  void should_ReturnFailedEventsPageByPage_When_LimitIsSmallerThanNumberOfFailedEvents()
+      throws Exception {
+
+    String processInstanceId =
+        this.camundaProcessengineRequester.startCamundaProcessAndReturnId(
+            "simple_user_task_process_with_incorrect_workbasket_key", "");
+
+    List<String> camundaTaskIds =
+        this.camundaProcessengineRequester.getTaskIdsFromProcessInstanceId(processInstanceId);
+
+    assertThat(camundaTaskIds).hasSize(3);
+
+    Thread.sleep(
+        (long) (this.adapterTaskPollingInterval * 1.2 + this.adapterRetryAndBlockingInterval));
+
+    // retries = 0, no retries left
+    CamundaTaskEventListResource firstPage = taskanaOutboxRequester.getFailedEventsPage(2);
+
+    assertThat(firstPage.getCamundaTaskEvents()).hasSize(2);
+    int lastIdOfFirstPage = firstPage.getCamundaTaskEvents().get(1).getId();
+    assertThat(firstPage.getNextPage()).contains("after-id=" + lastIdOfFirstPage);
+
+    CamundaTaskEventListResource secondPage =
+        taskanaOutboxRequester.getEventsPage(firstPage.getNextPage());
+
+    assertThat(secondPage.getCamundaTaskEvents())
+        .extracting(CamundaTaskEvent::getId)
+        .singleElement()
+        .satisfies(id -> assertThat(id).isGreaterThan(lastIdOfFirstPage));
+    assertThat(secondPage.getNextPage()).isNull();
+  }
+}
@@ -0,0 +1,41 @@
+package pro.taskana.adapter.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.context.ContextConfiguration;
+import pro.taskana.adapter.test.TaskanaAdapterTestApplication;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+
+/** Test class to test the metrics of the connection pool of the outbox REST service. */
+@SpringBootTest(
+    classes = TaskanaAdapterTestApplication.class,
+    webEnvironment = WebEnvironment.DEFINED_PORT)
+@AutoConfigureWebTestClient
+@ExtendWith(JaasExtension.class)
+@ContextConfiguration
+class TestOutboxPoolMetrics extends AbsIntegrationTest {
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin"})
+  @Test
+  void should_ExposeOutboxPoolMetrics_When_EventsHaveBeenRequested() throws Exception {
+
+    taskanaOutboxRequester.getAllEvents();
+
+    JSONObject poolMetrics = taskanaOutboxRequester.getPoolMetrics();
+
+    assertThat(poolMetrics.getString("poolType")).isEqualTo("hikari");
+    assertThat(poolMetrics.getLong("acquireCount")).isPositive();
+    assertThat(poolMetrics.getInt("totalConnections"))
+        .isGreaterThanOrEqualTo(poolMetrics.getInt("activeConnections"));
+    assertThat(poolMetrics.getInt("pendingRequests")).isNotNegative();
+  }
+}
@@ -0,0 +1,101 @@
+package pro.taskana.adapter.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ContextConfiguration;
+import pro.taskana.adapter.test.TaskanaAdapterTestApplication;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.impl.configuration.DbCleaner;
+import pro.taskana.impl.configuration.DbCleaner.ApplicationDatabaseType;
+
+/** Test class to test the push of outbox events as server-sent events. */
+@SpringBootTest(
+    classes = TaskanaAdapterTestApplication.class,
+    webEnvironment = WebEnvironment.DEFINED_PORT)
+@AutoConfigureWebTestClient
+@ExtendWith(JaasExtension.class)
+@ContextConfiguration
+class TestOutboxServerSentEvents extends AbsIntegrationTest {
+
+  @AfterEach
+  @WithAccessId(user = "taskadmin")
+  void resetOutbox() {
+    DbCleaner cleaner = new DbCleaner();
+    cleaner.clearDb(camundaBpmDataSource, ApplicationDatabaseType.OUTBOX);
+  }
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin"})
+  @Test
+  void should_PushNewEventsAsServerSentEvents_When_SubscribedToEvents() throws Exception {
+
+    HttpResponse<Stream<String>> subscription = taskanaOutboxRequester.subscribeToAllEvents(null);
+
+    assertThat(subscription.statusCode()).isEqualTo(200);
+    assertThat(subscription.headers().firstValue(HttpHeaders.CONTENT_TYPE))
+        .hasValueSatisfying(contentType -> assertThat(contentType).startsWith("text/event-stream"));
+
+    String processInstanceId =
+        this.camundaProcessengineRequester.startCamundaProcessAndReturnId(
+            "simple_user_task_process_with_incorrect_workbasket_key", "");
+    List<String> camundaTaskIds =
+        this.camundaProcessengineRequester.getTaskIdsFromProcessInstanceId(processInstanceId);
+
+    List<String> eventFields;
+    try (Stream<String> lines = subscription.body()) {
+      eventFields =
+          readWithin(
+              Duration.ofSeconds(20),
+              () ->
+                  lines
+                      .filter(line -> line.startsWith("id:") || line.startsWith("data:"))
+                      .limit(6)
+                      .collect(Collectors.toList()));
+    }
+
+    List<String> data =
+        eventFields.stream()
+            .filter(field -> field.startsWith("data:"))
+            .collect(Collectors.toList());
+    assertThat(data).hasSize(3);
+    camundaTaskIds.forEach(
+        camundaTaskId -> assertThat(data).anyMatch(field -> field.contains(camundaTaskId)));
+
+    // a subscription that resumes after the last event doesn't get the events again
+    String lastEventId = eventFields.get(4).substring("id:".length()).trim();
+    HttpResponse<Stream<String>> resumedSubscription =
+        taskanaOutboxRequester.subscribeToAllEvents(lastEventId);
+
+    List<String> linesBeforeHeartbeat;
+    try (Stream<String> lines = resumedSubscription.body()) {
+      linesBeforeHeartbeat =
+          readWithin(
+              Duration.ofSeconds(20),
+              () -> lines.takeWhile(line -> !line.startsWith(":")).collect(Collectors.toList()));
+    }
+
+    assertThat(linesBeforeHeartbeat).noneMatch(line -> line.startsWith("data:"));
+  }
+
+  // fails with a TimeoutException instead of hanging if the expected lines don't arrive
+  private static <T> T readWithin(Duration timeout, Supplier<T> read) throws Exception {
+    return CompletableFuture.supplyAsync(read).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+  }
+}
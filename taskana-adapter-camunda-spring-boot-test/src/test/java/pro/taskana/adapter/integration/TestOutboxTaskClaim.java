@@ -0,0 +1,78 @@
+package pro.taskana.adapter.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import pro.taskana.adapter.test.TaskanaAdapterTestApplication;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.models.TaskSummary;
+
+/**
+ * Test class to test the claims and cancelled claims of camunda tasks by an adapter that sets them
+ * through the outbox REST service.
+ */
+@SpringBootTest(
+    classes = TaskanaAdapterTestApplication.class,
+    webEnvironment = WebEnvironment.DEFINED_PORT)
+@AutoConfigureWebTestClient
+@ExtendWith(JaasExtension.class)
+@ContextConfiguration
+@ActiveProfiles("outbox-task-claiming")
+@Tag("adapter-mode")
+class TestOutboxTaskClaim extends AbsIntegrationTest {
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin"})
+  @Test
+  void should_ClaimAndCancelClaimOfCamundaTasks_When_ClaimAndCancelClaimOfTaskanaTasks()
+      throws Exception {
+
+    String processInstanceId =
+        this.camundaProcessengineRequester.startCamundaProcessAndReturnId(
+            "simple_user_task_process_with_multiple_tasks_and_complex_variables", "");
+    List<String> camundaTaskIds =
+        this.camundaProcessengineRequester.getTaskIdsFromProcessInstanceId(processInstanceId);
+    assertThat(camundaTaskIds).hasSize(3);
+
+    Thread.sleep((long) (this.adapterTaskPollingInterval * 1.2));
+
+    // the tasks are claimed within one cycle of the adapter
+    List<String> taskanaTaskIds = new ArrayList<>();
+    for (String camundaTaskId : camundaTaskIds) {
+      List<TaskSummary> taskanaTasks =
+          this.taskService.createTaskQuery().externalIdIn(camundaTaskId).list();
+      assertThat(taskanaTasks).hasSize(1);
+      taskanaTaskIds.add(taskanaTasks.get(0).getId());
+      this.taskService.claim(taskanaTasks.get(0).getId());
+    }
+
+    Thread.sleep((long) (this.adapterClaimPollingInterval * 1.2));
+
+    for (String camundaTaskId : camundaTaskIds) {
+      assertThat(this.camundaProcessengineRequester.isCorrectAssignee(camundaTaskId, "teamlead_1"))
+          .isTrue();
+    }
+
+    for (String taskanaTaskId : taskanaTaskIds) {
+      this.taskService.cancelClaim(taskanaTaskId);
+    }
+
+    Thread.sleep((long) (this.adapterCancelPollingInterval * 1.2));
+
+    for (String camundaTaskId : camundaTaskIds) {
+      assertThat(this.camundaProcessengineRequester.isCorrectAssignee(camundaTaskId, null))
+          .isTrue();
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package pro.taskana.adapter.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import pro.taskana.adapter.test.TaskanaAdapterTestApplication;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
+
+/**
+ * Test class to test the completion of camunda tasks by an adapter that completes them through the
+ * outbox REST service.
+ */
+@SpringBootTest(
+    classes = TaskanaAdapterTestApplication.class,
+    webEnvironment = WebEnvironment.DEFINED_PORT)
+@AutoConfigureWebTestClient
+@ExtendWith(JaasExtension.class)
+@ContextConfiguration
+@ActiveProfiles("outbox-task-completion")
+@Tag("adapter-mode")
+class TestOutboxTaskCompletion extends AbsIntegrationTest {
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin"})
+  @Test
+  void should_CompleteCamundaTasks_When_CompleteTaskanaTasks() throws Exception {
+
+    List<String> camundaTaskIds = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      String processInstanceId =
+          this.camundaProcessengineRequester.startCamundaProcessAndReturnId(
+              "simple_user_task_process", "");
+      camundaTaskIds.addAll(
+          this.camundaProcessengineRequester.getTaskIdsFromProcessInstanceId(processInstanceId));
+    }
+    assertThat(camundaTaskIds).hasSize(3);
+
+    Thread.sleep((long) (this.adapterTaskPollingInterval * 1.2));
+
+    // the tasks are completed within one cycle of the adapter
+    for (String camundaTaskId : camundaTaskIds) {
+      List<TaskSummary> taskanaTasks =
+          this.taskService.createTaskQuery().externalIdIn(camundaTaskId).list();
+      assertThat(taskanaTasks).hasSize(1);
+      this.taskService.claim(taskanaTasks.get(0).getId());
+      this.taskService.completeTask(taskanaTasks.get(0).getId());
+    }
+
+    Thread.sleep((long) (this.adapterCompletionPollingInterval * 1.2));
+
+    for (String camundaTaskId : camundaTaskIds) {
+      assertThat(this.camundaProcessengineRequester.getTaskFromTaskId(camundaTaskId)).isFalse();
+      assertThat(this.camundaProcessengineRequester.getTaskFromHistoryFromTaskId(camundaTaskId))
+          .isTrue();
+    }
+  }
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin"})
+  @Test
+  void should_SetAssigneeAndCompleteCamundaTask_When_ForceCompleteTaskanaTask() throws Exception {
+
+    String processInstanceId =
+        this.camundaProcessengineRequester.startCamundaProcessAndReturnId(
+            "simple_user_task_process", "");
+    List<String> camundaTaskIds =
+        this.camundaProcessengineRequester.getTaskIdsFromProcessInstanceId(processInstanceId);
+
+    Thread.sleep((long) (this.adapterTaskPollingInterval * 1.2));
+
+    List<TaskSummary> taskanaTasks =
+        this.taskService.createTaskQuery().externalIdIn(camundaTaskIds.get(0)).list();
+    assertThat(taskanaTasks).hasSize(1);
+    String taskanaTaskId = taskanaTasks.get(0).getId();
+
+    this.taskService.forceCompleteTask(taskanaTaskId);
+    Thread.sleep((long) (this.adapterCompletionPollingInterval * 1.2));
+
+    Task taskanaTask = this.taskService.getTask(taskanaTaskId);
+    assertThat(
+            this.camundaProcessengineRequester.isCorrectAssigneeFromHistory(
+                camundaTaskIds.get(0), taskanaTask.getOwner()))
+        .isTrue();
+  }
+}
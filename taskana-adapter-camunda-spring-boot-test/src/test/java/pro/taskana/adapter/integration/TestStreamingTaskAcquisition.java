@@ -0,0 +1,108 @@
+package pro.taskana.adapter.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import pro.taskana.adapter.camunda.outbox.rest.model.CamundaTaskEvent;
+import pro.taskana.adapter.test.TaskanaAdapterTestApplication;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.models.TaskSummary;
+
+/**
+ * Test class to test the task creation and termination of an adapter that subscribes to the outbox
+ * events as server-sent events.
+ */
+@SpringBootTest(
+    classes = TaskanaAdapterTestApplication.class,
+    webEnvironment = WebEnvironment.DEFINED_PORT)
+@AutoConfigureWebTestClient
+@ExtendWith(JaasExtension.class)
+@ContextConfiguration
+@ActiveProfiles("outbox-streaming")
+@Tag("adapter-mode")
+class TestStreamingTaskAcquisition extends AbsIntegrationTest {
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin"})
+  @Test
+  void should_CreateTaskanaTasks_When_AdapterSubscribedToOutboxEvents() throws Exception {
+
+    // the adapter subscribes to the outbox events with its first task start cycle
+    Thread.sleep(this.adapterTaskPollingInterval);
+
+    for (int i = 0; i < 2; i++) {
+      String processInstanceId =
+          this.camundaProcessengineRequester.startCamundaProcessAndReturnId(
+              "simple_user_task_process", "");
+      List<String> camundaTaskIds =
+          this.camundaProcessengineRequester.getTaskIdsFromProcessInstanceId(processInstanceId);
+
+      Thread.sleep((long) (this.adapterTaskPollingInterval * 1.2));
+
+      assertThat(this.taskService.createTaskQuery().externalIdIn(camundaTaskIds.get(0)).list())
+          .hasSize(1);
+    }
+    assertThat(taskanaOutboxRequester.getAllEvents()).isEmpty();
+  }
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin"})
+  @Test
+  void should_RetryTaskCreation_When_StreamedEventFailedBefore() throws Exception {
+
+    String processInstanceId =
+        this.camundaProcessengineRequester.startCamundaProcessAndReturnId(
+            "simple_user_task_process_with_incorrect_workbasket_key", "");
+    List<String> camundaTaskIds =
+        this.camundaProcessengineRequester.getTaskIdsFromProcessInstanceId(processInstanceId);
+    assertThat(camundaTaskIds).hasSize(3);
+
+    // the subscription passes an event only once, the retries are polled
+    Thread.sleep(
+        (long) (this.adapterTaskPollingInterval * 1.2 + this.adapterRetryAndBlockingInterval));
+
+    assertThat(taskanaOutboxRequester.getFailedEvents())
+        .hasSize(3)
+        .allSatisfy(event -> assertThat(event.getRemainingRetries()).isZero());
+  }
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin"})
+  @Test
+  void should_CompleteTaskanaTask_When_AdapterSubscribedToFinishedEvents() throws Exception {
+
+    String processInstanceId =
+        this.camundaProcessengineRequester.startCamundaProcessAndReturnId(
+            "simple_user_task_process", "");
+    List<String> camundaTaskIds =
+        this.camundaProcessengineRequester.getTaskIdsFromProcessInstanceId(processInstanceId);
+    Thread.sleep((long) (this.adapterTaskPollingInterval * 1.2));
+    assertThat(this.taskService.createTaskQuery().externalIdIn(camundaTaskIds.get(0)).list())
+        .hasSize(1);
+
+    // the finished events are pushed by a subscription of their own
+    assertThat(this.camundaProcessengineRequester.completeTaskWithId(camundaTaskIds.get(0)))
+        .isTrue();
+    Thread.sleep((long) (this.adapterCompletionPollingInterval * 1.2));
+
+    List<TaskSummary> taskanaTasks =
+        this.taskService.createTaskQuery().externalIdIn(camundaTaskIds.get(0)).list();
+    assertThat(taskanaTasks).hasSize(1);
+    assertThat(taskanaTasks.get(0).getCompleted()).isNotNull();
+    assertThat(taskanaOutboxRequester.getAllEvents())
+        .extracting(CamundaTaskEvent::getCamundaTaskId)
+        .doesNotContain(camundaTaskIds.get(0));
+  }
+}
@@ -0,0 +1,133 @@
+package pro.taskana.adapter.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.security.PrivilegedAction;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.security.auth.Subject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.context.ContextConfiguration;
+import pro.taskana.adapter.taskanaconnector.api.impl.TaskCallbackInformationRetriever;
+import pro.taskana.adapter.test.TaskanaAdapterTestApplication;
+import pro.taskana.common.api.security.UserPrincipal;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.workbasket.api.WorkbasketPermission;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.WorkbasketType;
+import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
+import pro.taskana.workbasket.api.models.Workbasket;
+import pro.taskana.workbasket.api.models.WorkbasketAccessItem;
+
+/** Test class to test the retrieval of the callback information of TASKANA tasks. */
+@SpringBootTest(
+    classes = TaskanaAdapterTestApplication.class,
+    webEnvironment = WebEnvironment.DEFINED_PORT)
+@AutoConfigureWebTestClient
+@ExtendWith(JaasExtension.class)
+@ContextConfiguration
+class TestTaskCallbackInformationRetrieval extends AbsIntegrationTest {
+
+  @Autowired TaskCallbackInformationRetriever taskCallbackInformationRetriever;
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin"})
+  @Test
+  void should_RetrieveCallbackInformationInOrderOfTaskIds_When_TasksExist() throws Exception {
+
+    Task firstTask = createTask("GPK_KSC");
+    Task secondTask = createTask("GPK_KSC");
+
+    List<Task> tasks =
+        taskCallbackInformationRetriever.retrieveTasksWithCallbackInformation(
+            List.of(secondTask.getId(), firstTask.getId()));
+
+    assertThat(tasks)
+        .extracting(Task::getId)
+        .containsExactly(secondTask.getId(), firstTask.getId());
+    assertThat(tasks.get(0).getCallbackInfo())
+        .containsEntry("referenced_task_id", secondTask.getExternalId());
+    assertThat(tasks.get(0).getCustomAttributeMap()).containsEntry("camunda:amount", "42");
+  }
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin"})
+  @Test
+  void should_SkipTask_When_TaskDoesNotExist() throws Exception {
+
+    Task task = createTask("GPK_KSC");
+
+    List<Task> tasks =
+        taskCallbackInformationRetriever.retrieveTasksWithCallbackInformation(
+            List.of("TKI:not-existing", task.getId()));
+
+    assertThat(tasks).extracting(Task::getId).containsExactly(task.getId());
+  }
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin", "businessadmin"})
+  @Test
+  void should_SkipTask_When_UserIsNotAuthorizedToReadIt() throws Exception {
+
+    createWorkbasket("READABLE_KSC", "teamlead_1");
+    createWorkbasket("NOT_READABLE_KSC", null);
+    Task readableTask = createTask("READABLE_KSC");
+    Task unreadableTask = createTask("NOT_READABLE_KSC");
+
+    // without the task admin role teamlead_1 may only read the tasks of READABLE_KSC
+    Subject subject = new Subject();
+    subject.getPrincipals().add(new UserPrincipal("teamlead_1"));
+    List<Task> tasks =
+        Subject.doAs(
+            subject,
+            (PrivilegedAction<List<Task>>)
+                () ->
+                    taskCallbackInformationRetriever.retrieveTasksWithCallbackInformation(
+                        List.of(unreadableTask.getId(), readableTask.getId())));
+
+    assertThat(tasks).extracting(Task::getId).containsExactly(readableTask.getId());
+  }
+
+  private Task createTask(String workbasketKey) throws Exception {
+    Task task = taskService.newTask(workbasketKey, "DOMAIN_A");
+    task.setExternalId(UUID.randomUUID().toString());
+    task.setName("callback information retrieval");
+    task.setClassificationKey("T6310");
+    task.setPrimaryObjRef(
+        taskService.newObjectReference("company", "system", "instance", "type", "value"));
+    task.setCallbackInfo(
+        Map.of("referenced_task_id", task.getExternalId(), "system_url", "http://camunda"));
+    task.setCustomAttributeMap(Map.of("camunda:amount", "42"));
+    return taskService.createTask(task);
+  }
+
+  private void createWorkbasket(String workbasketKey, String readingAccessId) throws Exception {
+    WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+    try {
+      workbasketService.getWorkbasket(workbasketKey, "DOMAIN_A");
+    } catch (WorkbasketNotFoundException e) {
+      Workbasket workbasket = workbasketService.newWorkbasket(workbasketKey, "DOMAIN_A");
+      workbasket.setName(workbasketKey);
+      workbasket.setType(WorkbasketType.GROUP);
+      workbasket = workbasketService.createWorkbasket(workbasket);
+      if (readingAccessId != null) {
+        WorkbasketAccessItem accessItem =
+            workbasketService.newWorkbasketAccessItem(workbasket.getId(), readingAccessId);
+        accessItem.setPermission(WorkbasketPermission.READ, true);
+        accessItem.setPermission(WorkbasketPermission.READTASKS, true);
+        workbasketService.createWorkbasketAccessItem(accessItem);
+      }
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package pro.taskana.adapter.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.annotation.Resource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import pro.taskana.adapter.systemconnector.api.ReferencedTask;
+import pro.taskana.adapter.taskanaconnector.api.TaskanaConnector;
+import pro.taskana.adapter.taskanaconnector.api.TaskanaTaskCursor;
+import pro.taskana.adapter.test.TaskanaAdapterTestApplication;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.CallbackState;
+import pro.taskana.task.api.models.Task;
+
+/** Test class to test the retrieval of TASKANA tasks page by page to process their callback. */
+@SpringBootTest(
+    classes = TaskanaAdapterTestApplication.class,
+    webEnvironment = WebEnvironment.DEFINED_PORT)
+@AutoConfigureWebTestClient
+@ExtendWith(JaasExtension.class)
+@ContextConfiguration
+class TestTaskanaTaskPaging extends AbsIntegrationTest {
+
+  // no System Connector is configured for this URL, so the schedulers leave the tasks alone
+  private static final String UNKNOWN_SYSTEM_URL = "http://localhost:1/engine-rest";
+
+  @Autowired TaskanaConnector taskanaConnector;
+
+  @Resource(name = "taskanaDataSource")
+  private DataSource taskanaDataSource;
+
+  @WithAccessId(
+      user = "teamlead_1",
+      groups = {"taskadmin"})
+  @Test
+  void should_RetrieveEveryTaskOnce_When_PagingThroughTasksSharingOneTimestamp()
+      throws Exception {
+
+    List<Task> tasksSharingOneTimestamp = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      tasksSharingOneTimestamp.add(createClaimedTaskWithCallback());
+    }
+    Task youngerTask = createClaimedTaskWithCallback();
+
+    Instant modified = Instant.now().truncatedTo(ChronoUnit.SECONDS).plus(1, ChronoUnit.DAYS);
+    for (Task task : tasksSharingOneTimestamp) {
+      setModified(task, modified);
+    }
+    setModified(youngerTask, modified.plusSeconds(1));
+
+    // the page size of the test application is 2, so the shared timestamp spans several pages
+    TaskanaTaskCursor cursor = new TaskanaTaskCursor();
+    List<String> retrievedTaskIds = new ArrayList<>();
+    int pages = 0;
+    while (!cursor.isExhausted()) {
+      taskanaConnector.retrieveClaimedTaskanaTasksAsReferencedTasks(cursor).stream()
+          .map(ReferencedTask::getId)
+          .forEach(retrievedTaskIds::add);
+      pages++;
+    }
+
+    assertThat(pages).isGreaterThanOrEqualTo(3);
+    tasksSharingOneTimestamp.forEach(
+        task -> assertThat(retrievedTaskIds).containsOnlyOnce(task.getExternalId()));
+    assertThat(retrievedTaskIds).containsOnlyOnce(youngerTask.getExternalId());
+    assertThat(retrievedTaskIds.indexOf(youngerTask.getExternalId()))
+        .isGreaterThan(
+            tasksSharingOneTimestamp.stream()
+                .mapToInt(task -> retrievedTaskIds.indexOf(task.getExternalId()))
+                .max()
+                .getAsInt());
+  }
+
+  private Task createClaimedTaskWithCallback() throws Exception {
+    Task task = taskService.newTask("GPK_KSC", "DOMAIN_A");
+    task.setExternalId(UUID.randomUUID().toString());
+    task.setName("task paging");
+    task.setClassificationKey("T6310");
+    task.setPrimaryObjRef(
+        taskService.newObjectReference("company", "system", "instance", "type", "value"));
+    task.setCallbackInfo(
+        Map.of(
+            "referenced_task_id",
+            task.getExternalId(),
+            "system_url",
+            UNKNOWN_SYSTEM_URL,
+            Task.CALLBACK_STATE,
+            CallbackState.CALLBACK_PROCESSING_REQUIRED.name()));
+    task = taskService.createTask(task);
+    return taskService.claim(task.getId());
+  }
+
+  private void setModified(Task task, Instant modified) {
+    new JdbcTemplate(taskanaDataSource)
+        .update(
+            "UPDATE TASKANA.TASK SET MODIFIED = ? WHERE ID = ?",
+            Timestamp.from(modified),
+            task.getId());
+  }
+}
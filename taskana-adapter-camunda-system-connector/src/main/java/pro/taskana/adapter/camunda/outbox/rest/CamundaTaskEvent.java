@@ -9,6 +9,7 @@ public class CamundaTaskEvent implements Serializable {
   private String type;
   private String created;
   private String payload;
+  private String payloadEncoding;
   private int remainingRetries;
   private String blockedUntil;
   private String error;
@@ -47,6 +48,14 @@ public class CamundaTaskEvent implements Serializable {
     this.payload = payload;
   }
 
+  public String getPayloadEncoding() {
+    return payloadEncoding;
+  }
+
+  public void setPayloadEncoding(String payloadEncoding) {
+    this.payloadEncoding = payloadEncoding;
+  }
+
   public int getRemainingRetries() {
     return remainingRetries;
   }
@@ -97,6 +106,8 @@ public class CamundaTaskEvent implements Serializable {
         + created
         + ", payload="
         + payload
+        + ", payloadEncoding="
+        + payloadEncoding
         + ", remainingRetries="
         + remainingRetries
         + ", blockedUntil="
@@ -10,6 +10,7 @@ import java.util.List;
 public class CamundaTaskEventListResource implements Serializable {
 
   private List<CamundaTaskEvent> camundaTaskEvents;
+  private String nextPage;
 
   public List<CamundaTaskEvent> getCamundaTaskEvents() {
     return camundaTaskEvents;
@@ -18,4 +19,12 @@ public class CamundaTaskEventListResource implements Serializable {
   public void setCamundaTaskEvents(List<CamundaTaskEvent> theResources) {
     this.camundaTaskEvents = theResources;
   }
+
+  public String getNextPage() {
+    return nextPage;
+  }
+
+  public void setNextPage(String nextPage) {
+    this.nextPage = nextPage;
+  }
 }
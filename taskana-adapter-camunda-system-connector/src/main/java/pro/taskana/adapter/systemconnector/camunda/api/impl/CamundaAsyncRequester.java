@@ -0,0 +1,281 @@
+package pro.taskana.adapter.systemconnector.camunda.api.impl;
+
+import jakarta.annotation.PreDestroy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.RestTemplate;
+import pro.taskana.adapter.systemconnector.api.ReferencedTask;
+import pro.taskana.adapter.systemconnector.api.SystemResponse;
+import pro.taskana.adapter.systemconnector.camunda.config.CamundaSystemUrls;
+import pro.taskana.adapter.systemconnector.camunda.config.HttpComponentsClientProperties;
+import pro.taskana.adapter.systemconnector.camunda.config.JdkHttpClientProperties;
+import pro.taskana.common.api.exceptions.SystemException;
+
+/**
+ * Sends requests to camunda and the outbox with the non-blocking java.net.http.HttpClient, so that
+ * a few threads keep the requests of many tasks in flight at once. The requests in flight are
+ * limited per route, further requests wait in a queue without blocking a thread. If the
+ * JdkHttpClient isn't enabled, there is no HttpClient and the components send their requests one
+ * by one with the RestTemplate.
+ */
+public class CamundaAsyncRequester {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CamundaAsyncRequester.class);
+
+  private final JdkHttpClientProperties jdkHttpClientProperties;
+  private final Duration requestTimeout;
+  private final ExecutorService executor;
+  private final HttpClient httpClient;
+  private final Map<String, Route> routes = new ConcurrentHashMap<>();
+
+  public CamundaAsyncRequester(
+      JdkHttpClientProperties jdkHttpClientProperties,
+      HttpComponentsClientProperties httpComponentsClientProperties) {
+    this.jdkHttpClientProperties = jdkHttpClientProperties;
+    this.requestTimeout = Duration.ofMillis(httpComponentsClientProperties.getReadTimeout());
+
+    if (jdkHttpClientProperties.isEnabled()) {
+      executor =
+          Executors.newFixedThreadPool(
+              Math.max(1, jdkHttpClientProperties.getThreads()), new HttpClientThreadFactory());
+      httpClient =
+          HttpClient.newBuilder()
+              .version(
+                  jdkHttpClientProperties.isHttp2Enabled()
+                      ? HttpClient.Version.HTTP_2
+                      : HttpClient.Version.HTTP_1_1)
+              .connectTimeout(
+                  Duration.ofMillis(httpComponentsClientProperties.getConnectionTimeout()))
+              .executor(executor)
+              .build();
+      LOGGER.info(
+          "Sending camunda requests with the JDK HttpClient, version {}, "
+              + "at most {} requests in flight per route",
+          httpClient.version(),
+          jdkHttpClientProperties.getMaxRequestsPerRoute());
+    } else {
+      executor = null;
+      httpClient = null;
+    }
+  }
+
+  public boolean isEnabled() {
+    return httpClient != null;
+  }
+
+  public HttpClient getHttpClient() {
+    return httpClient;
+  }
+
+  /**
+   * Sends a request asynchronously. The request is queued if the maximum number of requests is in
+   * flight for its route already.
+   *
+   * @param method the method of the request
+   * @param url the url of the request
+   * @param requestEntity the headers and the body of the request
+   * @return the future response with its body as string
+   */
+  public CompletableFuture<HttpResponse<String>> send(
+      HttpMethod method, String url, HttpEntity<String> requestEntity) {
+
+    URI uri = URI.create(url);
+
+    HttpRequest.Builder requestBuilder =
+        HttpRequest.newBuilder(uri)
+            .timeout(requestTimeout)
+            .method(
+                method.name(),
+                requestEntity.getBody() == null
+                    ? BodyPublishers.noBody()
+                    : BodyPublishers.ofString(requestEntity.getBody()));
+    requestEntity
+        .getHeaders()
+        .forEach((name, values) -> values.forEach(value -> requestBuilder.header(name, value)));
+    HttpRequest request = requestBuilder.build();
+
+    Route route =
+        routes.computeIfAbsent(
+            uri.getScheme() + "://" + uri.getAuthority(),
+            key -> new Route(Math.max(1, jdkHttpClientProperties.getMaxRequestsPerRoute())));
+
+    CompletableFuture<HttpResponse<String>> response = new CompletableFuture<>();
+    route.submit(
+        () -> {
+          try {
+            httpClient
+                .sendAsync(request, BodyHandlers.ofString())
+                .whenComplete(
+                    (httpResponse, e) -> {
+                      route.release();
+                      if (e != null) {
+                        response.completeExceptionally(e);
+                      } else {
+                        response.complete(httpResponse);
+                      }
+                    });
+          } catch (RuntimeException e) {
+            route.release();
+            response.completeExceptionally(e);
+          }
+        });
+    return response;
+  }
+
+  /**
+   * Waits for the responses of the tasks and turns them into SystemResponses. A task whose request
+   * failed with a status code is checked for existence, like a single request does, since a task
+   * that no longer exists was already finished in camunda.
+   *
+   * @param camundaSystemUrlInfo the urls of the camunda system
+   * @param referencedTasks the tasks the requests were sent for
+   * @param responses the future responses in the order of the tasks
+   * @param restTemplate the RestTemplate to check the existence of failed tasks with
+   * @param httpHeaderProvider the provider of the headers for the camunda REST Api
+   * @return the SystemResponses in the order of the tasks
+   */
+  public List<SystemResponse> awaitResponses(
+      CamundaSystemUrls.SystemUrlInfo camundaSystemUrlInfo,
+      List<ReferencedTask> referencedTasks,
+      List<CompletableFuture<HttpResponse<String>>> responses,
+      RestTemplate restTemplate,
+      HttpHeaderProvider httpHeaderProvider) {
+
+    List<SystemResponse> systemResponses = new ArrayList<>(responses.size());
+
+    for (int i = 0; i < responses.size(); i++) {
+      String camundaTaskId = referencedTasks.get(i).getId();
+      try {
+        HttpResponse<String> response = responses.get(i).join();
+        if (isSuccessful(response)) {
+          systemResponses.add(new SystemResponse(response.statusCode(), null));
+        } else if (CamundaUtilRequester.isTaskNotExisting(
+            httpHeaderProvider, restTemplate, camundaSystemUrlInfo, camundaTaskId)) {
+          systemResponses.add(new SystemResponse(HttpStatus.OK, null));
+        } else {
+          systemResponses.add(
+              new SystemResponse(
+                  response.statusCode(),
+                  new SystemException(
+                      "caught status "
+                          + response.statusCode()
+                          + " on the attempt to process Camunda Task "
+                          + camundaTaskId
+                          + ": "
+                          + response.body())));
+        }
+      } catch (CompletionException e) {
+        systemResponses.add(new SystemResponse(HttpStatus.INTERNAL_SERVER_ERROR, e.getCause()));
+      } catch (RuntimeException e) {
+        systemResponses.add(new SystemResponse(HttpStatus.INTERNAL_SERVER_ERROR, e));
+      }
+    }
+
+    return systemResponses;
+  }
+
+  public static boolean isSuccessful(HttpResponse<String> response) {
+    return response.statusCode() >= 200 && response.statusCode() < 300;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  // limits the requests in flight to one host, a released slot starts the next waiting request.
+  // A request may release its slot while it is started, e.g. if it fails right away. The waiting
+  // requests are therefore started in a loop by a single thread at a time, other threads only
+  // leave their changes to it, so that a long queue doesn't nest the starts of its requests
+  static class Route {
+
+    private final int maxRequests;
+    private final Queue<Runnable> waitingRequests = new ArrayDeque<>();
+    private int requestsInFlight;
+    private boolean startingRequests;
+
+    Route(int maxRequests) {
+      this.maxRequests = maxRequests;
+    }
+
+    void submit(Runnable request) {
+      synchronized (this) {
+        waitingRequests.add(request);
+      }
+      startWaitingRequests();
+    }
+
+    void release() {
+      synchronized (this) {
+        requestsInFlight--;
+      }
+      startWaitingRequests();
+    }
+
+    private void startWaitingRequests() {
+      synchronized (this) {
+        if (startingRequests) {
+          return;
+        }
+        startingRequests = true;
+      }
+      while (true) {
+        Runnable nextRequest;
+        synchronized (this) {
+          if (requestsInFlight >= maxRequests || waitingRequests.isEmpty()) {
+            startingRequests = false;
+            return;
+          }
+          nextRequest = waitingRequests.poll();
+          requestsInFlight++;
+        }
+        try {
+          nextRequest.run();
+        } catch (RuntimeException e) {
+          // the next submit or release takes over, the route must not stay blocked
+          synchronized (this) {
+            startingRequests = false;
+          }
+          throw e;
+        }
+      }
+    }
+  }
+
+  private static class HttpClientThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger threadNumber = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread =
+          new Thread(runnable, "taskana-camunda-http-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
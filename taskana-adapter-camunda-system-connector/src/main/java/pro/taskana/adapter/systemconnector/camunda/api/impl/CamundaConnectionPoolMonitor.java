@@ -0,0 +1,66 @@
+package pro.taskana.adapter.systemconnector.camunda.api.impl;
+
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Publishes the statistics of the connection pool behind the RestTemplate per camunda route, so
+ * that the pool can be sized for the number of camunda systems. The statistics are logged
+ * periodically, on level WARN if requests of a route are waiting for a connection.
+ */
+public class CamundaConnectionPoolMonitor {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CamundaConnectionPoolMonitor.class);
+
+  private final PoolingHttpClientConnectionManager connectionManager;
+
+  public CamundaConnectionPoolMonitor(PoolingHttpClientConnectionManager connectionManager) {
+    this.connectionManager = connectionManager;
+  }
+
+  /**
+   * Returns the leased, pending and available connections of each route the pool has connected
+   * to so far.
+   *
+   * @return the statistics by the target host of the route, e.g. http://localhost:8080
+   */
+  public Map<String, PoolStats> getRouteStatistics() {
+    Map<String, PoolStats> routeStatistics = new TreeMap<>();
+    for (HttpRoute route : connectionManager.getRoutes()) {
+      routeStatistics.put(route.getTargetHost().toURI(), connectionManager.getStats(route));
+    }
+    return routeStatistics;
+  }
+
+  public PoolStats getTotalStatistics() {
+    return connectionManager.getTotalStats();
+  }
+
+  @Scheduled(fixedRateString = "${httpcomponentsclient.pool-statistics-interval:60000}")
+  public void logStatistics() {
+
+    getRouteStatistics()
+        .forEach(
+            (route, statistics) -> {
+              if (statistics.getPending() > 0) {
+                LOGGER.warn(
+                    "{} requests to {} are waiting for a pooled connection {}",
+                    statistics.getPending(),
+                    route,
+                    statistics);
+              } else {
+                LOGGER.debug("Pooled connections to {} {}", route, statistics);
+              }
+            });
+
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Pooled connections in total {}", getTotalStatistics());
+    }
+  }
+}
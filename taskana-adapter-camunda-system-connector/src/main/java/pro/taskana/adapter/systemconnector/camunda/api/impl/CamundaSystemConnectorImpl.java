@@ -1,5 +1,6 @@
 package pro.taskana.adapter.systemconnector.camunda.api.impl;
 
+import java.time.Duration;
 import java.util.List;
 import pro.taskana.adapter.configuration.AdapterSpringContextProvider;
 import pro.taskana.adapter.systemconnector.api.ReferencedTask;
@@ -14,10 +15,19 @@ public class CamundaSystemConnectorImpl implements SystemConnector {
 
   static final String URL_GET_CAMUNDA_CREATE_EVENTS = "/events?type=create";
   static final String URL_GET_CAMUNDA_FINISHED_EVENTS = "/events?type=complete&type=delete";
+  static final String URL_PARAM_LEASE_OWNER = "lease-owner";
+  static final String URL_PARAM_KEEP_PAYLOAD_ENCODING = "keep-payload-encoding";
+  static final String URL_PARAM_MAX_WAIT = "max-wait";
   static final String URL_DELETE_CAMUNDA_EVENTS = "/events/delete-successful-events";
   static final String URL_CAMUNDA_EVENT_DECREASE_REMAINING_RETRIES =
       "/events/%d/decrease-remaining-retries";
 
+  static final String URL_OUTBOX_TASKS = "/tasks/";
+  static final String URL_OUTBOX_COMPLETE_TASK = "/complete";
+  static final String URL_OUTBOX_COMPLETE_TASKS = "/tasks/complete";
+  static final String URL_OUTBOX_CLAIM_TASKS = "/tasks/claim";
+  static final String URL_OUTBOX_CANCEL_CLAIM_TASKS = "/tasks/cancel-claim";
+
   static final String BODY_SET_CAMUNDA_VARIABLES = "{\"variables\":{";
   static final String LOCAL_VARIABLE_PATH = "/localVariables";
   static final String EMPTY_REQUEST_BODY = "{}";
@@ -58,6 +68,11 @@ public class CamundaSystemConnectorImpl implements SystemConnector {
         camundaSystemUrl.getSystemTaskEventUrl(), camundaSystemUrl.getCamundaEngineIdentifier());
   }
 
+  @Override
+  public Duration getMaxWaitForNewReferencedTasks() {
+    return taskRetriever.getMaxWaitForCamundaTaskEvents();
+  }
+
   @Override
   public void taskanaTasksHaveBeenCreatedForNewReferencedTasks(
       List<ReferencedTask> referencedTasks) {
@@ -71,6 +86,11 @@ public class CamundaSystemConnectorImpl implements SystemConnector {
         camundaSystemUrl.getSystemTaskEventUrl(), camundaSystemUrl.getCamundaEngineIdentifier());
   }
 
+  @Override
+  public Duration getMaxWaitForFinishedReferencedTasks() {
+    return taskRetriever.getMaxWaitForCamundaTaskEvents();
+  }
+
   @Override
   public void taskanaTasksHaveBeenTerminatedForFinishedReferencedTasks(
       List<ReferencedTask> referencedTasks) {
@@ -98,6 +118,39 @@ public class CamundaSystemConnectorImpl implements SystemConnector {
     return taskClaimCanceler.cancelClaimOfCamundaTask(camundaSystemUrl, camundaTask);
   }
 
+  @Override
+  public List<SystemResponse> completeReferencedTasks(List<ReferencedTask> camundaTasks) {
+    if (taskCompleter.isBulkCompletionEnabled()) {
+      return taskCompleter.completeCamundaTasks(camundaSystemUrl, camundaTasks);
+    }
+    if (taskCompleter.isAsyncCompletionEnabled()) {
+      return taskCompleter.completeCamundaTasksAsync(camundaSystemUrl, camundaTasks);
+    }
+    return SystemConnector.super.completeReferencedTasks(camundaTasks);
+  }
+
+  @Override
+  public List<SystemResponse> claimReferencedTasks(List<ReferencedTask> camundaTasks) {
+    if (taskClaimer.isBulkClaimEnabled()) {
+      return taskClaimer.claimCamundaTasks(camundaSystemUrl, camundaTasks);
+    }
+    if (taskClaimer.isAsyncClaimEnabled()) {
+      return taskClaimer.claimCamundaTasksAsync(camundaSystemUrl, camundaTasks);
+    }
+    return SystemConnector.super.claimReferencedTasks(camundaTasks);
+  }
+
+  @Override
+  public List<SystemResponse> cancelClaimReferencedTasks(List<ReferencedTask> camundaTasks) {
+    if (taskClaimCanceler.isBulkCancelClaimEnabled()) {
+      return taskClaimCanceler.cancelClaimOfCamundaTasks(camundaSystemUrl, camundaTasks);
+    }
+    if (taskClaimCanceler.isAsyncCancelClaimEnabled()) {
+      return taskClaimCanceler.cancelClaimOfCamundaTasksAsync(camundaSystemUrl, camundaTasks);
+    }
+    return SystemConnector.super.cancelClaimReferencedTasks(camundaTasks);
+  }
+
   @Override
   public String getSystemUrl() {
     return camundaSystemUrl.getSystemRestUrl();
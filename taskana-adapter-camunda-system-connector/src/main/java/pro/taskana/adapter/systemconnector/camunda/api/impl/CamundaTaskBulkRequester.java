@@ -0,0 +1,141 @@
+package pro.taskana.adapter.systemconnector.camunda.api.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import pro.taskana.adapter.camunda.outbox.rest.CamundaTaskResult;
+import pro.taskana.adapter.systemconnector.api.ReferencedTask;
+import pro.taskana.adapter.systemconnector.api.SystemResponse;
+import pro.taskana.adapter.systemconnector.camunda.config.CamundaSystemUrls;
+import pro.taskana.common.api.exceptions.SystemException;
+
+/**
+ * Sends a list of camunda tasks with one request to a bulk endpoint of the outbox REST Api, which
+ * completes, claims or cancels the claims of all of them in the process engine and answers with
+ * the result of each task.
+ */
+@Component
+public class CamundaTaskBulkRequester {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CamundaTaskBulkRequester.class);
+
+  @Autowired HttpHeaderProvider httpHeaderProvider;
+  @Autowired private RestTemplate restTemplate;
+  @Autowired private ObjectMapper objectMapper;
+
+  /**
+   * Posts the camunda tasks to a bulk endpoint of the outbox REST Api.
+   *
+   * @param camundaSystemUrlInfo the urls of the camunda system
+   * @param bulkPath the path of the bulk endpoint below the outbox REST Api
+   * @param camundaTasks the camunda tasks to process
+   * @param taskToJson creates the JSON object of a camunda task within the request
+   * @return the responses in the order of the camunda tasks
+   * @throws SystemException if the outbox doesn't answer with a result for each camunda task
+   */
+  public List<SystemResponse> postCamundaTasks(
+      CamundaSystemUrls.SystemUrlInfo camundaSystemUrlInfo,
+      String bulkPath,
+      List<ReferencedTask> camundaTasks,
+      Function<ReferencedTask, String> taskToJson) {
+
+    if (camundaTasks.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    String requestUrl =
+        camundaSystemUrlInfo.getSystemTaskEventUrl()
+            + bulkPath
+            + getEngineQuery(camundaSystemUrlInfo);
+    String requestBody =
+        camundaTasks.stream().map(taskToJson).collect(Collectors.joining(",", "[", "]"));
+
+    HttpEntity<String> entity = httpHeaderProvider.prepareNewEntityForOutboxRestApi(requestBody);
+
+    ResponseEntity<CamundaTaskResult[]> responseEntity =
+        restTemplate.postForEntity(requestUrl, entity, CamundaTaskResult[].class);
+
+    CamundaTaskResult[] results = responseEntity.getBody();
+    if (results == null || results.length != camundaTasks.size()) {
+      throw new SystemException(
+          String.format(
+              "The outbox answered %d camunda tasks with %s results from %s",
+              camundaTasks.size(), results == null ? null : results.length, requestUrl));
+    }
+
+    List<SystemResponse> responses = new ArrayList<>(results.length);
+    for (CamundaTaskResult result : results) {
+      responses.add(toSystemResponse(result));
+    }
+
+    LOGGER.debug("Posted {} camunda tasks to {}", camundaTasks.size(), requestUrl);
+
+    return responses;
+  }
+
+  /**
+   * Returns the query that names the process engine of a camunda system for the task endpoints of
+   * the outbox REST Api. Without an engine identifier the outbox uses its default process engine.
+   *
+   * @param camundaSystemUrlInfo the urls of the camunda system
+   * @return the query including the question mark or an empty string
+   */
+  public String getEngineQuery(CamundaSystemUrls.SystemUrlInfo camundaSystemUrlInfo) {
+    String engineIdentifier = camundaSystemUrlInfo.getCamundaEngineIdentifier();
+    if (engineIdentifier == null || engineIdentifier.isEmpty()) {
+      return "";
+    }
+    return "?engine=" + URLEncoder.encode(engineIdentifier, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Writes a string as JSON value, so that it can be embedded into a request body.
+   *
+   * @param value the string to write
+   * @return the quoted and escaped string or null
+   * @throws SystemException if the string can't be written
+   */
+  public String toJson(String value) {
+    try {
+      return objectMapper.writeValueAsString(value);
+    } catch (JsonProcessingException e) {
+      throw new SystemException("Exception while trying to serialize " + value + " to JSON", e);
+    }
+  }
+
+  // a task that no longer exists was already finished in camunda. The outbox only answers 404 if
+  // its process engine didn't find the task, so this needn't be confirmed with another request
+  private SystemResponse toSystemResponse(CamundaTaskResult result) {
+
+    HttpStatus status = HttpStatus.resolve(result.getStatus());
+
+    if (status == HttpStatus.NOT_FOUND) {
+      return new SystemResponse(HttpStatus.OK, null);
+    } else if (status != null && status.is2xxSuccessful()) {
+      return new SystemResponse(status, null);
+    }
+
+    return new SystemResponse(
+        result.getStatus(),
+        new SystemException(
+            "caught status "
+                + result.getStatus()
+                + " on the attempt to process Camunda Task "
+                + result.getTaskId()
+                + ": "
+                + result.getError()));
+  }
+}
@@ -1,11 +1,16 @@
 package pro.taskana.adapter.systemconnector.camunda.api.impl;
 
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -22,12 +27,65 @@ public class CamundaTaskClaimer {
   private static final Logger LOGGER = LoggerFactory.getLogger(CamundaTaskClaimer.class);
   @Autowired HttpHeaderProvider httpHeaderProvider;
   @Autowired private RestTemplate restTemplate;
+  @Autowired private CamundaTaskBulkRequester bulkRequester;
+  @Autowired private CamundaAsyncRequester asyncRequester;
 
   @Value("${taskana.adapter.camunda.claiming.enabled:false}")
   private boolean claimingEnabled;
 
+  @Value("${taskana.adapter.camunda.outbox.task.claiming.enabled:false}")
+  private boolean outboxTaskClaimingEnabled;
+
   private boolean claimConfigLogged = false;
 
+  public boolean isBulkClaimEnabled() {
+    return claimingEnabled && outboxTaskClaimingEnabled;
+  }
+
+  public List<SystemResponse> claimCamundaTasks(
+      CamundaSystemUrls.SystemUrlInfo camundaSystemUrlInfo, List<ReferencedTask> referencedTasks) {
+
+    return bulkRequester.postCamundaTasks(
+        camundaSystemUrlInfo,
+        CamundaSystemConnectorImpl.URL_OUTBOX_CLAIM_TASKS,
+        referencedTasks,
+        referencedTask ->
+            "{\"taskId\":"
+                + bulkRequester.toJson(referencedTask.getId())
+                + ",\"assignee\":"
+                + bulkRequester.toJson(referencedTask.getAssignee())
+                + "}");
+  }
+
+  public boolean isAsyncClaimEnabled() {
+    return claimingEnabled && asyncRequester.isEnabled();
+  }
+
+  public List<SystemResponse> claimCamundaTasksAsync(
+      CamundaSystemUrls.SystemUrlInfo camundaSystemUrlInfo, List<ReferencedTask> referencedTasks) {
+
+    HttpHeaders headers = httpHeaderProvider.getHttpHeadersForCamundaRestApi();
+
+    List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+    for (ReferencedTask referencedTask : referencedTasks) {
+      String requestUrl =
+          camundaSystemUrlInfo.getSystemRestUrl()
+              + CamundaSystemConnectorImpl.URL_GET_CAMUNDA_TASKS
+              + referencedTask.getId()
+              + CamundaSystemConnectorImpl.SET_ASSIGNEE;
+      String requestBody =
+          CamundaSystemConnectorImpl.BODY_SET_ASSIGNEE
+                  + "\""
+                  + referencedTask.getAssignee()
+                  + "\"}";
+      responses.add(
+          asyncRequester.send(HttpMethod.POST, requestUrl, new HttpEntity<>(requestBody, headers)));
+    }
+
+    return asyncRequester.awaitResponses(
+        camundaSystemUrlInfo, referencedTasks, responses, restTemplate, httpHeaderProvider);
+  }
+
   public SystemResponse claimCamundaTask(
       CamundaSystemUrls.SystemUrlInfo camundaSystemUrlInfo, ReferencedTask referencedTask) {
 
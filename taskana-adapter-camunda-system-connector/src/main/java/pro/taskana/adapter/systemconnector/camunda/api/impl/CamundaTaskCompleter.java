@@ -1,8 +1,13 @@
 package pro.taskana.adapter.systemconnector.camunda.api.impl;
 
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
@@ -14,7 +19,12 @@ import pro.taskana.adapter.systemconnector.api.SystemResponse;
 import pro.taskana.adapter.systemconnector.camunda.config.CamundaSystemUrls;
 import pro.taskana.common.api.exceptions.SystemException;
 
-/** Completes Camunda Tasks via the Camunda REST Api. */
+/**
+ * Completes Camunda Tasks via the Camunda REST Api. If the completion via the outbox REST Api is
+ * enabled, a task is completed with a single request that sets the assignee, marks the task as
+ * completed by the adapter and completes it in one camunda transaction, and a list of tasks is
+ * completed with a single bulk request.
+ */
 public class CamundaTaskCompleter {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(CamundaTaskCompleter.class);
@@ -23,12 +33,55 @@ public class CamundaTaskCompleter {
       "completedByTaskanaAdapter";
   @Autowired HttpHeaderProvider httpHeaderProvider;
   @Autowired private RestTemplate restTemplate;
+  @Autowired private CamundaTaskBulkRequester bulkRequester;
+  @Autowired private CamundaAsyncRequester asyncRequester;
+
+  @Value("${taskana.adapter.camunda.outbox.task.completion.enabled:false}")
+  private boolean outboxTaskCompletionEnabled;
+
+  public boolean isBulkCompletionEnabled() {
+    return outboxTaskCompletionEnabled;
+  }
+
+  public List<SystemResponse> completeCamundaTasks(
+      CamundaSystemUrls.SystemUrlInfo camundaSystemUrlInfo, List<ReferencedTask> referencedTasks) {
+
+    return bulkRequester.postCamundaTasks(
+        camundaSystemUrlInfo,
+        CamundaSystemConnectorImpl.URL_OUTBOX_COMPLETE_TASKS,
+        referencedTasks,
+        referencedTask ->
+            prepareOutboxRequestBody(
+                "{\"taskId\":" + bulkRequester.toJson(referencedTask.getId()) + ",",
+                referencedTask));
+  }
+
+  public boolean isAsyncCompletionEnabled() {
+    return asyncRequester.isEnabled();
+  }
+
+  // sends the requests of all tasks at once, the requests of a single task one after the other
+  public List<SystemResponse> completeCamundaTasksAsync(
+      CamundaSystemUrls.SystemUrlInfo camundaSystemUrlInfo, List<ReferencedTask> referencedTasks) {
+
+    List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+    for (ReferencedTask referencedTask : referencedTasks) {
+      responses.add(completeCamundaTaskAsync(camundaSystemUrlInfo, referencedTask));
+    }
+
+    return asyncRequester.awaitResponses(
+        camundaSystemUrlInfo, referencedTasks, responses, restTemplate, httpHeaderProvider);
+  }
 
   public SystemResponse completeCamundaTask(
       CamundaSystemUrls.SystemUrlInfo camundaSystemUrlInfo, ReferencedTask referencedTask) {
 
     StringBuilder requestUrlBuilder = new StringBuilder();
     try {
+      if (outboxTaskCompletionEnabled) {
+        return performCompletionViaOutbox(camundaSystemUrlInfo, referencedTask, requestUrlBuilder);
+      }
+
       setAssigneeToOwnerOfReferencedTask(camundaSystemUrlInfo, referencedTask, requestUrlBuilder);
       setCompletionByTaskanaAdapterAsLocalVariable(
           camundaSystemUrlInfo, referencedTask, requestUrlBuilder);
@@ -46,6 +99,46 @@ public class CamundaTaskCompleter {
     }
   }
 
+  private CompletableFuture<HttpResponse<String>> completeCamundaTaskAsync(
+      CamundaSystemUrls.SystemUrlInfo camundaSystemUrlInfo, ReferencedTask referencedTask) {
+
+    String taskUrl =
+        camundaSystemUrlInfo.getSystemRestUrl()
+            + CamundaSystemConnectorImpl.URL_GET_CAMUNDA_TASKS
+            + referencedTask.getId();
+
+    return asyncRequester
+        .send(
+            HttpMethod.POST,
+            taskUrl + CamundaSystemConnectorImpl.SET_ASSIGNEE,
+            httpHeaderProvider.prepareNewEntityForCamundaRestApi(
+                CamundaSystemConnectorImpl.BODY_SET_ASSIGNEE
+                    + "\""
+                    + referencedTask.getAssignee()
+                    + "\"}"))
+        .thenCompose(
+            response ->
+                !CamundaAsyncRequester.isSuccessful(response)
+                    ? CompletableFuture.completedFuture(response)
+                    : asyncRequester.send(
+                        HttpMethod.PUT,
+                        taskUrl
+                            + CamundaSystemConnectorImpl.LOCAL_VARIABLE_PATH
+                            + "/"
+                            + COMPLETED_BY_TASKANA_ADAPTER_LOCAL_VARIABLE,
+                        httpHeaderProvider.prepareNewEntityForCamundaRestApi(
+                            "{\"value\" : true, \"type\": \"Boolean\"}")))
+        .thenCompose(
+            response ->
+                !CamundaAsyncRequester.isSuccessful(response)
+                    ? CompletableFuture.completedFuture(response)
+                    : asyncRequester.send(
+                        HttpMethod.POST,
+                        taskUrl + CamundaSystemConnectorImpl.COMPLETE_TASK,
+                        httpHeaderProvider.prepareNewEntityForCamundaRestApi(
+                            prepareRequestBody(referencedTask))));
+  }
+
   private void setAssigneeToOwnerOfReferencedTask(
       CamundaSystemUrls.SystemUrlInfo camundaSystemUrlInfo,
       ReferencedTask referencedTask,
@@ -143,6 +236,49 @@ public class CamundaTaskCompleter {
     }
   }
 
+  private SystemResponse performCompletionViaOutbox(
+      CamundaSystemUrls.SystemUrlInfo camundaSystemUrlInfo,
+      ReferencedTask camundaTask,
+      StringBuilder requestUrlBuilder) {
+
+    requestUrlBuilder
+        .append(camundaSystemUrlInfo.getSystemTaskEventUrl())
+        .append(CamundaSystemConnectorImpl.URL_OUTBOX_TASKS)
+        .append(camundaTask.getId())
+        .append(CamundaSystemConnectorImpl.URL_OUTBOX_COMPLETE_TASK)
+        .append(bulkRequester.getEngineQuery(camundaSystemUrlInfo));
+
+    String requestBody = prepareOutboxRequestBody("{", camundaTask);
+
+    LOGGER.debug(
+        "completing camunda task {} via the outbox with request body {}",
+        camundaTask.getId(),
+        requestBody);
+
+    HttpEntity<String> entity = httpHeaderProvider.prepareNewEntityForOutboxRestApi(requestBody);
+
+    ResponseEntity<String> responseEntity =
+        restTemplate.postForEntity(requestUrlBuilder.toString(), entity, String.class);
+    LOGGER.debug(
+        "completed camunda task {} via the outbox. Status code = {}",
+        camundaTask.getId(),
+        responseEntity.getStatusCode());
+
+    return new SystemResponse(responseEntity.getStatusCode(), null);
+  }
+
+  private String prepareOutboxRequestBody(String start, ReferencedTask camundaTask) {
+
+    String variables = camundaTask.getVariables() == null ? "" : camundaTask.getVariables();
+
+    return start
+        + "\"assignee\":"
+        + bulkRequester.toJson(camundaTask.getAssignee())
+        + ",\"variables\":{"
+        + variables
+        + "}}";
+  }
+
   private String prepareRequestBody(ReferencedTask camundaTask) {
 
     String requestBody;
@@ -0,0 +1,43 @@
+package pro.taskana.adapter.systemconnector.camunda.api.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+
+/** Decodes the payloads of camunda task events that the outbox returns compressed. */
+final class CamundaTaskEventPayloadCodec {
+
+  static final String GZIP_BASE64 = "gzip-base64";
+
+  private CamundaTaskEventPayloadCodec() {}
+
+  static String decode(String payload, String payloadEncoding) throws IOException {
+
+    if (payloadEncoding == null || payload == null) {
+      return payload;
+    }
+
+    if (!GZIP_BASE64.equals(payloadEncoding)) {
+      throw new IOException("Unknown payload encoding " + payloadEncoding);
+    }
+
+    ByteArrayOutputStream decompressedPayload = new ByteArrayOutputStream();
+    byte[] buffer = new byte[4096];
+
+    try (InputStream inputStream =
+        new GZIPInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(payload)))) {
+      int length;
+      while ((length = inputStream.read(buffer)) > 0) {
+        decompressedPayload.write(buffer, 0, length);
+      }
+    } catch (IllegalArgumentException e) {
+      throw new IOException("Payload is not encoded with " + payloadEncoding, e);
+    }
+
+    return new String(decompressedPayload.toByteArray(), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,216 @@
+package pro.taskana.adapter.systemconnector.camunda.api.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import pro.taskana.adapter.camunda.outbox.rest.CamundaTaskEvent;
+
+/**
+ * Subscribes to the server-sent events of the outbox REST API and buffers the received events until
+ * the CamundaTaskRetriever takes them. There is one subscription per request url. It is opened with
+ * the first request for its events and reconnects on its own whenever the stream ends, resuming
+ * after the last event it received. While a subscription isn't connected, the CamundaTaskRetriever
+ * polls the outbox instead.
+ */
+@Component
+public class CamundaTaskEventSubscriber {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CamundaTaskEventSubscriber.class);
+  private static final String LAST_EVENT_ID = "Last-Event-ID";
+  // a full buffer stops reading the stream, so the outbox holds the events back
+  private static final int BUFFER_SIZE = 1000;
+
+  private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+  private volatile boolean running = true;
+  // released on shutdown, so that a subscription waiting to reconnect stops right away
+  private final CountDownLatch stopped = new CountDownLatch(1);
+
+  @Autowired private HttpHeaderProvider httpHeaderProvider;
+  @Autowired private ObjectMapper objectMapper;
+  @Autowired private RestTemplate restTemplate;
+
+  @Value("${taskana.adapter.camunda.outbox.streaming.reconnect.delay.in.milliseconds:5000}")
+  private long reconnectDelay;
+
+  /**
+   * Takes the buffered events of the subscription to the given url. If there are none, it waits up
+   * to the given time for the next one. The subscription is opened if it doesn't exist yet.
+   *
+   * @param requestUrl the url of the events to subscribe to
+   * @param maxWait the maximum time in milliseconds to wait for an event
+   * @return the received events, or null if the subscription isn't connected and has no events
+   */
+  public List<CamundaTaskEvent> takeEvents(String requestUrl, long maxWait) {
+
+    Subscription subscription = subscriptions.computeIfAbsent(requestUrl, this::subscribe);
+
+    List<CamundaTaskEvent> camundaTaskEvents = new ArrayList<>();
+    subscription.events.drainTo(camundaTaskEvents);
+
+    if (camundaTaskEvents.isEmpty()) {
+      if (!subscription.connected) {
+        return null;
+      }
+      try {
+        CamundaTaskEvent camundaTaskEvent =
+            subscription.events.poll(maxWait, TimeUnit.MILLISECONDS);
+        if (camundaTaskEvent != null) {
+          camundaTaskEvents.add(camundaTaskEvent);
+          subscription.events.drainTo(camundaTaskEvents);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    return camundaTaskEvents;
+  }
+
+  @PreDestroy
+  public void unsubscribeAll() {
+    running = false;
+    stopped.countDown();
+    subscriptions.values().forEach(subscription -> subscription.thread.interrupt());
+  }
+
+  private Subscription subscribe(String requestUrl) {
+
+    Subscription subscription = new Subscription(requestUrl);
+    subscription.thread = new Thread(() -> receiveEvents(subscription), "taskana-outbox-events");
+    subscription.thread.setDaemon(true);
+    subscription.thread.start();
+
+    LOGGER.info("Subscribed to the camunda task events of {}", requestUrl);
+    return subscription;
+  }
+
+  private void receiveEvents(Subscription subscription) {
+
+    while (running) {
+      try {
+        restTemplate.execute(
+            subscription.requestUrl,
+            HttpMethod.GET,
+            request -> {
+              HttpHeaders headers = request.getHeaders();
+              headers.addAll(httpHeaderProvider.outboxRestApiHeaders());
+              headers.setAccept(Collections.singletonList(MediaType.TEXT_EVENT_STREAM));
+              if (subscription.lastEventId != null) {
+                headers.set(LAST_EVENT_ID, subscription.lastEventId);
+              }
+            },
+            response -> {
+              subscription.connected = true;
+              readEvents(response.getBody(), subscription);
+              return null;
+            });
+        // the outbox ends a stream after a while, it is reopened right away
+        subscription.connected = false;
+        LOGGER.debug("Stream of camunda task events of {} ended", subscription.requestUrl);
+
+      } catch (Exception e) {
+        subscription.connected = false;
+        if (!running || Thread.currentThread().isInterrupted()) {
+          return;
+        }
+        LOGGER.warn(
+            "Caught exception while receiving camunda task events from {}, "
+                + "polling them instead and reconnecting in {} ms",
+            subscription.requestUrl,
+            reconnectDelay,
+            e);
+        try {
+          stopped.await(reconnectDelay, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  // reads the fields of the events line by line, an empty line completes an event. Comments,
+  // which the outbox sends as heartbeat, and unknown fields are ignored
+  private void readEvents(InputStream inputStream, Subscription subscription) throws IOException {
+
+    BufferedReader reader =
+        new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    String id = null;
+    StringBuilder data = null;
+    String line;
+
+    while (running && (line = reader.readLine()) != null) {
+      if (line.isEmpty()) {
+        if (data != null) {
+          receiveEvent(subscription, id, data.toString());
+        }
+        id = null;
+        data = null;
+      } else if (line.startsWith("id:")) {
+        id = getFieldValue(line, 3);
+      } else if (line.startsWith("data:")) {
+        if (data == null) {
+          data = new StringBuilder(getFieldValue(line, 5));
+        } else {
+          data.append('\n').append(getFieldValue(line, 5));
+        }
+      }
+    }
+  }
+
+  private void receiveEvent(Subscription subscription, String id, String data) throws IOException {
+
+    CamundaTaskEvent camundaTaskEvent = objectMapper.readValue(data, CamundaTaskEvent.class);
+
+    try {
+      subscription.events.put(camundaTaskEvent);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while buffering a camunda task event");
+    }
+
+    if (id != null) {
+      subscription.lastEventId = id;
+    }
+  }
+
+  private static String getFieldValue(String line, int nameLength) {
+    String value = line.substring(nameLength);
+    return value.startsWith(" ") ? value.substring(1) : value;
+  }
+
+  private static class Subscription {
+
+    private final String requestUrl;
+    private final BlockingQueue<CamundaTaskEvent> events = new LinkedBlockingQueue<>(BUFFER_SIZE);
+    private Thread thread;
+    private volatile boolean connected;
+    private volatile String lastEventId;
+
+    private Subscription(String requestUrl) {
+      this.requestUrl = requestUrl;
+    }
+  }
+}
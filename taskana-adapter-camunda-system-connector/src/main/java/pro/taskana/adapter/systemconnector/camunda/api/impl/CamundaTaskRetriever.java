@@ -1,33 +1,89 @@
 package pro.taskana.adapter.systemconnector.camunda.api.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import pro.taskana.adapter.camunda.outbox.rest.CamundaTaskEvent;
 import pro.taskana.adapter.camunda.outbox.rest.CamundaTaskEventListResource;
 import pro.taskana.adapter.systemconnector.api.ReferencedTask;
+import pro.taskana.adapter.systemconnector.camunda.config.HttpComponentsClientProperties;
 
 /** Retrieves new tasks from camunda that have been started or finished by camunda. */
 @Component
 public class CamundaTaskRetriever {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(CamundaTaskRetriever.class);
+  // time left for the response of a long polling request before the read timeout hits
+  private static final long LONG_POLLING_READ_TIMEOUT_MARGIN_IN_MILLISECONDS = 1000;
+
+  // identifies this adapter instance as the owner of the events it leased from the outbox
+  private final String leaseOwner = UUID.randomUUID().toString();
+
+  // the last events per request url and their entity tag, returned again if they didn't change
+  private final Map<String, CachedCamundaTaskEvents> cachedEvents = new ConcurrentHashMap<>();
 
   @Autowired private HttpHeaderProvider httpHeaderProvider;
   @Autowired private ObjectMapper objectMapper;
   @Autowired private RestTemplate restTemplate;
+  @Autowired private HttpComponentsClientProperties httpComponentsClientProperties;
+  @Autowired private CamundaTaskEventSubscriber camundaTaskEventSubscriber;
+
+  @Value("${taskana.adapter.camunda.outbox.leasing.enabled:false}")
+  private boolean leasingEnabled;
+
+  @Value("${taskana.adapter.camunda.outbox.compressed.payloads.enabled:false}")
+  private boolean compressedPayloadsEnabled;
+
+  @Value("${taskana.adapter.camunda.outbox.long.polling.max.wait.in.milliseconds:0}")
+  private long longPollingMaxWait;
+
+  @Value("${taskana.adapter.camunda.outbox.streaming.enabled:false}")
+  private boolean streamingEnabled;
+
+  @Value("${taskana.adapter.camunda.outbox.streaming.max.wait.in.milliseconds:10000}")
+  private long streamingMaxWait;
+
+  @PostConstruct
+  void limitLongPollingMaxWait() {
+
+    long maxWaitWithinReadTimeout =
+        Math.max(
+            0,
+            httpComponentsClientProperties.getReadTimeout()
+                - LONG_POLLING_READ_TIMEOUT_MARGIN_IN_MILLISECONDS);
+
+    if (longPollingMaxWait > maxWaitWithinReadTimeout) {
+      LOGGER.warn(
+          "Long polling max wait of {} ms exceeds the read timeout of {} ms, using {} ms instead",
+          longPollingMaxWait,
+          httpComponentsClientProperties.getReadTimeout(),
+          maxWaitWithinReadTimeout);
+      longPollingMaxWait = maxWaitWithinReadTimeout;
+    }
+  }
+
+  public Duration getMaxWaitForCamundaTaskEvents() {
+    return Duration.ofMillis(streamingEnabled ? streamingMaxWait : longPollingMaxWait);
+  }
 
   public List<ReferencedTask> retrieveNewStartedCamundaTasks(
       String camundaSystemTaskEventUrl, String camundaSystemEngineIdentifier) {
@@ -35,7 +91,7 @@ public class CamundaTaskRetriever {
     LOGGER.debug("entry to retrieveNewStartedCamundaTasks.");
 
     List<CamundaTaskEvent> camundaTaskEvents =
-        getCamundaTaskEvents(
+        getCamundaTaskEventsWaiting(
             camundaSystemTaskEventUrl, CamundaSystemConnectorImpl.URL_GET_CAMUNDA_CREATE_EVENTS);
 
     List<ReferencedTask> referencedTasks =
@@ -52,7 +108,7 @@ public class CamundaTaskRetriever {
     LOGGER.debug("entry to retrieveFinishedCamundaTasks. CamundSystemURL = {} ", camundaSystemUrl);
 
     List<CamundaTaskEvent> camundaTaskEvents =
-        getCamundaTaskEvents(
+        getCamundaTaskEventsWaiting(
             camundaSystemUrl, CamundaSystemConnectorImpl.URL_GET_CAMUNDA_FINISHED_EVENTS);
 
     List<ReferencedTask> referencedTasks =
@@ -64,12 +120,58 @@ public class CamundaTaskRetriever {
     return referencedTasks;
   }
 
-  private List<CamundaTaskEvent> getCamundaTaskEvents(
+  // takes the events from the subscription if streaming is enabled, otherwise the outbox is polled
+  private List<CamundaTaskEvent> getCamundaTaskEventsWaiting(
       String camundaSystemTaskEventUrl, String eventSelector) {
 
+    List<CamundaTaskEvent> camundaTaskEvents = null;
+    if (streamingEnabled) {
+      camundaTaskEvents =
+          camundaTaskEventSubscriber.takeEvents(
+              getRequestUrl(camundaSystemTaskEventUrl, eventSelector, 0), streamingMaxWait);
+    }
+
+    if (camundaTaskEvents == null) {
+      // without a connected subscription the outbox is polled as usual
+      camundaTaskEvents =
+          getCamundaTaskEvents(camundaSystemTaskEventUrl, eventSelector, longPollingMaxWait);
+    } else if (camundaTaskEvents.isEmpty()) {
+      // the subscription passes every event only once, so the events that stayed in the outbox,
+      // e.g. those of failed task creations that are due for their next retry, are polled
+      // whenever no new events arrived
+      camundaTaskEvents = getCamundaTaskEvents(camundaSystemTaskEventUrl, eventSelector, 0);
+    }
+    return camundaTaskEvents;
+  }
+
+  private String getRequestUrl(
+      String camundaSystemTaskEventUrl, String eventSelector, long maxWait) {
+
     String requestUrl = camundaSystemTaskEventUrl + eventSelector;
+    if (leasingEnabled) {
+      requestUrl += "&" + CamundaSystemConnectorImpl.URL_PARAM_LEASE_OWNER + "=" + leaseOwner;
+    }
+    if (maxWait > 0) {
+      // the outbox holds the request back until events show up or the wait is over
+      requestUrl += "&" + CamundaSystemConnectorImpl.URL_PARAM_MAX_WAIT + "=" + maxWait;
+    }
+    if (compressedPayloadsEnabled) {
+      // the outbox returns compressed payloads as they are stored, they're decoded here
+      requestUrl += "&" + CamundaSystemConnectorImpl.URL_PARAM_KEEP_PAYLOAD_ENCODING + "=true";
+    }
+    return requestUrl;
+  }
+
+  private List<CamundaTaskEvent> getCamundaTaskEvents(
+      String camundaSystemTaskEventUrl, String eventSelector, long maxWait) {
+
+    String requestUrl = getRequestUrl(camundaSystemTaskEventUrl, eventSelector, maxWait);
 
     HttpHeaders headers = httpHeaderProvider.getHttpHeadersForOutboxRestApi();
+    CachedCamundaTaskEvents cachedCamundaTaskEvents = cachedEvents.get(requestUrl);
+    if (cachedCamundaTaskEvents != null) {
+      headers.setIfNoneMatch(cachedCamundaTaskEvents.entityTag);
+    }
     LOGGER.debug(
         "retrieving camunda task event resources with url {} and headers {}", requestUrl, headers);
 
@@ -85,10 +187,23 @@ public class CamundaTaskRetriever {
               new HttpEntity<Object>(headers),
               CamundaTaskEventListResource.class);
 
+      if (cachedCamundaTaskEvents != null
+          && responseEntity.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+        LOGGER.debug("camunda task events of url {} are not modified", requestUrl);
+        return cachedCamundaTaskEvents.camundaTaskEvents;
+      }
+
       camundaTaskEventListResource = responseEntity.getBody();
 
       List<CamundaTaskEvent> retrievedEvents = camundaTaskEventListResource.getCamundaTaskEvents();
 
+      String entityTag = responseEntity.getHeaders().getETag();
+      if (entityTag != null) {
+        cachedEvents.put(requestUrl, new CachedCamundaTaskEvents(entityTag, retrievedEvents));
+      } else {
+        cachedEvents.remove(requestUrl);
+      }
+
       if (LOGGER.isDebugEnabled()) {
         LOGGER.debug("retrieved camunda task events {}", retrievedEvents);
       }
@@ -119,6 +234,9 @@ public class CamundaTaskRetriever {
 
         try {
 
+          referencedTaskJson =
+              CamundaTaskEventPayloadCodec.decode(
+                  referencedTaskJson, camundaTaskEvent.getPayloadEncoding());
           ReferencedTask referencedTask =
               objectMapper.readValue(referencedTaskJson, ReferencedTask.class);
           referencedTask.setOutboxEventId(String.valueOf(camundaTaskEvent.getId()));
@@ -140,4 +258,15 @@ public class CamundaTaskRetriever {
     }
     return referencedTasks;
   }
+
+  private static class CachedCamundaTaskEvents {
+
+    private final String entityTag;
+    private final List<CamundaTaskEvent> camundaTaskEvents;
+
+    private CachedCamundaTaskEvents(String entityTag, List<CamundaTaskEvent> camundaTaskEvents) {
+      this.entityTag = entityTag;
+      this.camundaTaskEvents = camundaTaskEvents;
+    }
+  }
 }
@@ -1,17 +1,31 @@
 package pro.taskana.adapter.systemconnector.camunda.config;
 
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
+import pro.taskana.adapter.systemconnector.camunda.api.impl.CamundaAsyncRequester;
+import pro.taskana.adapter.systemconnector.camunda.api.impl.CamundaConnectionPoolMonitor;
+import pro.taskana.adapter.systemconnector.camunda.api.impl.CamundaTaskBulkRequester;
 import pro.taskana.adapter.systemconnector.camunda.api.impl.CamundaTaskClaimCanceler;
 import pro.taskana.adapter.systemconnector.camunda.api.impl.CamundaTaskClaimer;
 import pro.taskana.adapter.systemconnector.camunda.api.impl.CamundaTaskCompleter;
 import pro.taskana.adapter.systemconnector.camunda.api.impl.CamundaTaskEventCleaner;
+import pro.taskana.adapter.systemconnector.camunda.api.impl.CamundaTaskEventSubscriber;
 import pro.taskana.adapter.systemconnector.camunda.api.impl.CamundaTaskRetriever;
 import pro.taskana.adapter.systemconnector.camunda.api.impl.HttpHeaderProvider;
 
@@ -20,13 +34,77 @@ import pro.taskana.adapter.systemconnector.camunda.api.impl.HttpHeaderProvider;
 @DependsOn(value = {"adapterSpringContextProvider"})
 public class CamundaSystemConnectorConfiguration {
 
+  @Bean
+  CamundaAsyncRequester camundaAsyncRequester(
+      JdkHttpClientProperties jdkHttpClientProperties,
+      HttpComponentsClientProperties httpComponentsClientProperties) {
+    return new CamundaAsyncRequester(jdkHttpClientProperties, httpComponentsClientProperties);
+  }
+
+  // the timeouts are applied to the pooled connections, so that they hold for the RestTemplate
+  // and the connections it leases
+  @Bean
+  PoolingHttpClientConnectionManager camundaConnectionManager(
+      HttpComponentsClientProperties httpComponentsClientProperties) {
+    return PoolingHttpClientConnectionManagerBuilder.create()
+        .setMaxConnTotal(httpComponentsClientProperties.getMaxConnectionsTotal())
+        .setMaxConnPerRoute(httpComponentsClientProperties.getMaxConnectionsPerRoute())
+        .setDefaultConnectionConfig(
+            ConnectionConfig.custom()
+                .setConnectTimeout(
+                    httpComponentsClientProperties.getConnectionTimeout(), TimeUnit.MILLISECONDS)
+                .setSocketTimeout(
+                    (int) httpComponentsClientProperties.getReadTimeout(), TimeUnit.MILLISECONDS)
+                .setValidateAfterInactivity(
+                    httpComponentsClientProperties.getValidateAfterInactivity(),
+                    TimeUnit.MILLISECONDS)
+                .build())
+        .build();
+  }
+
+  @Bean
+  CamundaConnectionPoolMonitor camundaConnectionPoolMonitor(
+      PoolingHttpClientConnectionManager camundaConnectionManager) {
+    return new CamundaConnectionPoolMonitor(camundaConnectionManager);
+  }
+
   @Bean
   RestTemplate restTemplate(
-      RestTemplateBuilder builder, HttpComponentsClientProperties httpComponentsClientProperties) {
+      RestTemplateBuilder builder,
+      HttpComponentsClientProperties httpComponentsClientProperties,
+      PoolingHttpClientConnectionManager camundaConnectionManager,
+      CamundaAsyncRequester camundaAsyncRequester) {
+
+    // the JDK HttpClient has its connect timeout already and doesn't decompress gzip encoded
+    // responses, so the outbox is asked for uncompressed responses
+    if (camundaAsyncRequester.isEnabled()) {
+      JdkClientHttpRequestFactory requestFactory =
+          new JdkClientHttpRequestFactory(camundaAsyncRequester.getHttpClient());
+      requestFactory.setReadTimeout(
+          Duration.ofMillis(httpComponentsClientProperties.getReadTimeout()));
+      return builder.requestFactory(() -> requestFactory).build();
+    }
+
+    HttpClientBuilder httpClientBuilder =
+        HttpClients.custom()
+            .setConnectionManager(camundaConnectionManager)
+            .setDefaultRequestConfig(
+                RequestConfig.custom()
+                    .setConnectionKeepAlive(
+                        TimeValue.ofMilliseconds(httpComponentsClientProperties.getKeepAlive()))
+                    .build())
+            .evictExpiredConnections();
+    if (httpComponentsClientProperties.getEvictIdleConnectionsAfter() > 0) {
+      httpClientBuilder.evictIdleConnections(
+          TimeValue.ofMilliseconds(httpComponentsClientProperties.getEvictIdleConnectionsAfter()));
+    }
+    HttpComponentsClientHttpRequestFactory requestFactory =
+        new HttpComponentsClientHttpRequestFactory(httpClientBuilder.build());
+
     return builder
-        .setConnectTimeout(Duration.ofMillis(httpComponentsClientProperties.getConnectionTimeout()))
-        .setReadTimeout(Duration.ofMillis(httpComponentsClientProperties.getReadTimeout()))
-        .requestFactory(HttpComponentsClientHttpRequestFactory.class)
+        .requestFactory(() -> requestFactory)
+        // the http client decompresses gzip encoded responses transparently
+        .defaultHeader(HttpHeaders.ACCEPT_ENCODING, "gzip")
         .build();
   }
 
@@ -47,6 +125,18 @@ public class CamundaSystemConnectorConfiguration {
     return new CamundaTaskRetriever();
   }
 
+  @Bean
+  @DependsOn(value = {"httpHeaderProvider"})
+  CamundaTaskEventSubscriber camundaTaskEventSubscriber() {
+    return new CamundaTaskEventSubscriber();
+  }
+
+  @Bean
+  @DependsOn(value = {"httpHeaderProvider"})
+  CamundaTaskBulkRequester camundaTaskBulkRequester() {
+    return new CamundaTaskBulkRequester();
+  }
+
   @Bean
   CamundaTaskCompleter camundaTaskCompleter() {
     return new CamundaTaskCompleter();
@@ -11,6 +11,19 @@ public class HttpComponentsClientProperties {
 
   private long readTimeout = 5_000;
 
+  private int maxConnectionsTotal = 100;
+
+  private int maxConnectionsPerRoute = 20;
+
+  // a pooled connection idle for longer is checked before it is leased again
+  private long validateAfterInactivity = 2_000;
+
+  // idle connections are closed after this time, 0 keeps them until they expire
+  private long evictIdleConnectionsAfter = 60_000;
+
+  // applies if camunda doesn't send a Keep-Alive header
+  private long keepAlive = 30_000;
+
   public long getConnectionTimeout() {
     return connectionTimeout;
   }
@@ -26,4 +39,44 @@ public class HttpComponentsClientProperties {
   public void setReadTimeout(long readTimeout) {
     this.readTimeout = readTimeout;
   }
+
+  public int getMaxConnectionsTotal() {
+    return maxConnectionsTotal;
+  }
+
+  public void setMaxConnectionsTotal(int maxConnectionsTotal) {
+    this.maxConnectionsTotal = maxConnectionsTotal;
+  }
+
+  public int getMaxConnectionsPerRoute() {
+    return maxConnectionsPerRoute;
+  }
+
+  public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+    this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+  }
+
+  public long getValidateAfterInactivity() {
+    return validateAfterInactivity;
+  }
+
+  public void setValidateAfterInactivity(long validateAfterInactivity) {
+    this.validateAfterInactivity = validateAfterInactivity;
+  }
+
+  public long getEvictIdleConnectionsAfter() {
+    return evictIdleConnectionsAfter;
+  }
+
+  public void setEvictIdleConnectionsAfter(long evictIdleConnectionsAfter) {
+    this.evictIdleConnectionsAfter = evictIdleConnectionsAfter;
+  }
+
+  public long getKeepAlive() {
+    return keepAlive;
+  }
+
+  public void setKeepAlive(long keepAlive) {
+    this.keepAlive = keepAlive;
+  }
 }
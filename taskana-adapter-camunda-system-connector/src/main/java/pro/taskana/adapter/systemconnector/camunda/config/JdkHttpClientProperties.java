@@ -0,0 +1,55 @@
+package pro.taskana.adapter.systemconnector.camunda.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configures the non-blocking java.net.http.HttpClient the camunda system connector uses instead
+ * of the Apache HttpComponents client if it is enabled. The timeouts of the HttpComponentsClient
+ * properties apply to both clients. The keep-alive of idle connections is set with the JVM property
+ * jdk.httpclient.keepalive.timeout, since the JDK doesn't offer it per client.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "jdkhttpclient")
+public class JdkHttpClientProperties {
+
+  private boolean enabled = false;
+
+  private boolean http2Enabled = true;
+
+  private int maxRequestsPerRoute = 50;
+
+  private int threads = 4;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public boolean isHttp2Enabled() {
+    return http2Enabled;
+  }
+
+  public void setHttp2Enabled(boolean http2Enabled) {
+    this.http2Enabled = http2Enabled;
+  }
+
+  public int getMaxRequestsPerRoute() {
+    return maxRequestsPerRoute;
+  }
+
+  public void setMaxRequestsPerRoute(int maxRequestsPerRoute) {
+    this.maxRequestsPerRoute = maxRequestsPerRoute;
+  }
+
+  public int getThreads() {
+    return threads;
+  }
+
+  public void setThreads(int threads) {
+    this.threads = threads;
+  }
+}
@@ -0,0 +1,240 @@
+package pro.taskana.adapter.systemconnector.camunda.api.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.RestTemplate;
+import pro.taskana.adapter.systemconnector.api.ReferencedTask;
+import pro.taskana.adapter.systemconnector.api.SystemResponse;
+import pro.taskana.adapter.systemconnector.camunda.config.CamundaSystemUrls;
+import pro.taskana.adapter.systemconnector.camunda.config.HttpComponentsClientProperties;
+import pro.taskana.adapter.systemconnector.camunda.config.JdkHttpClientProperties;
+import pro.taskana.common.api.exceptions.SystemException;
+
+class CamundaAsyncRequesterTest {
+
+  private final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+  private final CountDownLatch blockedRequestsReleased = new CountDownLatch(1);
+  private final Semaphore blockedRequestsArrived = new Semaphore(0);
+  private final AtomicInteger blockedRequestsInFlight = new AtomicInteger();
+  private final AtomicInteger maxBlockedRequestsInFlight = new AtomicInteger();
+
+  private HttpServer server;
+  private CamundaAsyncRequester camundaAsyncRequester;
+
+  @BeforeEach
+  void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(0), 0);
+    server.setExecutor(serverExecutor);
+    server.createContext("/blocked", this::respondWhenReleased);
+    server.createContext("/ok", exchange -> respond(exchange, 204, ""));
+    server.createContext("/failing", exchange -> respond(exchange, 500, "boom"));
+    server.createContext(
+        "/engine-rest/task/",
+        exchange -> {
+          boolean taskExists = !exchange.getRequestURI().getPath().endsWith("missing");
+          respond(exchange, taskExists ? 200 : 404, "");
+        });
+    server.start();
+  }
+
+  @AfterEach
+  void stopServer() {
+    blockedRequestsReleased.countDown();
+    if (camundaAsyncRequester != null) {
+      camundaAsyncRequester.shutdown();
+    }
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Test
+  void should_QueueRequests_When_MaxRequestsOfRouteAreInFlight() throws Exception {
+    camundaAsyncRequester = createCamundaAsyncRequester(2);
+
+    List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      responses.add(send(url("127.0.0.1", "/blocked")));
+    }
+
+    assertThat(blockedRequestsArrived.tryAcquire(2, 5, TimeUnit.SECONDS)).isTrue();
+    assertThat(blockedRequestsArrived.tryAcquire(200, TimeUnit.MILLISECONDS)).isFalse();
+
+    blockedRequestsReleased.countDown();
+
+    for (CompletableFuture<HttpResponse<String>> response : responses) {
+      assertThat(response.get(5, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+    }
+    assertThat(maxBlockedRequestsInFlight.get()).isEqualTo(2);
+  }
+
+  @Test
+  void should_StartQueuedRequest_When_RequestInFlightIsReleased() throws Exception {
+    camundaAsyncRequester = createCamundaAsyncRequester(1);
+
+    final CompletableFuture<HttpResponse<String>> blockedResponse =
+        send(url("127.0.0.1", "/blocked"));
+    assertThat(blockedRequestsArrived.tryAcquire(5, TimeUnit.SECONDS)).isTrue();
+    CompletableFuture<HttpResponse<String>> queuedResponse = send(url("127.0.0.1", "/ok"));
+
+    assertThat(queuedResponse).isNotDone();
+
+    blockedRequestsReleased.countDown();
+
+    assertThat(blockedResponse.get(5, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+    assertThat(queuedResponse.get(5, TimeUnit.SECONDS).statusCode()).isEqualTo(204);
+  }
+
+  @Test
+  void should_NotQueueRequest_When_OtherRouteIsBusy() throws Exception {
+    camundaAsyncRequester = createCamundaAsyncRequester(1);
+
+    CompletableFuture<HttpResponse<String>> blockedResponse = send(url("127.0.0.1", "/blocked"));
+    assertThat(blockedRequestsArrived.tryAcquire(5, TimeUnit.SECONDS)).isTrue();
+
+    assertThat(send(url("localhost", "/ok")).get(5, TimeUnit.SECONDS).statusCode())
+        .isEqualTo(204);
+    assertThat(blockedResponse).isNotDone();
+  }
+
+  @Test
+  void should_MapResponsesToSystemResponses_When_AwaitingResponses() throws Exception {
+    camundaAsyncRequester = createCamundaAsyncRequester(10);
+    String unreachableUrl = "http://127.0.0.1:" + findUnusedPort() + "/unreachable";
+
+    List<ReferencedTask> referencedTasks =
+        List.of(
+            referencedTask("succeeded"),
+            referencedTask("existing"),
+            referencedTask("missing"),
+            referencedTask("unreachable"));
+    List<CompletableFuture<HttpResponse<String>>> responses =
+        List.of(
+            send(url("127.0.0.1", "/ok")),
+            send(url("127.0.0.1", "/failing")),
+            send(url("127.0.0.1", "/failing")),
+            send(unreachableUrl));
+
+    CamundaSystemUrls.SystemUrlInfo camundaSystemUrlInfo = new CamundaSystemUrls.SystemUrlInfo();
+    camundaSystemUrlInfo.setSystemRestUrl(url("127.0.0.1", "/engine-rest"));
+    List<SystemResponse> systemResponses =
+        camundaAsyncRequester.awaitResponses(
+            camundaSystemUrlInfo,
+            referencedTasks,
+            responses,
+            new RestTemplate(),
+            new HttpHeaderProvider());
+
+    assertThat(systemResponses.get(0).getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    assertThat(systemResponses.get(0).getThrowable()).isNull();
+    // a failed task that still exists in camunda keeps the error of its request
+    assertThat(systemResponses.get(1).getStatusCode())
+        .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+    assertThat(systemResponses.get(1).getThrowable())
+        .isInstanceOf(SystemException.class)
+        .hasMessageContaining("existing")
+        .hasMessageContaining("boom");
+    // a failed task that no longer exists in camunda was already finished there
+    assertThat(systemResponses.get(2).getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(systemResponses.get(2).getThrowable()).isNull();
+    assertThat(systemResponses.get(3).getStatusCode())
+        .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+    assertThat(systemResponses.get(3).getThrowable()).isInstanceOf(IOException.class);
+  }
+
+  @Test
+  void should_StartQueuedRequestsInLoop_When_RequestsCompleteWhileTheyAreStarted() {
+    CamundaAsyncRequester.Route route = new CamundaAsyncRequester.Route(1);
+    List<Integer> stackDepths = new ArrayList<>();
+
+    route.submit(() -> {});
+    // the requests complete right away, so each one releases its slot while it is started
+    for (int i = 0; i < 10_000; i++) {
+      route.submit(
+          () -> {
+            stackDepths.add(Thread.currentThread().getStackTrace().length);
+            route.release();
+          });
+    }
+    assertThat(stackDepths).isEmpty();
+
+    route.release();
+
+    assertThat(stackDepths).hasSize(10_000);
+    assertThat(stackDepths.stream().distinct()).hasSize(1);
+  }
+
+  private CamundaAsyncRequester createCamundaAsyncRequester(int maxRequestsPerRoute) {
+    JdkHttpClientProperties jdkHttpClientProperties = new JdkHttpClientProperties();
+    jdkHttpClientProperties.setEnabled(true);
+    jdkHttpClientProperties.setHttp2Enabled(false);
+    jdkHttpClientProperties.setMaxRequestsPerRoute(maxRequestsPerRoute);
+    return new CamundaAsyncRequester(
+        jdkHttpClientProperties, new HttpComponentsClientProperties());
+  }
+
+  private CompletableFuture<HttpResponse<String>> send(String url) {
+    return camundaAsyncRequester.send(HttpMethod.POST, url, new HttpEntity<>("{}"));
+  }
+
+  private String url(String host, String path) {
+    return "http://" + host + ":" + server.getAddress().getPort() + path;
+  }
+
+  private void respondWhenReleased(HttpExchange exchange) throws IOException {
+    maxBlockedRequestsInFlight.accumulateAndGet(
+        blockedRequestsInFlight.incrementAndGet(), Math::max);
+    blockedRequestsArrived.release();
+    try {
+      blockedRequestsReleased.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      blockedRequestsInFlight.decrementAndGet();
+    }
+    respond(exchange, 200, "");
+  }
+
+  private static void respond(HttpExchange exchange, int statusCode, String body)
+      throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(statusCode, bytes.length == 0 ? -1 : bytes.length);
+    try (OutputStream outputStream = exchange.getResponseBody()) {
+      outputStream.write(bytes);
+    }
+  }
+
+  private static ReferencedTask referencedTask(String id) {
+    ReferencedTask referencedTask = new ReferencedTask();
+    referencedTask.setId(id);
+    return referencedTask;
+  }
+
+  private static int findUnusedPort() throws IOException {
+    try (ServerSocket serverSocket = new ServerSocket(0)) {
+      return serverSocket.getLocalPort();
+    }
+  }
+}
@@ -25,6 +25,23 @@ class HttpComponentsClientPropertiesWithDefaultValuesIntegrationTest {
     assertThat(httpComponentsClientProperties.getReadTimeout()).isEqualTo(5_000);
   }
 
+  @Test
+  void should_PoolAtMost20ConnectionsPerRoute_When_NoPropertyMaxConnectionsIsSet(
+      @Autowired HttpComponentsClientProperties httpComponentsClientProperties
+  ) {
+    assertThat(httpComponentsClientProperties.getMaxConnectionsTotal()).isEqualTo(100);
+    assertThat(httpComponentsClientProperties.getMaxConnectionsPerRoute()).isEqualTo(20);
+  }
+
+  @Test
+  void should_KeepConnectionsAlive30000ms_When_NoPropertyKeepAliveIsSet(
+      @Autowired HttpComponentsClientProperties httpComponentsClientProperties
+  ) {
+    assertThat(httpComponentsClientProperties.getKeepAlive()).isEqualTo(30_000);
+    assertThat(httpComponentsClientProperties.getEvictIdleConnectionsAfter()).isEqualTo(60_000);
+    assertThat(httpComponentsClientProperties.getValidateAfterInactivity()).isEqualTo(2_000);
+  }
+
   @EnableConfigurationProperties(HttpComponentsClientProperties.class)
   static class OkHttpPropertiesWithDefaultValuesIntegrationTestConfiguration {}
 }
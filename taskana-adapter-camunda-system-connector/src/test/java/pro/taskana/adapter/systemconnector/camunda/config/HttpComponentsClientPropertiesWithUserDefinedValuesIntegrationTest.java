@@ -12,7 +12,12 @@ import pro.taskana.adapter.systemconnector.camunda.config.HttpComponentsClientPr
     classes = {OkHttpPropertiesWithUserDefinedValuesIntegrationTestConfiguration.class},
     properties = {
       "httpcomponentsclient.connection-timeout=1000",
-      "httpcomponentsclient.read-timeout=10000"
+      "httpcomponentsclient.read-timeout=10000",
+      "httpcomponentsclient.max-connections-total=500",
+      "httpcomponentsclient.max-connections-per-route=50",
+      "httpcomponentsclient.keep-alive=120000",
+      "httpcomponentsclient.evict-idle-connections-after=0",
+      "httpcomponentsclient.validate-after-inactivity=500"
     })
 class HttpComponentsClientPropertiesWithUserDefinedValuesIntegrationTest {
 
@@ -28,6 +33,21 @@ class HttpComponentsClientPropertiesWithUserDefinedValuesIntegrationTest {
     assertThat(httpComponentsClientProperties.getReadTimeout()).isEqualTo(10_000);
   }
 
+  @Test
+  void should_PoolAtMost50ConnectionsPerRoute_When_PropertiesMaxConnectionsAreSet(
+      @Autowired HttpComponentsClientProperties httpComponentsClientProperties) {
+    assertThat(httpComponentsClientProperties.getMaxConnectionsTotal()).isEqualTo(500);
+    assertThat(httpComponentsClientProperties.getMaxConnectionsPerRoute()).isEqualTo(50);
+  }
+
+  @Test
+  void should_KeepConnectionsAlive120000ms_When_PropertyKeepAliveIsSet(
+      @Autowired HttpComponentsClientProperties httpComponentsClientProperties) {
+    assertThat(httpComponentsClientProperties.getKeepAlive()).isEqualTo(120_000);
+    assertThat(httpComponentsClientProperties.getEvictIdleConnectionsAfter()).isZero();
+    assertThat(httpComponentsClientProperties.getValidateAfterInactivity()).isEqualTo(500);
+  }
+
   @EnableConfigurationProperties(HttpComponentsClientProperties.class)
   static class OkHttpPropertiesWithUserDefinedValuesIntegrationTestConfiguration {}
 }
@@ -0,0 +1,32 @@
+package pro.taskana.adapter.systemconnector.camunda.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import pro.taskana.adapter.systemconnector.camunda.config.JdkHttpClientPropertiesWithDefaultValuesIntegrationTest.JdkHttpClientPropertiesTestConfiguration;
+
+@SpringBootTest(classes = {JdkHttpClientPropertiesTestConfiguration.class})
+class JdkHttpClientPropertiesWithDefaultValuesIntegrationTest {
+
+  @Test
+  void should_BeDisabled_When_NoPropertyJdkHttpClientEnabledIsSet(
+      @Autowired JdkHttpClientProperties jdkHttpClientProperties
+  ) {
+    assertThat(jdkHttpClientProperties.isEnabled()).isFalse();
+  }
+
+  @Test
+  void should_UseHttp2With50RequestsPerRoute_When_NoPropertiesOfTheClientAreSet(
+      @Autowired JdkHttpClientProperties jdkHttpClientProperties
+  ) {
+    assertThat(jdkHttpClientProperties.isHttp2Enabled()).isTrue();
+    assertThat(jdkHttpClientProperties.getMaxRequestsPerRoute()).isEqualTo(50);
+    assertThat(jdkHttpClientProperties.getThreads()).isEqualTo(4);
+  }
+
+  @EnableConfigurationProperties(JdkHttpClientProperties.class)
+  static class JdkHttpClientPropertiesTestConfiguration {}
+}
@@ -9,10 +9,14 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
+import pro.taskana.adapter.systemconnector.camunda.api.impl.CamundaAsyncRequester;
+import pro.taskana.adapter.systemconnector.camunda.api.impl.CamundaTaskBulkRequester;
 import pro.taskana.adapter.systemconnector.camunda.api.impl.CamundaTaskCompleter;
+import pro.taskana.adapter.systemconnector.camunda.api.impl.CamundaTaskEventSubscriber;
 import pro.taskana.adapter.systemconnector.camunda.api.impl.CamundaTaskRetriever;
 import pro.taskana.adapter.systemconnector.camunda.api.impl.HttpHeaderProvider;
 import pro.taskana.adapter.systemconnector.camunda.config.HttpComponentsClientProperties;
+import pro.taskana.adapter.systemconnector.camunda.config.JdkHttpClientProperties;
 
 /**
  * Configuration for test of Camunda System Connector.
@@ -20,7 +24,10 @@ import pro.taskana.adapter.systemconnector.camunda.config.HttpComponentsClientPr
  * @author bbr
  */
 @Configuration
-@EnableConfigurationProperties(HttpComponentsClientProperties.class)
+@EnableConfigurationProperties({
+  HttpComponentsClientProperties.class,
+  JdkHttpClientProperties.class
+})
 public class CamundaConnectorTestConfiguration {
 
   @Bean
@@ -53,6 +60,23 @@ public class CamundaConnectorTestConfiguration {
     return new CamundaTaskRetriever();
   }
 
+  @Bean
+  CamundaTaskEventSubscriber camundaTaskEventSubscriber() {
+    return new CamundaTaskEventSubscriber();
+  }
+
+  @Bean
+  CamundaTaskBulkRequester camundaTaskBulkRequester() {
+    return new CamundaTaskBulkRequester();
+  }
+
+  @Bean
+  CamundaAsyncRequester camundaAsyncRequester(
+      JdkHttpClientProperties jdkHttpClientProperties,
+      HttpComponentsClientProperties httpComponentsClientProperties) {
+    return new CamundaAsyncRequester(jdkHttpClientProperties, httpComponentsClientProperties);
+  }
+
   @Bean
   CamundaTaskCompleter camundaTaskCompleter() {
     return new CamundaTaskCompleter();
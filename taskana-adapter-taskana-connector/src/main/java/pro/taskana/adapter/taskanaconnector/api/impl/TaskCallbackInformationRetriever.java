@@ -0,0 +1,129 @@
+package pro.taskana.adapter.taskanaconnector.api.impl;
+
+import jakarta.annotation.PostConstruct;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import pro.taskana.TaskanaConfiguration;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.models.TaskImpl;
+
+/**
+ * Loads the information that is needed to process the callback of TASKANA tasks. The task
+ * summaries don't carry the callback info and the custom attributes, so they are selected for a
+ * whole chunk of tasks at once. The chunk is restricted to the tasks that a TaskQuery returns for
+ * the current user first, so that the permissions on the workbaskets are respected.
+ */
+@Component
+public class TaskCallbackInformationRetriever {
+
+  // stays well below the maximum number of expressions in an IN list that Oracle accepts
+  static final int MAX_TASK_IDS_PER_QUERY = 500;
+
+  private static final String SELECT_CALLBACK_INFORMATION =
+      "SELECT ID, CALLBACK_INFO, CUSTOM_ATTRIBUTES FROM %s.TASK WHERE ID IN (:ids)";
+
+  @Autowired private TaskanaEngine taskanaEngine;
+
+  @Autowired private TaskService taskService;
+
+  private NamedParameterJdbcTemplate jdbcTemplate;
+  private String selectCallbackInformationSql;
+
+  @PostConstruct
+  public void init() {
+    TaskanaConfiguration configuration = taskanaEngine.getConfiguration();
+    jdbcTemplate = new NamedParameterJdbcTemplate(configuration.getDataSource());
+    selectCallbackInformationSql =
+        String.format(SELECT_CALLBACK_INFORMATION, configuration.getSchemaName());
+  }
+
+  /**
+   * Retrieves the TASKANA tasks with the given ids. Tasks that don't exist anymore or that the
+   * current user isn't allowed to read are skipped. The returned tasks only contain the id, the
+   * external id, the name, the description, the owner, the callback info and the custom attributes.
+   *
+   * @param taskIds the ids of the requested tasks
+   * @return the tasks that could be retrieved, in the order of the given ids
+   */
+  public List<Task> retrieveTasksWithCallbackInformation(List<String> taskIds) {
+    if (taskIds.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    Map<String, Task> tasksById = new HashMap<>();
+    for (int from = 0; from < taskIds.size(); from += MAX_TASK_IDS_PER_QUERY) {
+      int to = Math.min(from + MAX_TASK_IDS_PER_QUERY, taskIds.size());
+      tasksById.putAll(retrieveChunk(taskIds.subList(from, to)));
+    }
+
+    List<Task> tasks = new ArrayList<>(tasksById.size());
+    for (String taskId : taskIds) {
+      Task task = tasksById.get(taskId);
+      if (task != null) {
+        tasks.add(task);
+      }
+    }
+    return tasks;
+  }
+
+  private Map<String, Task> retrieveChunk(List<String> taskIds) {
+    // the TaskQuery only returns the tasks of the workbaskets the current user may read
+    Map<String, TaskSummary> readableTasks =
+        taskService.createTaskQuery().idIn(taskIds.toArray(new String[0])).list().stream()
+            .collect(Collectors.toMap(TaskSummary::getId, Function.identity()));
+    if (readableTasks.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    Map<String, Task> tasksById = new HashMap<>();
+    MapSqlParameterSource parameters =
+        new MapSqlParameterSource("ids", new ArrayList<>(readableTasks.keySet()));
+    jdbcTemplate.query(
+        selectCallbackInformationSql,
+        parameters,
+        rs -> {
+          TaskSummary taskSummary = readableTasks.get(rs.getString("ID"));
+          tasksById.put(taskSummary.getId(), mapTask(taskSummary, rs));
+        });
+    return tasksById;
+  }
+
+  private Task mapTask(TaskSummary taskSummary, ResultSet rs) throws SQLException {
+    TaskImpl task = new TaskImpl();
+    task.setId(taskSummary.getId());
+    task.setExternalId(taskSummary.getExternalId());
+    task.setName(taskSummary.getName());
+    task.setDescription(taskSummary.getDescription());
+    task.setOwner(taskSummary.getOwner());
+    task.setCallbackInfo(convertToMap(rs.getString("CALLBACK_INFO")));
+    task.setCustomAttributeMap(convertToMap(rs.getString("CUSTOM_ATTRIBUTES")));
+    return task;
+  }
+
+  // TASKANA stores these maps as JSON objects
+  private Map<String, String> convertToMap(String json) {
+    if (json == null || json.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    Map<String, String> map = new HashMap<>();
+    new JSONObject(json)
+        .toMap()
+        .forEach((key, value) -> map.put(key, value == null ? null : String.valueOf(value)));
+    return map;
+  }
+}
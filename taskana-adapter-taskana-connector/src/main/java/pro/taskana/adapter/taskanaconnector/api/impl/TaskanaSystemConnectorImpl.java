@@ -1,25 +1,40 @@
 package pro.taskana.adapter.taskanaconnector.api.impl;
 
+import jakarta.annotation.PostConstruct;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import pro.taskana.TaskanaConfiguration;
 import pro.taskana.adapter.exceptions.TaskCreationFailedException;
 import pro.taskana.adapter.exceptions.TaskTerminationFailedException;
 import pro.taskana.adapter.systemconnector.api.ReferencedTask;
 import pro.taskana.adapter.taskanaconnector.api.TaskanaConnector;
+import pro.taskana.adapter.taskanaconnector.api.TaskanaTaskCreationResult;
+import pro.taskana.adapter.taskanaconnector.api.TaskanaTaskCursor;
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.common.api.TimeInterval;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.task.api.CallbackState;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskQueryColumnName;
 import pro.taskana.task.api.TaskService;
 import pro.taskana.task.api.TaskState;
 import pro.taskana.task.api.exceptions.InvalidOwnerException;
 import pro.taskana.task.api.exceptions.InvalidTaskStateException;
+import pro.taskana.task.api.exceptions.TaskAlreadyExistException;
 import pro.taskana.task.api.exceptions.TaskNotFoundException;
 import pro.taskana.task.api.models.Task;
 import pro.taskana.task.api.models.TaskSummary;
@@ -36,18 +51,49 @@ public class TaskanaSystemConnectorImpl implements TaskanaConnector {
   private static final String TASK_STATE_TERMINATED = "TERMINATED";
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskanaSystemConnectorImpl.class);
 
+  @Value("${taskana.adapter.create.taskana.tasks.chunk.size:100}")
+  private int taskCreationChunkSize;
+
+  @Value("${taskana.adapter.callback.taskana.tasks.page.size:100}")
+  private int callbackPageSize;
+
+  @Autowired private TaskanaConfiguration taskanaConfiguration;
+
   @Autowired private TaskService taskService;
 
   @Autowired private TaskInformationMapper taskInformationMapper;
 
+  @Autowired private TaskCallbackInformationRetriever taskCallbackInformationRetriever;
+
+  private TransactionTemplate transactionTemplate;
+
+  @PostConstruct
+  public void initTransactionTemplate() {
+    // the transaction manager unwraps the TransactionAwareDataSourceProxy of the configuration
+    transactionTemplate =
+        new TransactionTemplate(
+            new DataSourceTransactionManager(taskanaConfiguration.getDataSource()));
+  }
+
+  @Override
   public List<ReferencedTask> retrieveFinishedTaskanaTasksAsReferencedTasks() {
 
-    List<TaskSummary> finishedTasks =
-        taskService
-            .createTaskQuery()
-            .stateIn(TaskState.COMPLETED, TaskState.CANCELLED, TaskState.TERMINATED)
-            .callbackStateIn(CallbackState.CALLBACK_PROCESSING_REQUIRED, CallbackState.CLAIMED)
-            .list();
+    List<TaskSummary> finishedTasks = createFinishedTasksQuery().list();
+
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "the following taskana tasks were completed {} and must process their callback.",
+          finishedTasks);
+    }
+
+    return retrieveTaskanaTasksAndConvertToReferencedTasks(finishedTasks);
+  }
+
+  @Override
+  public List<ReferencedTask> retrieveFinishedTaskanaTasksAsReferencedTasks(
+      TaskanaTaskCursor cursor) {
+
+    List<TaskSummary> finishedTasks = retrieveNextPage(this::createFinishedTasksQuery, cursor);
 
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
@@ -61,12 +107,22 @@ public class TaskanaSystemConnectorImpl implements TaskanaConnector {
   @Override
   public List<ReferencedTask> retrieveClaimedTaskanaTasksAsReferencedTasks() {
 
-    List<TaskSummary> claimedTasks =
-        taskService
-            .createTaskQuery()
-            .stateIn(TaskState.CLAIMED)
-            .callbackStateIn(CallbackState.CALLBACK_PROCESSING_REQUIRED)
-            .list();
+    List<TaskSummary> claimedTasks = createClaimedTasksQuery().list();
+
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "the following taskana tasks were claimed {} and must process their callback.",
+          claimedTasks);
+    }
+
+    return retrieveTaskanaTasksAndConvertToReferencedTasks(claimedTasks);
+  }
+
+  @Override
+  public List<ReferencedTask> retrieveClaimedTaskanaTasksAsReferencedTasks(
+      TaskanaTaskCursor cursor) {
+
+    List<TaskSummary> claimedTasks = retrieveNextPage(this::createClaimedTasksQuery, cursor);
 
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
@@ -80,12 +136,24 @@ public class TaskanaSystemConnectorImpl implements TaskanaConnector {
   @Override
   public List<ReferencedTask> retrieveCancelledClaimTaskanaTasksAsReferencedTasks() {
 
+    List<TaskSummary> claimedTasks = createCancelledClaimTasksQuery().list();
+
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "the claims of the following taskana tasks were cancelled {} and "
+              + " must process their callback.",
+          claimedTasks);
+    }
+
+    return retrieveTaskanaTasksAndConvertToReferencedTasks(claimedTasks);
+  }
+
+  @Override
+  public List<ReferencedTask> retrieveCancelledClaimTaskanaTasksAsReferencedTasks(
+      TaskanaTaskCursor cursor) {
+
     List<TaskSummary> claimedTasks =
-        taskService
-            .createTaskQuery()
-            .stateIn(TaskState.READY)
-            .callbackStateIn(CallbackState.CLAIMED)
-            .list();
+        retrieveNextPage(this::createCancelledClaimTasksQuery, cursor);
 
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
@@ -118,6 +186,17 @@ public class TaskanaSystemConnectorImpl implements TaskanaConnector {
     }
   }
 
+  @Override
+  public List<TaskanaTaskCreationResult> createTaskanaTasks(List<Task> taskanaTasks) {
+    List<TaskanaTaskCreationResult> results = new ArrayList<>(taskanaTasks.size());
+    int chunkSize = Math.max(1, taskCreationChunkSize);
+    for (int from = 0; from < taskanaTasks.size(); from += chunkSize) {
+      int to = Math.min(from + chunkSize, taskanaTasks.size());
+      results.addAll(createChunkOfTaskanaTasks(taskanaTasks.subList(from, to)));
+    }
+    return results;
+  }
+
   @Override
   public Task convertToTaskanaTask(ReferencedTask camundaTask) {
     return taskInformationMapper.convertToTaskanaTask(camundaTask);
@@ -168,22 +247,130 @@ public class TaskanaSystemConnectorImpl implements TaskanaConnector {
     }
   }
 
+  private List<TaskanaTaskCreationResult> createChunkOfTaskanaTasks(List<Task> chunk) {
+    try {
+      return transactionTemplate.execute(status -> createTaskanaTasksWithSavepoints(chunk, status));
+    } catch (RuntimeException e) {
+      LOGGER.error("Caught Exception when creating a chunk of {} taskana tasks", chunk.size(), e);
+      return chunk.stream()
+          .map(
+              task ->
+                  TaskanaTaskCreationResult.failed(
+                      task, new TaskCreationFailedException(task.getExternalId(), e)))
+          .collect(Collectors.toList());
+    }
+  }
+
+  // every task gets its own savepoint, so that a failing task doesn't abort the whole chunk
+  private List<TaskanaTaskCreationResult> createTaskanaTasksWithSavepoints(
+      List<Task> chunk, TransactionStatus status) {
+    List<TaskanaTaskCreationResult> results = new ArrayList<>(chunk.size());
+    for (Task taskanaTask : chunk) {
+      Object savepoint = status.createSavepoint();
+      try {
+        taskService.createTask(taskanaTask);
+        status.releaseSavepoint(savepoint);
+        results.add(TaskanaTaskCreationResult.created(taskanaTask));
+      } catch (TaskAlreadyExistException e) {
+        status.rollbackToSavepoint(savepoint);
+        results.add(TaskanaTaskCreationResult.alreadyExists(taskanaTask));
+      } catch (TaskanaException | RuntimeException e) {
+        status.rollbackToSavepoint(savepoint);
+        LOGGER.error("Caught Exception when creating taskana task {}", taskanaTask, e);
+        results.add(
+            TaskanaTaskCreationResult.failed(
+                taskanaTask, new TaskCreationFailedException(taskanaTask.getExternalId(), e)));
+      }
+    }
+    return results;
+  }
+
+  private TaskQuery createFinishedTasksQuery() {
+    return taskService
+        .createTaskQuery()
+        .stateIn(TaskState.COMPLETED, TaskState.CANCELLED, TaskState.TERMINATED)
+        .callbackStateIn(CallbackState.CALLBACK_PROCESSING_REQUIRED, CallbackState.CLAIMED);
+  }
+
+  private TaskQuery createClaimedTasksQuery() {
+    return taskService
+        .createTaskQuery()
+        .stateIn(TaskState.CLAIMED)
+        .callbackStateIn(CallbackState.CALLBACK_PROCESSING_REQUIRED);
+  }
+
+  private TaskQuery createCancelledClaimTasksQuery() {
+    return taskService
+        .createTaskQuery()
+        .stateIn(TaskState.READY)
+        .callbackStateIn(CallbackState.CLAIMED);
+  }
+
+  // the position of the cursor is the compound key (modified, id) of the last retrieved task. A
+  // TaskQuery can't express "modified > x OR (modified = x AND id > y)", so the tasks sharing the
+  // timestamp x are retrieved first and the younger ones afterwards
+  private List<TaskSummary> retrieveNextPage(
+      Supplier<TaskQuery> querySupplier, TaskanaTaskCursor cursor) {
+    int pageSize = Math.max(1, callbackPageSize);
+    List<TaskSummary> page = new ArrayList<>(pageSize);
+    Instant lastModified = cursor.getLastModified();
+    if (lastModified == null) {
+      page.addAll(orderByKeyset(querySupplier.get()).list(0, pageSize));
+    } else {
+      TimeInterval atLastModified = new TimeInterval(lastModified, lastModified);
+      String[] taskIdsBehindLastTaskId =
+          querySupplier
+              .get()
+              .modifiedWithin(atLastModified)
+              .listValues(TaskQueryColumnName.ID, SortDirection.ASCENDING)
+              .stream()
+              .filter(taskId -> taskId.compareTo(cursor.getLastTaskId()) > 0)
+              .limit(pageSize)
+              .toArray(String[]::new);
+      if (taskIdsBehindLastTaskId.length > 0) {
+        page.addAll(
+            querySupplier
+                .get()
+                .idIn(taskIdsBehindLastTaskId)
+                .orderByTaskId(SortDirection.ASCENDING)
+                .list());
+      }
+      if (page.size() < pageSize) {
+        TaskQuery youngerTasksQuery =
+            querySupplier
+                .get()
+                .modifiedWithin(new TimeInterval(lastModified, null))
+                .modifiedNotWithin(atLastModified);
+        page.addAll(orderByKeyset(youngerTasksQuery).list(0, pageSize - page.size()));
+      }
+    }
+
+    page.forEach(taskSummary -> cursor.moveBehind(taskSummary.getModified(), taskSummary.getId()));
+    if (page.size() < pageSize) {
+      cursor.markExhausted();
+    }
+    return page;
+  }
+
+  private TaskQuery orderByKeyset(TaskQuery query) {
+    return query.orderByModified(SortDirection.ASCENDING).orderByTaskId(SortDirection.ASCENDING);
+  }
+
   private List<ReferencedTask> retrieveTaskanaTasksAndConvertToReferencedTasks(
       List<TaskSummary> requestedTasks) {
 
+    List<String> taskIds =
+        requestedTasks.stream().map(TaskSummary::getId).collect(Collectors.toList());
+
     List<ReferencedTask> result = new ArrayList<>();
 
-    for (TaskSummary taskSummary : requestedTasks) {
-      try {
-        Task taskanaTask = taskService.getTask(taskSummary.getId());
-        Map<String, String> callbackInfo = taskanaTask.getCallbackInfo();
-        if (callbackInfo != null
-            && callbackInfo.get(REFERENCED_TASK_ID) != null
-            && callbackInfo.get(SYSTEM_URL) != null) {
-          result.add(taskInformationMapper.convertToReferencedTask(taskanaTask));
-        }
-      } catch (TaskNotFoundException | NotAuthorizedOnWorkbasketException e) {
-        LOGGER.error("Caught {} when trying to retrieve requested taskana tasks.", e, e);
+    for (Task taskanaTask :
+        taskCallbackInformationRetriever.retrieveTasksWithCallbackInformation(taskIds)) {
+      Map<String, String> callbackInfo = taskanaTask.getCallbackInfo();
+      if (callbackInfo != null
+          && callbackInfo.get(REFERENCED_TASK_ID) != null
+          && callbackInfo.get(SYSTEM_URL) != null) {
+        result.add(taskInformationMapper.convertToReferencedTask(taskanaTask));
       }
     }
 
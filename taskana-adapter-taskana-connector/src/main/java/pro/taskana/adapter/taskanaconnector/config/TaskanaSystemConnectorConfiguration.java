@@ -15,6 +15,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
 import org.springframework.context.annotation.Scope;
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
 import pro.taskana.TaskanaConfiguration;
 import pro.taskana.classification.api.ClassificationService;
 import pro.taskana.common.api.TaskanaEngine;
@@ -74,7 +75,10 @@ public class TaskanaSystemConnectorConfiguration {
       @Qualifier("taskanaDataSource") DataSource taskanaDataSource,
       @Qualifier("taskanaPropertiesFileName") String propertiesFileName,
       @Qualifier("taskanaPropertiesDelimiter") String delimiter) {
-    return new TaskanaConfiguration.Builder(taskanaDataSource, true, taskanaSchemaName, true)
+    // the proxy lets TASKANA use the connection of the transaction that the TaskanaConnector opens
+    // per chunk of created tasks; outside of such a transaction it behaves like the data source
+    return new TaskanaConfiguration.Builder(
+            new TransactionAwareDataSourceProxy(taskanaDataSource), true, taskanaSchemaName, true)
         .initTaskanaProperties(propertiesFileName, delimiter)
         .build();
   }
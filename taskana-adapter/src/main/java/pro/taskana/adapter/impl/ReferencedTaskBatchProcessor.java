@@ -0,0 +1,160 @@
+package pro.taskana.adapter.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pro.taskana.adapter.systemconnector.api.ReferencedTask;
+import pro.taskana.adapter.systemconnector.api.SystemConnector;
+import pro.taskana.adapter.systemconnector.api.SystemResponse;
+import pro.taskana.common.api.exceptions.SystemException;
+
+/**
+ * Hands ReferencedTasks to their SystemConnectors as one batch per external system instead of one
+ * call per task, so that a SystemConnector can process a whole batch with a single request. If the
+ * ReferencedTaskFanOut is enabled, the batch of each external system is split into chunks that
+ * are processed concurrently.
+ */
+final class ReferencedTaskBatchProcessor {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReferencedTaskBatchProcessor.class);
+
+  private ReferencedTaskBatchProcessor() {}
+
+  /**
+   * Processes the ReferencedTasks with the SystemConnectors of their external systems.
+   *
+   * @param systemConnectors the SystemConnectors by the URL of their external system
+   * @param referencedTasks the ReferencedTasks to process
+   * @param action the batch call of a SystemConnector that processes the ReferencedTasks
+   * @param actionName the name of the action to log failures with, e.g. "complete"
+   * @return the ReferencedTasks that were processed successfully
+   */
+  static List<ReferencedTask> process(
+      Map<String, SystemConnector> systemConnectors,
+      List<ReferencedTask> referencedTasks,
+      BiFunction<SystemConnector, List<ReferencedTask>, List<SystemResponse>> action,
+      String actionName) {
+    return process(systemConnectors, referencedTasks, action, actionName, null);
+  }
+
+  /**
+   * Processes the ReferencedTasks with the SystemConnectors of their external systems, fanned out
+   * if the ReferencedTaskFanOut is enabled.
+   *
+   * @param systemConnectors the SystemConnectors by the URL of their external system
+   * @param referencedTasks the ReferencedTasks to process
+   * @param action the batch call of a SystemConnector that processes the ReferencedTasks
+   * @param actionName the name of the action to log failures with, e.g. "complete"
+   * @param fanOut the fan-out to process the chunks of the batches with, or null
+   * @return the ReferencedTasks that were processed successfully
+   */
+  static List<ReferencedTask> process(
+      Map<String, SystemConnector> systemConnectors,
+      List<ReferencedTask> referencedTasks,
+      BiFunction<SystemConnector, List<ReferencedTask>, List<SystemResponse>> action,
+      String actionName,
+      ReferencedTaskFanOut fanOut) {
+
+    Map<String, List<ReferencedTask>> referencedTasksBySystemUrl = new LinkedHashMap<>();
+    for (ReferencedTask referencedTask : referencedTasks) {
+      referencedTasksBySystemUrl
+          .computeIfAbsent(referencedTask.getSystemUrl(), systemUrl -> new ArrayList<>())
+          .add(referencedTask);
+    }
+
+    List<ReferencedTask> processedReferencedTasks = new ArrayList<>();
+    if (fanOut == null || !fanOut.isEnabled()) {
+      referencedTasksBySystemUrl.forEach(
+          (systemUrl, batch) -> {
+            SystemConnector connector = systemConnectors.get(systemUrl);
+            processedReferencedTasks.addAll(
+                processBatch(connector, systemUrl, batch, action, actionName));
+          });
+      return processedReferencedTasks;
+    }
+
+    // all chunks are submitted before the first one is awaited, so that all systems are busy
+    List<Future<List<ReferencedTask>>> processedChunks = new ArrayList<>();
+    referencedTasksBySystemUrl.forEach(
+        (systemUrl, batch) -> {
+          SystemConnector connector = systemConnectors.get(systemUrl);
+          for (List<ReferencedTask> chunk : fanOut.split(batch)) {
+            processedChunks.add(
+                fanOut.submit(
+                    systemUrl,
+                    () -> processBatch(connector, systemUrl, chunk, action, actionName)));
+          }
+        });
+
+    for (Future<List<ReferencedTask>> processedChunk : processedChunks) {
+      processedReferencedTasks.addAll(await(processedChunk, actionName));
+    }
+    return processedReferencedTasks;
+  }
+
+  private static List<ReferencedTask> processBatch(
+      SystemConnector connector,
+      String systemUrl,
+      List<ReferencedTask> batch,
+      BiFunction<SystemConnector, List<ReferencedTask>, List<SystemResponse>> action,
+      String actionName) {
+
+    List<ReferencedTask> processedReferencedTasks = new ArrayList<>();
+    try {
+      if (connector == null) {
+        throw new SystemException("couldnt find a connector for systemUrl " + systemUrl);
+      }
+
+      List<SystemResponse> responses = action.apply(connector, batch);
+      if (responses == null || responses.size() != batch.size()) {
+        throw new SystemException(
+            String.format(
+                "connector for systemUrl %s answered %d referenced tasks with %s responses",
+                systemUrl, batch.size(), responses == null ? null : responses.size()));
+      }
+
+      for (int i = 0; i < batch.size(); i++) {
+        SystemResponse response = responses.get(i);
+        if (response.isSuccessful()) {
+          processedReferencedTasks.add(batch.get(i));
+        } else {
+          LOGGER.error(
+              "Caught status {} when attempting to {} referenced task {}",
+              response.getStatusCode(),
+              actionName,
+              batch.get(i),
+              response.getThrowable());
+        }
+      }
+    } catch (Exception ex) {
+      LOGGER.error(
+          "Caught exception when attempting to {} {} referenced tasks of systemUrl {}",
+          actionName,
+          batch.size(),
+          systemUrl,
+          ex);
+    }
+    return processedReferencedTasks;
+  }
+
+  private static List<ReferencedTask> await(
+      Future<List<ReferencedTask>> processedChunk, String actionName) {
+    try {
+      return processedChunk.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      LOGGER.error(
+          "Caught exception when attempting to {} a chunk of referenced tasks",
+          actionName,
+          e.getCause());
+    }
+    return new ArrayList<>();
+  }
+}
@@ -1,6 +1,5 @@
 package pro.taskana.adapter.impl;
 
-import java.util.ArrayList;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,7 +11,7 @@ import pro.taskana.adapter.manager.AdapterManager;
 import pro.taskana.adapter.systemconnector.api.ReferencedTask;
 import pro.taskana.adapter.systemconnector.api.SystemConnector;
 import pro.taskana.adapter.taskanaconnector.api.TaskanaConnector;
-import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.adapter.taskanaconnector.api.TaskanaTaskCursor;
 import pro.taskana.task.api.CallbackState;
 
 /**
@@ -27,6 +26,7 @@ public class ReferencedTaskClaimCanceler {
   protected String runAsUser;
 
   @Autowired AdapterManager adapterManager;
+  @Autowired ReferencedTaskFanOut referencedTaskFanOut;
 
   @Scheduled(
       fixedRateString =
@@ -59,13 +59,16 @@ public class ReferencedTaskClaimCanceler {
     try {
       TaskanaConnector taskanaSystemConnector = adapterManager.getTaskanaConnector();
 
-      List<ReferencedTask> tasksCancelClaimedByTaskana =
-          taskanaSystemConnector.retrieveCancelledClaimTaskanaTasksAsReferencedTasks();
-      List<ReferencedTask> tasksCancelClaimedInExternalSystem =
-          cancelClaimReferencedTasksInExternalSystem(tasksCancelClaimedByTaskana);
+      TaskanaTaskCursor cursor = new TaskanaTaskCursor();
+      while (!cursor.isExhausted()) {
+        List<ReferencedTask> tasksCancelClaimedByTaskana =
+            taskanaSystemConnector.retrieveCancelledClaimTaskanaTasksAsReferencedTasks(cursor);
+        List<ReferencedTask> tasksCancelClaimedInExternalSystem =
+            cancelClaimReferencedTasksInExternalSystem(tasksCancelClaimedByTaskana);
 
-      taskanaSystemConnector.changeTaskCallbackState(
-          tasksCancelClaimedInExternalSystem, CallbackState.CALLBACK_PROCESSING_REQUIRED);
+        taskanaSystemConnector.changeTaskCallbackState(
+            tasksCancelClaimedInExternalSystem, CallbackState.CALLBACK_PROCESSING_REQUIRED);
+      }
     } finally {
       LOGGER.trace(
           "ReferencedTaskClaimer."
@@ -76,41 +79,11 @@ public class ReferencedTaskClaimCanceler {
 
   private List<ReferencedTask> cancelClaimReferencedTasksInExternalSystem(
       List<ReferencedTask> tasksUnclaimedByTaskana) {
-
-    List<ReferencedTask> tasksCancelClaimedInExternalSystem = new ArrayList<>();
-    for (ReferencedTask referencedTaskToCancelClaim : tasksUnclaimedByTaskana) {
-      if (cancelClaimReferencedTask(referencedTaskToCancelClaim)) {
-        tasksCancelClaimedInExternalSystem.add(referencedTaskToCancelClaim);
-      }
-    }
-    return tasksCancelClaimedInExternalSystem;
-  }
-
-  private boolean cancelClaimReferencedTask(ReferencedTask referencedTask) {
-
-    LOGGER.trace(
-        "ENTRY to ReferencedTaskClaimer.cancelClaimReferencedTask, TaskId = {} ",
-        referencedTask.getId());
-    boolean success = false;
-    try {
-      SystemConnector connector =
-          adapterManager.getSystemConnectors().get(referencedTask.getSystemUrl());
-      if (connector != null) {
-        connector.cancelClaimReferencedTask(referencedTask);
-        success = true;
-      } else {
-        throw new SystemException(
-            "couldnt find a connector for systemUrl " + referencedTask.getSystemUrl());
-      }
-    } catch (Exception ex) {
-      LOGGER.error(
-          "Caught {} when attempting to cancel the claim for a referenced task {}",
-          ex,
-          referencedTask);
-    }
-    LOGGER.trace(
-        "Exit from ReferencedTaskClaimerCanceller.cancelClaimReferencedTask, Success = {} ",
-        success);
-    return success;
+    return ReferencedTaskBatchProcessor.process(
+        adapterManager.getSystemConnectors(),
+        tasksUnclaimedByTaskana,
+        SystemConnector::cancelClaimReferencedTasks,
+        "cancel the claim of",
+        referencedTaskFanOut);
   }
 }
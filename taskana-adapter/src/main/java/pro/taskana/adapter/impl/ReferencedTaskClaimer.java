@@ -1,6 +1,5 @@
 package pro.taskana.adapter.impl;
 
-import java.util.ArrayList;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,7 +11,7 @@ import pro.taskana.adapter.manager.AdapterManager;
 import pro.taskana.adapter.systemconnector.api.ReferencedTask;
 import pro.taskana.adapter.systemconnector.api.SystemConnector;
 import pro.taskana.adapter.taskanaconnector.api.TaskanaConnector;
-import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.adapter.taskanaconnector.api.TaskanaTaskCursor;
 import pro.taskana.task.api.CallbackState;
 
 /** Claims ReferencedTasks in external system that have been claimed in TASKANA. */
@@ -25,6 +24,7 @@ public class ReferencedTaskClaimer {
   protected String runAsUser;
 
   @Autowired AdapterManager adapterManager;
+  @Autowired ReferencedTaskFanOut referencedTaskFanOut;
 
   @Scheduled(
       fixedRateString =
@@ -60,13 +60,16 @@ public class ReferencedTaskClaimer {
     try {
       TaskanaConnector taskanaSystemConnector = adapterManager.getTaskanaConnector();
 
-      List<ReferencedTask> tasksClaimedByTaskana =
-          taskanaSystemConnector.retrieveClaimedTaskanaTasksAsReferencedTasks();
-      List<ReferencedTask> tasksClaimedInExternalSystem =
-          claimReferencedTasksInExternalSystem(tasksClaimedByTaskana);
+      TaskanaTaskCursor cursor = new TaskanaTaskCursor();
+      while (!cursor.isExhausted()) {
+        List<ReferencedTask> tasksClaimedByTaskana =
+            taskanaSystemConnector.retrieveClaimedTaskanaTasksAsReferencedTasks(cursor);
+        List<ReferencedTask> tasksClaimedInExternalSystem =
+            claimReferencedTasksInExternalSystem(tasksClaimedByTaskana);
 
-      taskanaSystemConnector.changeTaskCallbackState(
-          tasksClaimedInExternalSystem, CallbackState.CLAIMED);
+        taskanaSystemConnector.changeTaskCallbackState(
+            tasksClaimedInExternalSystem, CallbackState.CLAIMED);
+      }
     } finally {
       LOGGER.trace(
           "ReferencedTaskClaimer."
@@ -76,34 +79,11 @@ public class ReferencedTaskClaimer {
 
   private List<ReferencedTask> claimReferencedTasksInExternalSystem(
       List<ReferencedTask> tasksClaimedByTaskana) {
-
-    List<ReferencedTask> tasksClaimedInExternalSystem = new ArrayList<>();
-    for (ReferencedTask referencedTask : tasksClaimedByTaskana) {
-      if (claimReferencedTask(referencedTask)) {
-        tasksClaimedInExternalSystem.add(referencedTask);
-      }
-    }
-    return tasksClaimedInExternalSystem;
-  }
-
-  private boolean claimReferencedTask(ReferencedTask referencedTask) {
-    LOGGER.trace(
-        "ENTRY to ReferencedTaskClaimer.claimReferencedTask, TaskId = {} ", referencedTask.getId());
-    boolean success = false;
-    try {
-      SystemConnector connector =
-          adapterManager.getSystemConnectors().get(referencedTask.getSystemUrl());
-      if (connector != null) {
-        connector.claimReferencedTask(referencedTask);
-        success = true;
-      } else {
-        throw new SystemException(
-            "couldnt find a connector for systemUrl " + referencedTask.getSystemUrl());
-      }
-    } catch (Exception ex) {
-      LOGGER.error("Caught {} when attempting to claim referenced task {}", ex, referencedTask);
-    }
-    LOGGER.trace("Exit from ReferencedTaskClaimer.claimReferencedTask, Success = {} ", success);
-    return success;
+    return ReferencedTaskBatchProcessor.process(
+        adapterManager.getSystemConnectors(),
+        tasksClaimedByTaskana,
+        SystemConnector::claimReferencedTasks,
+        "claim",
+        referencedTaskFanOut);
   }
 }
@@ -1,6 +1,5 @@
 package pro.taskana.adapter.impl;
 
-import java.util.ArrayList;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,7 +11,7 @@ import pro.taskana.adapter.manager.AdapterManager;
 import pro.taskana.adapter.systemconnector.api.ReferencedTask;
 import pro.taskana.adapter.systemconnector.api.SystemConnector;
 import pro.taskana.adapter.taskanaconnector.api.TaskanaConnector;
-import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.adapter.taskanaconnector.api.TaskanaTaskCursor;
 import pro.taskana.task.api.CallbackState;
 
 /**
@@ -27,6 +26,7 @@ public class ReferencedTaskCompleter {
   protected String runAsUser;
 
   @Autowired AdapterManager adapterManager;
+  @Autowired ReferencedTaskFanOut referencedTaskFanOut;
 
   @Scheduled(
       fixedRateString =
@@ -61,13 +61,16 @@ public class ReferencedTaskCompleter {
     try {
       TaskanaConnector taskanaSystemConnector = adapterManager.getTaskanaConnector();
 
-      List<ReferencedTask> tasksCompletedByTaskana =
-          taskanaSystemConnector.retrieveFinishedTaskanaTasksAsReferencedTasks();
-      List<ReferencedTask> tasksCompletedInExternalSystem =
-          completeReferencedTasksInExternalSystem(tasksCompletedByTaskana);
+      TaskanaTaskCursor cursor = new TaskanaTaskCursor();
+      while (!cursor.isExhausted()) {
+        List<ReferencedTask> tasksCompletedByTaskana =
+            taskanaSystemConnector.retrieveFinishedTaskanaTasksAsReferencedTasks(cursor);
+        List<ReferencedTask> tasksCompletedInExternalSystem =
+            completeReferencedTasksInExternalSystem(tasksCompletedByTaskana);
 
-      taskanaSystemConnector.changeTaskCallbackState(
-          tasksCompletedInExternalSystem, CallbackState.CALLBACK_PROCESSING_COMPLETED);
+        taskanaSystemConnector.changeTaskCallbackState(
+            tasksCompletedInExternalSystem, CallbackState.CALLBACK_PROCESSING_COMPLETED);
+      }
     } finally {
       LOGGER.trace(
           "ReferencedTaskCompleter."
@@ -75,38 +78,13 @@ public class ReferencedTaskCompleter {
     }
   }
 
-  public boolean completeReferencedTask(ReferencedTask referencedTask) {
-    LOGGER.trace(
-        "ENTRY to ReferencedTaskCompleter.completeReferencedTask, TaskId = {} ",
-        referencedTask.getId());
-    boolean success = false;
-    try {
-      SystemConnector connector =
-          adapterManager.getSystemConnectors().get(referencedTask.getSystemUrl());
-      if (connector != null) {
-        connector.completeReferencedTask(referencedTask);
-        success = true;
-      } else {
-        throw new SystemException(
-            "couldnt find a connector for systemUrl " + referencedTask.getSystemUrl());
-      }
-    } catch (Exception ex) {
-      LOGGER.error(
-          "Caught exception when attempting to complete referenced task {}", referencedTask, ex);
-    }
-    LOGGER.trace(
-        "Exit from ReferencedTaskCompleter.completeReferencedTask, Success = {} ", success);
-    return success;
-  }
-
   private List<ReferencedTask> completeReferencedTasksInExternalSystem(
       List<ReferencedTask> tasksCompletedByTaskana) {
-    List<ReferencedTask> tasksCompletedInExternalSystem = new ArrayList<>();
-    for (ReferencedTask referencedTask : tasksCompletedByTaskana) {
-      if (completeReferencedTask(referencedTask)) {
-        tasksCompletedInExternalSystem.add(referencedTask);
-      }
-    }
-    return tasksCompletedInExternalSystem;
+    return ReferencedTaskBatchProcessor.process(
+        adapterManager.getSystemConnectors(),
+        tasksCompletedByTaskana,
+        SystemConnector::completeReferencedTasks,
+        "complete",
+        referencedTaskFanOut);
   }
 }
@@ -0,0 +1,175 @@
+package pro.taskana.adapter.impl;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import pro.taskana.adapter.systemconnector.api.ReferencedTask;
+
+/**
+ * Fans the per-task work of a scheduler cycle out onto virtual threads if enabled, so that the
+ * latencies of the requests to the external systems overlap instead of adding up. The work in
+ * progress for one external system is limited by a lane per system, which all schedulers share.
+ * Further work waits in the queue of its lane without occupying a thread. Virtual threads require
+ * Java 21. On an older runtime the work runs on a cached pool of platform threads, which the lanes
+ * bound as well.
+ */
+@Component
+public class ReferencedTaskFanOut {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReferencedTaskFanOut.class);
+
+  private final int maxConcurrentRequestsPerSystem;
+  private final ExecutorService executor;
+  private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+  public ReferencedTaskFanOut(
+      @Value("${taskana.adapter.scheduler.virtual.threads.enabled:false}")
+          boolean virtualThreadsEnabled,
+      @Value("${taskana.adapter.scheduler.max.concurrent.requests.per.system:10}")
+          int maxConcurrentRequestsPerSystem) {
+    this.maxConcurrentRequestsPerSystem = Math.max(1, maxConcurrentRequestsPerSystem);
+    this.executor = virtualThreadsEnabled ? createExecutor() : null;
+  }
+
+  public boolean isEnabled() {
+    return executor != null;
+  }
+
+  /**
+   * Splits the ReferencedTasks of an external system into as many chunks as may be processed
+   * concurrently, keeping their order.
+   *
+   * @param referencedTasks the ReferencedTasks of one external system
+   * @return the chunks, none of them empty
+   */
+  public List<List<ReferencedTask>> split(List<ReferencedTask> referencedTasks) {
+    int chunkCount = Math.min(referencedTasks.size(), maxConcurrentRequestsPerSystem);
+    List<List<ReferencedTask>> chunks = new ArrayList<>(chunkCount);
+    for (int i = 0; i < chunkCount; i++) {
+      int from = referencedTasks.size() * i / chunkCount;
+      int to = referencedTasks.size() * (i + 1) / chunkCount;
+      chunks.add(referencedTasks.subList(from, to));
+    }
+    return chunks;
+  }
+
+  /**
+   * Submits work for an external system. It starts as soon as the lane of the system has room for
+   * it.
+   *
+   * @param <T> the type of the result
+   * @param systemUrl the URL of the external system the work sends its requests to
+   * @param work the work to do
+   * @return the future result of the work
+   */
+  public <T> Future<T> submit(String systemUrl, Callable<T> work) {
+    Work<T> submittedWork = new Work<>(work);
+    lanes.computeIfAbsent(systemUrl, url -> new Lane()).submit(submittedWork);
+    return submittedWork;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  // limits the work in progress for one external system, finished work starts the next waiting one
+  private class Lane {
+
+    private final Queue<Work<?>> waitingWork = new ArrayDeque<>();
+    private int workInProgress;
+
+    private void submit(Work<?> work) {
+      synchronized (this) {
+        if (workInProgress >= maxConcurrentRequestsPerSystem) {
+          waitingWork.add(work);
+          return;
+        }
+        workInProgress++;
+      }
+      start(work);
+    }
+
+    private void start(Work<?> work) {
+      Work<?> nextWork = work;
+      while (nextWork != null) {
+        Work<?> startedWork = nextWork;
+        try {
+          executor.execute(
+              () -> {
+                try {
+                  startedWork.run();
+                } finally {
+                  release();
+                }
+              });
+          return;
+        } catch (RejectedExecutionException e) {
+          // the executor was shut down, so the waiting work fails as well
+          startedWork.reject(e);
+          nextWork = pollOrRelease();
+        }
+      }
+    }
+
+    private void release() {
+      Work<?> nextWork = pollOrRelease();
+      if (nextWork != null) {
+        start(nextWork);
+      }
+    }
+
+    private synchronized Work<?> pollOrRelease() {
+      Work<?> nextWork = waitingWork.poll();
+      if (nextWork == null) {
+        workInProgress--;
+      }
+      return nextWork;
+    }
+  }
+
+  private static class Work<T> extends FutureTask<T> {
+
+    private Work(Callable<T> callable) {
+      super(callable);
+    }
+
+    private void reject(RejectedExecutionException e) {
+      setException(e);
+    }
+  }
+
+  // looked up reflectively, since the adapter is built for Java 17
+  private static ExecutorService createExecutor() {
+    try {
+      ExecutorService virtualThreadExecutor =
+          (ExecutorService)
+              Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+      LOGGER.info("Fanning the work of the schedulers out onto virtual threads");
+      return virtualThreadExecutor;
+    } catch (ReflectiveOperationException e) {
+      LOGGER.info(
+          "Virtual threads require Java 21, fanning the work of the schedulers out "
+              + "onto a cached thread pool instead");
+      return Executors.newCachedThreadPool(
+          new CustomizableThreadFactory("taskana-referenced-task-"));
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package pro.taskana.adapter.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the progress of the task start cycles of a single SystemConnector. The lag of a
+ * SystemConnector is the time that passed since the start of its last completed cycle, i.e. every
+ * task that was started in the external system afterwards has not been picked up yet.
+ */
+public class SystemConnectorStatistics {
+
+  private final String systemUrl;
+  private final AtomicBoolean cycleInProgress = new AtomicBoolean(false);
+  private final AtomicLong skippedCycles = new AtomicLong();
+  private final AtomicLong failedCycles = new AtomicLong();
+
+  private volatile Instant currentCycleStarted;
+  private volatile Instant lastCompletedCycleStarted;
+  private volatile Instant lastCompletedCycleFinished;
+  private volatile int referencedTasksRetrievedInLastCycle;
+
+  SystemConnectorStatistics(String systemUrl) {
+    this.systemUrl = systemUrl;
+  }
+
+  public String getSystemUrl() {
+    return systemUrl;
+  }
+
+  public boolean isCycleInProgress() {
+    return cycleInProgress.get();
+  }
+
+  public Instant getCurrentCycleStarted() {
+    return currentCycleStarted;
+  }
+
+  public Instant getLastCompletedCycleStarted() {
+    return lastCompletedCycleStarted;
+  }
+
+  public Instant getLastCompletedCycleFinished() {
+    return lastCompletedCycleFinished;
+  }
+
+  public Duration getLastCompletedCycleDuration() {
+    Instant started = lastCompletedCycleStarted;
+    Instant finished = lastCompletedCycleFinished;
+    if (started == null || finished == null) {
+      return null;
+    }
+    return Duration.between(started, finished);
+  }
+
+  public int getReferencedTasksRetrievedInLastCycle() {
+    return referencedTasksRetrievedInLastCycle;
+  }
+
+  public long getSkippedCycles() {
+    return skippedCycles.get();
+  }
+
+  public long getFailedCycles() {
+    return failedCycles.get();
+  }
+
+  /**
+   * Returns the lag of the SystemConnector.
+   *
+   * @param now the point in time the lag is computed for
+   * @return the time since the start of the last completed cycle or null if no cycle completed yet
+   */
+  public Duration getLag(Instant now) {
+    Instant started = lastCompletedCycleStarted;
+    return started == null ? null : Duration.between(started, now);
+  }
+
+  boolean tryStartCycle(Instant started) {
+    if (!cycleInProgress.compareAndSet(false, true)) {
+      skippedCycles.incrementAndGet();
+      return false;
+    }
+    currentCycleStarted = started;
+    return true;
+  }
+
+  void completeCycle(Instant finished, int referencedTasksRetrieved) {
+    lastCompletedCycleStarted = currentCycleStarted;
+    lastCompletedCycleFinished = finished;
+    referencedTasksRetrievedInLastCycle = referencedTasksRetrieved;
+    endCycle();
+  }
+
+  // the next cycle follows right away, so the cycle stays in progress and can't be scheduled twice
+  void completeCycleAndStartNext(Instant finished, int referencedTasksRetrieved) {
+    lastCompletedCycleStarted = currentCycleStarted;
+    lastCompletedCycleFinished = finished;
+    referencedTasksRetrievedInLastCycle = referencedTasksRetrieved;
+    currentCycleStarted = finished;
+  }
+
+  void failCycle() {
+    failedCycles.incrementAndGet();
+    endCycle();
+  }
+
+  private void endCycle() {
+    currentCycleStarted = null;
+    cycleInProgress.set(false);
+  }
+
+  @Override
+  public String toString() {
+    return "SystemConnectorStatistics [systemUrl="
+        + systemUrl
+        + ", cycleInProgress="
+        + cycleInProgress
+        + ", currentCycleStarted="
+        + currentCycleStarted
+        + ", lastCompletedCycleStarted="
+        + lastCompletedCycleStarted
+        + ", lastCompletedCycleFinished="
+        + lastCompletedCycleFinished
+        + ", referencedTasksRetrievedInLastCycle="
+        + referencedTasksRetrievedInLastCycle
+        + ", skippedCycles="
+        + skippedCycles
+        + ", failedCycles="
+        + failedCycles
+        + "]";
+  }
+}
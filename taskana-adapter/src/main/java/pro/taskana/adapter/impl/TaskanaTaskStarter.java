@@ -1,22 +1,41 @@
 package pro.taskana.adapter.impl;
 
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
-import pro.taskana.adapter.exceptions.TaskCreationFailedException;
 import pro.taskana.adapter.manager.AdapterManager;
 import pro.taskana.adapter.systemconnector.api.ReferencedTask;
 import pro.taskana.adapter.systemconnector.api.SystemConnector;
 import pro.taskana.adapter.taskanaconnector.api.TaskanaConnector;
-import pro.taskana.task.api.exceptions.TaskAlreadyExistException;
+import pro.taskana.adapter.taskanaconnector.api.TaskanaTaskCreationResult;
+import pro.taskana.adapter.taskanaconnector.api.TaskanaTaskCreationResult.Status;
 import pro.taskana.task.api.models.Task;
 
-/** Retrieves tasks in an external system and starts corresponding tasks in TASKANA. */
+/**
+ * Retrieves tasks in an external system and starts corresponding tasks in TASKANA. Every
+ * SystemConnector is handled in its own cycle on a worker of its own, so that a slow or hanging
+ * external system doesn't delay the task creation for the other ones. A worker has a single thread,
+ * because the cycles of one SystemConnector never overlap. The TASKANA tasks of a cycle
+ * are created with a single batch call to the TaskanaConnector. If a SystemConnector waits for new
+ * tasks, its next cycle starts right after the previous one instead of with the next interval. The
+ * lag of every SystemConnector is logged periodically.
+ */
 @Component
 public class TaskanaTaskStarter {
 
@@ -27,6 +46,19 @@ public class TaskanaTaskStarter {
 
   @Autowired AdapterManager adapterManager;
 
+  private final Map<String, SystemConnectorStatistics> systemConnectorStatistics =
+      new ConcurrentHashMap<>();
+
+  private final ThreadFactory taskStartThreadFactory =
+      new CustomizableThreadFactory("taskana-task-starter-");
+  private final Map<String, ExecutorService> taskStartWorkers = new ConcurrentHashMap<>();
+
+  @PreDestroy
+  public void shutdownTaskStartWorkers() {
+    taskStartWorkers.values().forEach(ExecutorService::shutdownNow);
+    taskStartWorkers.clear();
+  }
+
   @Scheduled(
       fixedRateString =
           "${taskana.adapter.scheduler.run.interval.for.start.taskana.tasks.in.milliseconds:5000}")
@@ -34,80 +66,90 @@ public class TaskanaTaskStarter {
     if (!adapterIsInitialized()) {
       return;
     }
-    synchronized (TaskanaTaskStarter.class) {
-      if (!adapterManager.isInitialized()) {
-        return;
-      }
 
-      LOGGER.debug(
-          "-retrieveNewReferencedTasksAndCreateCorrespondingTaskanaTasks started---------------");
-      try {
-        UserContext.runAsUser(
-            runAsUser,
-            () -> {
-              retrieveReferencedTasksAndCreateCorrespondingTaskanaTasks();
-              return null;
-            });
-      } catch (Exception ex) {
-        LOGGER.error(
-            "Caught exception while trying to create Taskana tasks from referenced tasks", ex);
-      }
+    LOGGER.debug(
+        "-retrieveNewReferencedTasksAndCreateCorrespondingTaskanaTasks started---------------");
+    shutdownTaskStartWorkersOfRemovedSystemConnectors();
+    for (SystemConnector systemConnector : adapterManager.getSystemConnectors().values()) {
+      scheduleTaskStartCycle(systemConnector);
     }
   }
 
+  @Scheduled(
+      fixedRateString =
+          "${taskana.adapter.scheduler.statistics.log.interval.in.milliseconds:60000}")
+  public void logSystemConnectorStatistics() {
+    Instant now = Instant.now();
+    for (SystemConnectorStatistics statistics : systemConnectorStatistics.values()) {
+      LOGGER.info(
+          "Task start cycles of System Connector {}: lag={}, lastCycleDuration={}, "
+              + "referencedTasksRetrievedInLastCycle={}, cycleInProgress={}, "
+              + "skippedCycles={}, failedCycles={}",
+          statistics.getSystemUrl(),
+          statistics.getLag(now),
+          statistics.getLastCompletedCycleDuration(),
+          statistics.getReferencedTasksRetrievedInLastCycle(),
+          statistics.isCycleInProgress(),
+          statistics.getSkippedCycles(),
+          statistics.getFailedCycles());
+    }
+  }
+
+  /**
+   * Returns the statistics of the task start cycles per SystemConnector.
+   *
+   * @return an unmodifiable view of the statistics, keyed by the system URL of the SystemConnector
+   */
+  public Map<String, SystemConnectorStatistics> getSystemConnectorStatistics() {
+    return Collections.unmodifiableMap(systemConnectorStatistics);
+  }
+
   public void retrieveReferencedTasksAndCreateCorrespondingTaskanaTasks() {
+    for (SystemConnector systemConnector : adapterManager.getSystemConnectors().values()) {
+      retrieveReferencedTasksAndCreateCorrespondingTaskanaTasks(systemConnector);
+    }
+  }
+
+  /**
+   * Retrieves the new ReferencedTasks of a single SystemConnector and creates the corresponding
+   * TASKANA tasks.
+   *
+   * @param systemConnector the SystemConnector to retrieve the ReferencedTasks from
+   * @return the number of retrieved ReferencedTasks
+   */
+  public int retrieveReferencedTasksAndCreateCorrespondingTaskanaTasks(
+      SystemConnector systemConnector) {
     LOGGER.trace(
         "TaskanaTaskStarter.retrieveReferencedTasksAndCreateCorrespondingTaskanaTasks ENTRY ");
-    for (SystemConnector systemConnector : (adapterManager.getSystemConnectors().values())) {
-      try {
+    try {
 
-        List<ReferencedTask> tasksToStart = systemConnector.retrieveNewStartedReferencedTasks();
+      List<ReferencedTask> tasksToStart = systemConnector.retrieveNewStartedReferencedTasks();
 
-        List<ReferencedTask> newCreatedTasksInTaskana =
-            createAndStartTaskanaTasks(systemConnector, tasksToStart);
+      List<ReferencedTask> newCreatedTasksInTaskana =
+          createAndStartTaskanaTasks(systemConnector, tasksToStart);
 
-        systemConnector.taskanaTasksHaveBeenCreatedForNewReferencedTasks(newCreatedTasksInTaskana);
-      } finally {
-        if (LOGGER.isTraceEnabled()) {
-          LOGGER.trace(
-              String.format(
-                  "TaskanaTaskStarter.retrieveReferencedTasksAndCreateCorrespondingTaskanaTasks "
-                      + "Leaving handling of new tasks for System Connector %s",
-                  systemConnector.getSystemUrl()));
-        }
+      systemConnector.taskanaTasksHaveBeenCreatedForNewReferencedTasks(newCreatedTasksInTaskana);
+      return tasksToStart.size();
+    } finally {
+      if (LOGGER.isTraceEnabled()) {
+        LOGGER.trace(
+            String.format(
+                "TaskanaTaskStarter.retrieveReferencedTasksAndCreateCorrespondingTaskanaTasks "
+                    + "Leaving handling of new tasks for System Connector %s",
+                systemConnector.getSystemUrl()));
       }
     }
   }
 
-  public void createTaskanaTask(
-      ReferencedTask referencedTask, TaskanaConnector connector, SystemConnector systemConnector)
-      throws TaskCreationFailedException {
-    LOGGER.trace("TaskanaTaskStarter.createTaskanaTask ENTRY ");
-    referencedTask.setSystemUrl(systemConnector.getSystemUrl());
-    addVariablesToReferencedTask(referencedTask, systemConnector);
-    Task taskanaTask = connector.convertToTaskanaTask(referencedTask);
-    connector.createTaskanaTask(taskanaTask);
-
-    LOGGER.trace("TaskanaTaskStarter.createTaskanaTask EXIT ");
-  }
-
   private List<ReferencedTask> createAndStartTaskanaTasks(
       SystemConnector systemConnector, List<ReferencedTask> tasksToStart) {
-    List<ReferencedTask> newCreatedTasksInTaskana = new ArrayList<>();
+    TaskanaConnector taskanaConnector = adapterManager.getTaskanaConnector();
+    List<ReferencedTask> convertedReferencedTasks = new ArrayList<>();
+    List<Task> taskanaTasks = new ArrayList<>();
     for (ReferencedTask referencedTask : tasksToStart) {
       try {
-        createTaskanaTask(referencedTask, adapterManager.getTaskanaConnector(), systemConnector);
-        newCreatedTasksInTaskana.add(referencedTask);
-      } catch (TaskCreationFailedException e) {
-        if (e.getCause() instanceof TaskAlreadyExistException) {
-          newCreatedTasksInTaskana.add(referencedTask);
-        } else {
-          LOGGER.warn(
-              "caught Exception when attempting to start TaskanaTask for referencedTask {}",
-              referencedTask,
-              e);
-          systemConnector.taskanaTaskFailedToBeCreatedForNewReferencedTask(referencedTask, e);
-        }
+        taskanaTasks.add(convertToTaskanaTask(referencedTask, taskanaConnector, systemConnector));
+        convertedReferencedTasks.add(referencedTask);
       } catch (Exception e) {
         LOGGER.warn(
             "caught unexpected Exception when attempting to start TaskanaTask "
@@ -117,9 +159,147 @@ public class TaskanaTaskStarter {
         systemConnector.taskanaTaskFailedToBeCreatedForNewReferencedTask(referencedTask, e);
       }
     }
+
+    List<ReferencedTask> newCreatedTasksInTaskana = new ArrayList<>();
+    if (taskanaTasks.isEmpty()) {
+      return newCreatedTasksInTaskana;
+    }
+
+    List<TaskanaTaskCreationResult> creationResults;
+    try {
+      creationResults = taskanaConnector.createTaskanaTasks(taskanaTasks);
+    } catch (Exception e) {
+      LOGGER.warn(
+          "caught unexpected Exception when attempting to start {} TaskanaTasks",
+          taskanaTasks.size(),
+          e);
+      for (ReferencedTask referencedTask : convertedReferencedTasks) {
+        systemConnector.taskanaTaskFailedToBeCreatedForNewReferencedTask(referencedTask, e);
+      }
+      return newCreatedTasksInTaskana;
+    }
+
+    for (int i = 0; i < convertedReferencedTasks.size(); i++) {
+      ReferencedTask referencedTask = convertedReferencedTasks.get(i);
+      TaskanaTaskCreationResult creationResult = creationResults.get(i);
+      if (Status.FAILED == creationResult.getStatus()) {
+        LOGGER.warn(
+            "caught Exception when attempting to start TaskanaTask for referencedTask {}",
+            referencedTask,
+            creationResult.getError());
+        systemConnector.taskanaTaskFailedToBeCreatedForNewReferencedTask(
+            referencedTask, creationResult.getError());
+      } else {
+        newCreatedTasksInTaskana.add(referencedTask);
+      }
+    }
     return newCreatedTasksInTaskana;
   }
 
+  private Task convertToTaskanaTask(
+      ReferencedTask referencedTask, TaskanaConnector connector, SystemConnector systemConnector) {
+    referencedTask.setSystemUrl(systemConnector.getSystemUrl());
+    addVariablesToReferencedTask(referencedTask, systemConnector);
+    return connector.convertToTaskanaTask(referencedTask);
+  }
+
+  private void scheduleTaskStartCycle(SystemConnector systemConnector) {
+    SystemConnectorStatistics statistics =
+        systemConnectorStatistics.computeIfAbsent(
+            systemConnector.getSystemUrl(), SystemConnectorStatistics::new);
+
+    // the cycles of a waiting SystemConnector follow each other on its worker, the scheduler only
+    // restarts them once they stopped
+    boolean waitsForNewTasks = !systemConnector.getMaxWaitForNewReferencedTasks().isZero();
+    if (waitsForNewTasks && statistics.isCycleInProgress()) {
+      return;
+    }
+
+    Instant now = Instant.now();
+    if (!statistics.tryStartCycle(now)) {
+      LOGGER.warn(
+          "Skipping task start cycle for System Connector {}, "
+              + "because its previous cycle started at {} is still running. Current lag is {}",
+          systemConnector.getSystemUrl(),
+          statistics.getCurrentCycleStarted(),
+          statistics.getLag(now));
+      return;
+    }
+
+    try {
+      taskStartWorkers
+          .computeIfAbsent(
+              systemConnector.getSystemUrl(),
+              systemUrl -> Executors.newSingleThreadExecutor(taskStartThreadFactory))
+          .execute(() -> runTaskStartCycles(systemConnector, statistics));
+    } catch (RejectedExecutionException e) {
+      LOGGER.warn(
+          "Could not schedule task start cycle for System Connector {}",
+          systemConnector.getSystemUrl(),
+          e);
+      statistics.failCycle();
+    }
+  }
+
+  // a hanging cycle of a removed SystemConnector is interrupted, its statistics are dropped
+  private void shutdownTaskStartWorkersOfRemovedSystemConnectors() {
+    Map<String, SystemConnector> systemConnectors = adapterManager.getSystemConnectors();
+    taskStartWorkers
+        .entrySet()
+        .removeIf(
+            entry -> {
+              if (systemConnectors.containsKey(entry.getKey())) {
+                return false;
+              }
+              entry.getValue().shutdownNow();
+              systemConnectorStatistics.remove(entry.getKey());
+              return true;
+            });
+  }
+
+  // the cycles of a waiting SystemConnector follow each other in place on its worker
+  private void runTaskStartCycles(
+      SystemConnector systemConnector, SystemConnectorStatistics statistics) {
+    try {
+      while (true) {
+        Instant started = statistics.getCurrentCycleStarted();
+        int referencedTasksRetrieved =
+            UserContext.runAsUser(
+                runAsUser,
+                () -> retrieveReferencedTasksAndCreateCorrespondingTaskanaTasks(systemConnector));
+        Instant finished = Instant.now();
+        if (!shouldContinueImmediately(
+            systemConnector, Duration.between(started, finished), referencedTasksRetrieved)) {
+          statistics.completeCycle(finished, referencedTasksRetrieved);
+          return;
+        }
+        statistics.completeCycleAndStartNext(finished, referencedTasksRetrieved);
+      }
+    } catch (Exception ex) {
+      statistics.failCycle();
+      LOGGER.error(
+          "Caught exception while trying to create Taskana tasks from referenced tasks "
+              + "of System Connector {}",
+          systemConnector.getSystemUrl(),
+          ex);
+    }
+  }
+
+  // a cycle without tasks that returned early didn't wait, e.g. because the external system
+  // failed. It is left to the scheduler to retry it, so a failing system isn't polled in a loop.
+  // The cycles of a SystemConnector that was removed or whose worker was shut down end as well
+  private boolean shouldContinueImmediately(
+      SystemConnector systemConnector, Duration cycleDuration, int referencedTasksRetrieved) {
+
+    Duration maxWait = systemConnector.getMaxWaitForNewReferencedTasks();
+    if (maxWait.isZero()
+        || Thread.currentThread().isInterrupted()
+        || !adapterManager.getSystemConnectors().containsValue(systemConnector)) {
+      return false;
+    }
+    return referencedTasksRetrieved > 0 || cycleDuration.compareTo(maxWait.dividedBy(2)) >= 0;
+  }
+
   private void addVariablesToReferencedTask(
       ReferencedTask referencedTask, SystemConnector connector) {
     if (referencedTask.getVariables() == null) {
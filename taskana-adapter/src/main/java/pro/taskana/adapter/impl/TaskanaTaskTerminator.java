@@ -1,12 +1,23 @@
 package pro.taskana.adapter.impl;
 
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import pro.taskana.adapter.exceptions.TaskTerminationFailedException;
 import pro.taskana.adapter.manager.AdapterManager;
@@ -14,7 +25,11 @@ import pro.taskana.adapter.systemconnector.api.ReferencedTask;
 import pro.taskana.adapter.systemconnector.api.SystemConnector;
 import pro.taskana.adapter.taskanaconnector.api.TaskanaConnector;
 
-/** Terminates TASKANA tasks if the associated task in the external system was finished. */
+/**
+ * Terminates TASKANA tasks if the associated task in the external system was finished. If a
+ * SystemConnector waits for finished tasks, its cycles run back to back on a worker of its own
+ * instead of once per interval, like the task start cycles of the TaskanaTaskStarter.
+ */
 @Component
 public class TaskanaTaskTerminator {
 
@@ -25,6 +40,17 @@ public class TaskanaTaskTerminator {
 
   @Autowired AdapterManager adapterManager;
 
+  private final ThreadFactory taskTerminationThreadFactory =
+      new CustomizableThreadFactory("taskana-task-terminator-");
+  private final Map<String, ExecutorService> taskTerminationWorkers = new ConcurrentHashMap<>();
+  private final Set<String> systemConnectorsWithCyclesInProgress = ConcurrentHashMap.newKeySet();
+
+  @PreDestroy
+  public void shutdownTaskTerminationWorkers() {
+    taskTerminationWorkers.values().forEach(ExecutorService::shutdownNow);
+    taskTerminationWorkers.clear();
+  }
+
   @Scheduled(
       fixedRateString =
           "${taskana.adapter.scheduler.run.interval.for.check.finished.referenced.tasks."
@@ -48,14 +74,17 @@ public class TaskanaTaskTerminator {
 
       try {
 
+        shutdownTaskTerminationWorkersOfRemovedSystemConnectors();
         for (SystemConnector systemConnector : (adapterManager.getSystemConnectors().values())) {
-          UserContext.runAsUser(
-              runAsUser,
-              () -> {
-                retrieveFinishededReferencedTasksAndTerminateCorrespondingTaskanaTasks(
-                    systemConnector);
-                return null;
-              });
+          if (systemConnector.getMaxWaitForFinishedReferencedTasks().isZero()) {
+            UserContext.runAsUser(
+                runAsUser,
+                () ->
+                    retrieveFinishededReferencedTasksAndTerminateCorrespondingTaskanaTasks(
+                        systemConnector));
+          } else {
+            startTaskTerminationCycles(systemConnector);
+          }
         }
       } catch (Exception e) {
         LOGGER.warn(
@@ -66,7 +95,14 @@ public class TaskanaTaskTerminator {
     }
   }
 
-  public void retrieveFinishededReferencedTasksAndTerminateCorrespondingTaskanaTasks(
+  /**
+   * Retrieves the finished ReferencedTasks of a single SystemConnector and terminates the
+   * corresponding TASKANA tasks.
+   *
+   * @param systemConnector the SystemConnector to retrieve the ReferencedTasks from
+   * @return the number of retrieved ReferencedTasks
+   */
+  public int retrieveFinishededReferencedTasksAndTerminateCorrespondingTaskanaTasks(
       SystemConnector systemConnector) {
     LOGGER.trace(
         "TaskanaTaskTerminator."
@@ -91,6 +127,7 @@ public class TaskanaTaskTerminator {
       }
       systemConnector.taskanaTasksHaveBeenTerminatedForFinishedReferencedTasks(
           taskanaTasksToTerminate);
+      return taskanaTasksToTerminate.size();
 
     } finally {
       LOGGER.trace(
@@ -99,6 +136,82 @@ public class TaskanaTaskTerminator {
     }
   }
 
+  private void startTaskTerminationCycles(SystemConnector systemConnector) {
+    // the scheduler only restarts the cycles of a waiting SystemConnector once they stopped
+    if (!systemConnectorsWithCyclesInProgress.add(systemConnector.getSystemUrl())) {
+      return;
+    }
+
+    try {
+      taskTerminationWorkers
+          .computeIfAbsent(
+              systemConnector.getSystemUrl(),
+              systemUrl -> Executors.newSingleThreadExecutor(taskTerminationThreadFactory))
+          .execute(() -> runTaskTerminationCycles(systemConnector));
+    } catch (RejectedExecutionException e) {
+      LOGGER.warn(
+          "Could not schedule task termination cycle for System Connector {}",
+          systemConnector.getSystemUrl(),
+          e);
+      systemConnectorsWithCyclesInProgress.remove(systemConnector.getSystemUrl());
+    }
+  }
+
+  // a hanging cycle of a removed SystemConnector is interrupted
+  private void shutdownTaskTerminationWorkersOfRemovedSystemConnectors() {
+    Map<String, SystemConnector> systemConnectors = adapterManager.getSystemConnectors();
+    taskTerminationWorkers
+        .entrySet()
+        .removeIf(
+            entry -> {
+              if (systemConnectors.containsKey(entry.getKey())) {
+                return false;
+              }
+              entry.getValue().shutdownNow();
+              return true;
+            });
+  }
+
+  private void runTaskTerminationCycles(SystemConnector systemConnector) {
+    try {
+      while (true) {
+        Instant started = Instant.now();
+        int referencedTasksRetrieved =
+            UserContext.runAsUser(
+                runAsUser,
+                () ->
+                    retrieveFinishededReferencedTasksAndTerminateCorrespondingTaskanaTasks(
+                        systemConnector));
+        if (!shouldContinueImmediately(
+            systemConnector, Duration.between(started, Instant.now()), referencedTasksRetrieved)) {
+          return;
+        }
+      }
+    } catch (Exception e) {
+      LOGGER.warn(
+          "caught exception while trying to retrieve finished referenced tasks "
+              + "and terminate corresponding taskana tasks of System Connector {}",
+          systemConnector.getSystemUrl(),
+          e);
+    } finally {
+      systemConnectorsWithCyclesInProgress.remove(systemConnector.getSystemUrl());
+    }
+  }
+
+  // the same rule as for the task start cycles: a cycle without tasks that returned early didn't
+  // wait, so it is left to the scheduler to retry it
+  private boolean shouldContinueImmediately(
+      SystemConnector systemConnector, Duration cycleDuration, int referencedTasksRetrieved) {
+
+    Duration maxWait = systemConnector.getMaxWaitForFinishedReferencedTasks();
+    if (maxWait.isZero()
+        || Thread.currentThread().isInterrupted()
+        || !adapterManager.getSystemConnectors().containsValue(systemConnector)) {
+      return false;
+    }
+    return referencedTasksRetrieved > 0 || cycleDuration.compareTo(maxWait.dividedBy(2)) >= 0;
+  }
+
   private void terminateTaskanaTask(ReferencedTask referencedTask)
       throws TaskTerminationFailedException {
     LOGGER.trace("TaskanaTaskTerminator.terminateTaskanaTask ENTRY ");
@@ -1,6 +1,10 @@
 package pro.taskana.adapter.systemconnector.api;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
+import org.springframework.http.HttpStatus;
 
 /** This is the interface, a System Connector has to implement. */
 public interface SystemConnector {
@@ -12,6 +16,17 @@ public interface SystemConnector {
    */
   List<ReferencedTask> retrieveNewStartedReferencedTasks();
 
+  /**
+   * Get the time the retrieval of new ReferencedTasks waits for new tasks if there are none yet.
+   * The Adapter retrieves the new ReferencedTasks of a SystemConnector that waits again right after
+   * each retrieval instead of once per polling interval.
+   *
+   * @return the maximum time to wait, zero if the retrieval returns immediately
+   */
+  default Duration getMaxWaitForNewReferencedTasks() {
+    return Duration.ZERO;
+  }
+
   /**
    * With this call the Adapter notifies the SystemConnector that a list of TASKANA tasks has been
    * created. Depending on the Implementation of the SystemConnector, it may ignore this call.
@@ -27,6 +42,17 @@ public interface SystemConnector {
    */
   List<ReferencedTask> retrieveFinishedReferencedTasks();
 
+  /**
+   * Get the time the retrieval of finished ReferencedTasks waits for finished tasks if there are
+   * none yet. The Adapter retrieves the finished ReferencedTasks of a SystemConnector that waits
+   * again right after each retrieval instead of once per polling interval.
+   *
+   * @return the maximum time to wait, zero if the retrieval returns immediately
+   */
+  default Duration getMaxWaitForFinishedReferencedTasks() {
+    return Duration.ZERO;
+  }
+
   /**
    * With this call the Adapter notifies the SystemConnector that a list of TASKANA tasks has been
    * terminated. The rationale for this action is that ReferencedTasks in the external system were
@@ -69,6 +95,45 @@ public interface SystemConnector {
    */
   SystemResponse cancelClaimReferencedTask(ReferencedTask task);
 
+  /**
+   * Instruct the external system to complete a list of tasks. A SystemConnector that can complete
+   * several tasks with one request should override this method, the default completes the tasks
+   * one by one. A task counts as completed if its call returns without an exception.
+   *
+   * @param tasks the tasks to be completed.
+   * @return the responses from the external system in the order of the tasks. A task that could
+   *     not be completed gets a response with the cause of the failure.
+   */
+  default List<SystemResponse> completeReferencedTasks(List<ReferencedTask> tasks) {
+    return processOneByOne(tasks, this::completeReferencedTask);
+  }
+
+  /**
+   * Instruct the external system to claim a list of tasks. A SystemConnector that can claim several
+   * tasks with one request should override this method, the default claims the tasks one by one.
+   * A task counts as claimed if its call returns without an exception.
+   *
+   * @param tasks the tasks to be claimed.
+   * @return the responses from the external system in the order of the tasks. A task that could
+   *     not be claimed gets a response with the cause of the failure.
+   */
+  default List<SystemResponse> claimReferencedTasks(List<ReferencedTask> tasks) {
+    return processOneByOne(tasks, this::claimReferencedTask);
+  }
+
+  /**
+   * Instruct the external system to cancel the claims on a list of tasks. A SystemConnector that
+   * can cancel several claims with one request should override this method, the default cancels
+   * the claims one by one. A claim counts as cancelled if its call returns without an exception.
+   *
+   * @param tasks the tasks to cancel the claim on.
+   * @return the responses from the external system in the order of the tasks. A task whose claim
+   *     could not be cancelled gets a response with the cause of the failure.
+   */
+  default List<SystemResponse> cancelClaimReferencedTasks(List<ReferencedTask> tasks) {
+    return processOneByOne(tasks, this::cancelClaimReferencedTask);
+  }
+
   /**
    * Get the URL of the external system this connector connects to.
    *
@@ -91,4 +156,19 @@ public interface SystemConnector {
    * @param e exception
    */
   void taskanaTaskFailedToBeCreatedForNewReferencedTask(ReferencedTask referencedTask, Exception e);
+
+  private static List<SystemResponse> processOneByOne(
+      List<ReferencedTask> tasks, Function<ReferencedTask, SystemResponse> action) {
+    List<SystemResponse> responses = new ArrayList<>(tasks.size());
+    for (ReferencedTask task : tasks) {
+      try {
+        action.apply(task);
+        // the adapter never evaluated the responses of single calls, so it doesn't start now
+        responses.add(new SystemResponse(HttpStatus.OK, null));
+      } catch (Exception e) {
+        responses.add(new SystemResponse(HttpStatus.INTERNAL_SERVER_ERROR, e));
+      }
+    }
+    return responses;
+  }
 }
@@ -28,4 +28,8 @@ public class SystemResponse {
   public Throwable getThrowable() {
     return throwable;
   }
+
+  public boolean isSuccessful() {
+    return throwable == null && statusCode != null && statusCode.is2xxSuccessful();
+  }
 }
@@ -17,6 +17,15 @@ public interface TaskanaConnector {
    */
   List<ReferencedTask> retrieveFinishedTaskanaTasksAsReferencedTasks();
 
+  /**
+   * retrieve the next page of finished TASKANA tasks. The page starts behind the position of the
+   * given cursor and the cursor is moved behind the retrieved tasks.
+   *
+   * @param cursor the position to continue from. It is marked as exhausted after the last page.
+   * @return a list of at most one page of finished TASKANA tasks
+   */
+  List<ReferencedTask> retrieveFinishedTaskanaTasksAsReferencedTasks(TaskanaTaskCursor cursor);
+
   /**
    * retrieve claimed TASKANA tasks.
    *
@@ -24,6 +33,15 @@ public interface TaskanaConnector {
    */
   List<ReferencedTask> retrieveClaimedTaskanaTasksAsReferencedTasks();
 
+  /**
+   * retrieve the next page of claimed TASKANA tasks. The page starts behind the position of the
+   * given cursor and the cursor is moved behind the retrieved tasks.
+   *
+   * @param cursor the position to continue from. It is marked as exhausted after the last page.
+   * @return a list of at most one page of claimed TASKANA tasks
+   */
+  List<ReferencedTask> retrieveClaimedTaskanaTasksAsReferencedTasks(TaskanaTaskCursor cursor);
+
   /**
    * retrieve cancelled claim TASKANA tasks.
    *
@@ -31,6 +49,16 @@ public interface TaskanaConnector {
    */
   List<ReferencedTask> retrieveCancelledClaimTaskanaTasksAsReferencedTasks();
 
+  /**
+   * retrieve the next page of cancelled claim TASKANA tasks. The page starts behind the position of
+   * the given cursor and the cursor is moved behind the retrieved tasks.
+   *
+   * @param cursor the position to continue from. It is marked as exhausted after the last page.
+   * @return a list of at most one page of cancelled claim TASKANA tasks
+   */
+  List<ReferencedTask> retrieveCancelledClaimTaskanaTasksAsReferencedTasks(
+      TaskanaTaskCursor cursor);
+
   /**
    * With this call the Adapter notifies the TaskanaConnector that the CallbackState of a list of
    * ReferencedTasks needs to be modified due to completion or claim of tasks of TASKANA Tasks.
@@ -51,6 +79,15 @@ public interface TaskanaConnector {
    */
   void createTaskanaTask(Task taskanaTask) throws TaskCreationFailedException;
 
+  /**
+   * create a list of tasks in TASKANA on behalf of external tasks. The tasks are created in chunks
+   * and the failure to create one task doesn't prevent the creation of the other ones.
+   *
+   * @param taskanaTasks The TASKANA tasks to be created.
+   * @return the outcome for each of the given tasks, in the same order as the given tasks.
+   */
+  List<TaskanaTaskCreationResult> createTaskanaTasks(List<Task> taskanaTasks);
+
   /**
    * Convert a ReferencedTask to a TASKANA task.
    *
@@ -0,0 +1,66 @@
+package pro.taskana.adapter.taskanaconnector.api;
+
+import pro.taskana.adapter.exceptions.TaskCreationFailedException;
+import pro.taskana.task.api.models.Task;
+
+/** encapsulate the outcome of the attempt to create a single TASKANA task within a batch. */
+public class TaskanaTaskCreationResult {
+
+  private final Task task;
+  private final Status status;
+  private final TaskCreationFailedException error;
+
+  private TaskanaTaskCreationResult(
+      Task task, Status status, TaskCreationFailedException error) {
+    this.task = task;
+    this.status = status;
+    this.error = error;
+  }
+
+  public static TaskanaTaskCreationResult created(Task task) {
+    return new TaskanaTaskCreationResult(task, Status.CREATED, null);
+  }
+
+  public static TaskanaTaskCreationResult alreadyExists(Task task) {
+    return new TaskanaTaskCreationResult(task, Status.ALREADY_EXISTS, null);
+  }
+
+  public static TaskanaTaskCreationResult failed(Task task, TaskCreationFailedException error) {
+    return new TaskanaTaskCreationResult(task, Status.FAILED, error);
+  }
+
+  public Task getTask() {
+    return task;
+  }
+
+  public Status getStatus() {
+    return status;
+  }
+
+  /**
+   * Returns the reason why the TASKANA task could not be created.
+   *
+   * @return the error or null if the status is not {@link Status#FAILED}
+   */
+  public TaskCreationFailedException getError() {
+    return error;
+  }
+
+  @Override
+  public String toString() {
+    return "TaskanaTaskCreationResult [externalId="
+        + (task == null ? null : task.getExternalId())
+        + ", status="
+        + status
+        + ", error="
+        + error
+        + "]";
+  }
+
+  /** The possible outcomes of the attempt to create a TASKANA task. */
+  public enum Status {
+    CREATED,
+    ALREADY_EXISTS,
+    FAILED
+  }
+}
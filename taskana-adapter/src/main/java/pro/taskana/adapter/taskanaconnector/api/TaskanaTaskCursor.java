@@ -0,0 +1,55 @@
+package pro.taskana.adapter.taskanaconnector.api;
+
+import java.time.Instant;
+
+/**
+ * Keeps track of the position within the TASKANA tasks that must process their callback, so that
+ * they can be retrieved page by page. The position is the compound key of the modification
+ * timestamp and the id of the last retrieved task, i.e. the next page starts with the tasks that
+ * were modified later or at the same time with a greater id. Tasks whose callback could not be
+ * processed are therefore not retrieved again within the same run.
+ */
+public class TaskanaTaskCursor {
+
+  private Instant lastModified;
+  private String lastTaskId;
+  private boolean exhausted;
+
+  public Instant getLastModified() {
+    return lastModified;
+  }
+
+  public String getLastTaskId() {
+    return lastTaskId;
+  }
+
+  public boolean isExhausted() {
+    return exhausted;
+  }
+
+  /**
+   * Moves the cursor behind a retrieved task.
+   *
+   * @param modified the modification timestamp of the retrieved task
+   * @param taskId the id of the retrieved task
+   */
+  public void moveBehind(Instant modified, String taskId) {
+    lastModified = modified;
+    lastTaskId = taskId;
+  }
+
+  public void markExhausted() {
+    exhausted = true;
+  }
+
+  @Override
+  public String toString() {
+    return "TaskanaTaskCursor [lastModified="
+        + lastModified
+        + ", lastTaskId="
+        + lastTaskId
+        + ", exhausted="
+        + exhausted
+        + "]";
+  }
+}
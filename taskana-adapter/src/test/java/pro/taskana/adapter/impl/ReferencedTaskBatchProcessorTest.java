@@ -0,0 +1,172 @@
+package pro.taskana.adapter.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import pro.taskana.adapter.systemconnector.api.ReferencedTask;
+import pro.taskana.adapter.systemconnector.api.SystemConnector;
+import pro.taskana.adapter.systemconnector.api.SystemResponse;
+
+class ReferencedTaskBatchProcessorTest {
+
+  private static final String SYSTEM_URL_1 = "http://camunda1";
+  private static final String SYSTEM_URL_2 = "http://camunda2";
+
+  @Test
+  void should_CallEachSystemConnectorOnce_When_TasksBelongToSeveralSystems() {
+    SystemConnector connector1 = mock(SystemConnector.class);
+    SystemConnector connector2 = mock(SystemConnector.class);
+    ReferencedTask task1 = createReferencedTask("1", SYSTEM_URL_1);
+    ReferencedTask task2 = createReferencedTask("2", SYSTEM_URL_2);
+    ReferencedTask task3 = createReferencedTask("3", SYSTEM_URL_1);
+    when(connector1.completeReferencedTasks(anyList()))
+        .thenReturn(Arrays.asList(successfulResponse(), successfulResponse()));
+    when(connector2.completeReferencedTasks(anyList()))
+        .thenReturn(Collections.singletonList(successfulResponse()));
+
+    List<ReferencedTask> completedTasks =
+        ReferencedTaskBatchProcessor.process(
+            createSystemConnectors(connector1, connector2),
+            Arrays.asList(task1, task2, task3),
+            SystemConnector::completeReferencedTasks,
+            "complete");
+
+    assertThat(completedTasks).containsExactly(task1, task3, task2);
+    verify(connector1).completeReferencedTasks(Arrays.asList(task1, task3));
+    verify(connector2).completeReferencedTasks(Collections.singletonList(task2));
+  }
+
+  @Test
+  void should_ReturnOnlySuccessfulTasks_When_SomeTasksOfBatchFailed() {
+    SystemConnector connector1 = mock(SystemConnector.class);
+    ReferencedTask task1 = createReferencedTask("1", SYSTEM_URL_1);
+    ReferencedTask task2 = createReferencedTask("2", SYSTEM_URL_1);
+    when(connector1.claimReferencedTasks(anyList()))
+        .thenReturn(
+            Arrays.asList(
+                new SystemResponse(HttpStatus.INTERNAL_SERVER_ERROR, new RuntimeException()),
+                successfulResponse()));
+
+    List<ReferencedTask> claimedTasks =
+        ReferencedTaskBatchProcessor.process(
+            createSystemConnectors(connector1, null),
+            Arrays.asList(task1, task2),
+            SystemConnector::claimReferencedTasks,
+            "claim");
+
+    assertThat(claimedTasks).containsExactly(task2);
+  }
+
+  @Test
+  void should_SkipBatch_When_SystemConnectorIsMissingOrFails() {
+    SystemConnector connector1 = mock(SystemConnector.class);
+    ReferencedTask task1 = createReferencedTask("1", SYSTEM_URL_1);
+    ReferencedTask task2 = createReferencedTask("2", SYSTEM_URL_2);
+    when(connector1.cancelClaimReferencedTasks(anyList()))
+        .thenThrow(new IllegalStateException("connection refused"));
+
+    List<ReferencedTask> cancelledTasks =
+        ReferencedTaskBatchProcessor.process(
+            createSystemConnectors(connector1, null),
+            Arrays.asList(task1, task2),
+            SystemConnector::cancelClaimReferencedTasks,
+            "cancel the claim of");
+
+    assertThat(cancelledTasks).isEmpty();
+  }
+
+  @Test
+  void should_ProcessChunksOfEachSystemConcurrently_When_FanOutIsEnabled() {
+    SystemConnector connector1 = mock(SystemConnector.class);
+    SystemConnector connector2 = mock(SystemConnector.class);
+    ReferencedTask task1 = createReferencedTask("1", SYSTEM_URL_1);
+    ReferencedTask task2 = createReferencedTask("2", SYSTEM_URL_2);
+    ReferencedTask task3 = createReferencedTask("3", SYSTEM_URL_1);
+    ReferencedTask task4 = createReferencedTask("4", SYSTEM_URL_1);
+    when(connector1.completeReferencedTasks(anyList()))
+        .thenAnswer(
+            invocation ->
+                Collections.nCopies(
+                    invocation.<List<?>>getArgument(0).size(), successfulResponse()));
+    when(connector2.completeReferencedTasks(anyList()))
+        .thenReturn(Collections.singletonList(successfulResponse()));
+    ReferencedTaskFanOut fanOut = new ReferencedTaskFanOut(true, 2);
+
+    try {
+      List<ReferencedTask> completedTasks =
+          ReferencedTaskBatchProcessor.process(
+              createSystemConnectors(connector1, connector2),
+              Arrays.asList(task1, task2, task3, task4),
+              SystemConnector::completeReferencedTasks,
+              "complete",
+              fanOut);
+
+      assertThat(completedTasks).containsExactly(task1, task3, task4, task2);
+      verify(connector1).completeReferencedTasks(Collections.singletonList(task1));
+      verify(connector1).completeReferencedTasks(Arrays.asList(task3, task4));
+      verify(connector2).completeReferencedTasks(Collections.singletonList(task2));
+    } finally {
+      fanOut.shutdown();
+    }
+  }
+
+  @Test
+  void should_CountCallsWithoutException_When_SystemConnectorCompletesTasksOneByOne() {
+    SystemConnector connector1 =
+        mock(SystemConnector.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
+    ReferencedTask task1 = createReferencedTask("1", SYSTEM_URL_1);
+    ReferencedTask task2 = createReferencedTask("2", SYSTEM_URL_1);
+    ReferencedTask task3 = createReferencedTask("3", SYSTEM_URL_1);
+    doReturn(null).when(connector1).completeReferencedTask(task1);
+    doReturn(new SystemResponse(HttpStatus.CONFLICT, null))
+        .when(connector1)
+        .completeReferencedTask(task2);
+    doThrow(new IllegalStateException("connection refused"))
+        .when(connector1)
+        .completeReferencedTask(task3);
+
+    List<ReferencedTask> completedTasks =
+        ReferencedTaskBatchProcessor.process(
+            createSystemConnectors(connector1, null),
+            Arrays.asList(task1, task2, task3),
+            SystemConnector::completeReferencedTasks,
+            "complete");
+
+    assertThat(completedTasks).containsExactly(task1, task2);
+  }
+
+  private static Map<String, SystemConnector> createSystemConnectors(
+      SystemConnector connector1, SystemConnector connector2) {
+    Map<String, SystemConnector> systemConnectors = new HashMap<>();
+    systemConnectors.put(SYSTEM_URL_1, connector1);
+    if (connector2 != null) {
+      systemConnectors.put(SYSTEM_URL_2, connector2);
+    }
+    return systemConnectors;
+  }
+
+  private static ReferencedTask createReferencedTask(String id, String systemUrl) {
+    ReferencedTask referencedTask = new ReferencedTask();
+    referencedTask.setId(id);
+    referencedTask.setSystemUrl(systemUrl);
+    return referencedTask;
+  }
+
+  private static SystemResponse successfulResponse() {
+    return new SystemResponse(HttpStatus.NO_CONTENT, null);
+  }
+}
@@ -0,0 +1,70 @@
+package pro.taskana.adapter.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class ReferencedTaskFanOutTest {
+
+  private static final String SYSTEM_URL_1 = "http://camunda1";
+  private static final String SYSTEM_URL_2 = "http://camunda2";
+
+  @Test
+  void should_StartWaitingWork_When_WorkInProgressOfSameSystemFinished() throws Exception {
+    ReferencedTaskFanOut fanOut = new ReferencedTaskFanOut(true, 1);
+    CountDownLatch firstWorkStarted = new CountDownLatch(1);
+    CountDownLatch firstWorkReleased = new CountDownLatch(1);
+    AtomicBoolean secondWorkStarted = new AtomicBoolean();
+
+    try {
+      final Future<String> firstWork =
+          fanOut.submit(
+              SYSTEM_URL_1,
+              () -> {
+                firstWorkStarted.countDown();
+                firstWorkReleased.await();
+                return "first";
+              });
+      assertThat(firstWorkStarted.await(5, TimeUnit.SECONDS)).isTrue();
+      final Future<String> secondWork =
+          fanOut.submit(
+              SYSTEM_URL_1,
+              () -> {
+                secondWorkStarted.set(true);
+                return "second";
+              });
+
+      // the lane of the other system has room, while the second work waits for the first one
+      assertThat(fanOut.submit(SYSTEM_URL_2, () -> "other").get(5, TimeUnit.SECONDS))
+          .isEqualTo("other");
+      assertThat(secondWorkStarted).isFalse();
+
+      firstWorkReleased.countDown();
+
+      assertThat(firstWork.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+      assertThat(secondWork.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+    } finally {
+      firstWorkReleased.countDown();
+      fanOut.shutdown();
+    }
+  }
+
+  @Test
+  void should_FailWork_When_FanOutIsShutDown() {
+    ReferencedTaskFanOut fanOut = new ReferencedTaskFanOut(true, 1);
+    fanOut.shutdown();
+
+    Future<String> work = fanOut.submit(SYSTEM_URL_1, () -> "work");
+
+    assertThatThrownBy(() -> work.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(RejectedExecutionException.class);
+  }
+}
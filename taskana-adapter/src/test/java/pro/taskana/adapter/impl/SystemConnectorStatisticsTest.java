@@ -0,0 +1,67 @@
+package pro.taskana.adapter.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class SystemConnectorStatisticsTest {
+
+  private static final Instant NOW = Instant.parse("2024-01-01T12:00:00Z");
+
+  @Test
+  void should_SkipCycle_When_PreviousCycleIsStillInProgress() {
+    SystemConnectorStatistics statistics = new SystemConnectorStatistics("http://camunda");
+
+    assertThat(statistics.tryStartCycle(NOW)).isTrue();
+    assertThat(statistics.tryStartCycle(NOW.plusSeconds(5))).isFalse();
+
+    assertThat(statistics.isCycleInProgress()).isTrue();
+    assertThat(statistics.getCurrentCycleStarted()).isEqualTo(NOW);
+    assertThat(statistics.getSkippedCycles()).isEqualTo(1);
+  }
+
+  @Test
+  void should_ComputeLagFromStartOfLastCompletedCycle_When_CycleWasCompleted() {
+    SystemConnectorStatistics statistics = new SystemConnectorStatistics("http://camunda");
+    assertThat(statistics.getLag(NOW)).isNull();
+
+    statistics.tryStartCycle(NOW);
+    statistics.completeCycle(NOW.plusSeconds(2), 7);
+
+    assertThat(statistics.isCycleInProgress()).isFalse();
+    assertThat(statistics.getReferencedTasksRetrievedInLastCycle()).isEqualTo(7);
+    assertThat(statistics.getLastCompletedCycleDuration()).isEqualTo(Duration.ofSeconds(2));
+    assertThat(statistics.getLag(NOW.plusSeconds(10))).isEqualTo(Duration.ofSeconds(10));
+  }
+
+  @Test
+  void should_KeepCycleInProgress_When_NextCycleStartsRightAway() {
+    SystemConnectorStatistics statistics = new SystemConnectorStatistics("http://camunda");
+    statistics.tryStartCycle(NOW);
+
+    statistics.completeCycleAndStartNext(NOW.plusSeconds(2), 4);
+
+    assertThat(statistics.isCycleInProgress()).isTrue();
+    assertThat(statistics.getCurrentCycleStarted()).isEqualTo(NOW.plusSeconds(2));
+    assertThat(statistics.getReferencedTasksRetrievedInLastCycle()).isEqualTo(4);
+    assertThat(statistics.getLastCompletedCycleDuration()).isEqualTo(Duration.ofSeconds(2));
+    assertThat(statistics.tryStartCycle(NOW.plusSeconds(3))).isFalse();
+  }
+
+  @Test
+  void should_KeepLastCompletedCycle_When_CycleFailed() {
+    SystemConnectorStatistics statistics = new SystemConnectorStatistics("http://camunda");
+    statistics.tryStartCycle(NOW);
+    statistics.completeCycle(NOW.plusSeconds(1), 3);
+
+    statistics.tryStartCycle(NOW.plusSeconds(5));
+    statistics.failCycle();
+
+    assertThat(statistics.isCycleInProgress()).isFalse();
+    assertThat(statistics.getFailedCycles()).isEqualTo(1);
+    assertThat(statistics.getLastCompletedCycleStarted()).isEqualTo(NOW);
+    assertThat(statistics.tryStartCycle(NOW.plusSeconds(10))).isTrue();
+  }
+}
@@ -18,4 +18,11 @@ class SystemResponseTest {
     assertThat(new SystemResponse(HttpStatusCode.valueOf(200), null).getStatusCode())
         .isEqualTo(HttpStatus.OK);
   }
+
+  @Test
+  void should_NotBeSuccessful_When_SystemResponseHasThrowable() {
+    assertThat(new SystemResponse(HttpStatus.OK, null).isSuccessful()).isTrue();
+    assertThat(new SystemResponse(HttpStatus.OK, new RuntimeException()).isSuccessful()).isFalse();
+    assertThat(new SystemResponse(HttpStatus.NOT_FOUND, null).isSuccessful()).isFalse();
+  }
 }
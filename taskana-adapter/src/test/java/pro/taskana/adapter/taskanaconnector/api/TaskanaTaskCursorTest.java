@@ -0,0 +1,34 @@
+package pro.taskana.adapter.taskanaconnector.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class TaskanaTaskCursorTest {
+
+  private static final Instant MODIFIED = Instant.parse("2024-01-01T12:00:00Z");
+
+  @Test
+  void should_RememberOnlyTheLastTask_When_TasksShareTheSameModificationTimestamp() {
+    TaskanaTaskCursor cursor = new TaskanaTaskCursor();
+
+    cursor.moveBehind(MODIFIED, "TKI:1");
+    cursor.moveBehind(MODIFIED, "TKI:2");
+
+    assertThat(cursor.getLastModified()).isEqualTo(MODIFIED);
+    assertThat(cursor.getLastTaskId()).isEqualTo("TKI:2");
+  }
+
+  @Test
+  void should_MoveToNewerTimestamp_When_MovingBehindNewerTask() {
+    TaskanaTaskCursor cursor = new TaskanaTaskCursor();
+
+    cursor.moveBehind(MODIFIED, "TKI:2");
+    cursor.moveBehind(MODIFIED.plusMillis(1), "TKI:1");
+
+    assertThat(cursor.getLastModified()).isEqualTo(MODIFIED.plusMillis(1));
+    assertThat(cursor.getLastTaskId()).isEqualTo("TKI:1");
+    assertThat(cursor.isExhausted()).isFalse();
+  }
+}